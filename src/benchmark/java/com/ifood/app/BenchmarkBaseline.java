@@ -0,0 +1,177 @@
+package com.ifood.app;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checks the results of a JMH run, written with {@code -rf json}, against the stored baseline, and exits with a non-zero
+ * status if a benchmark regressed by more than the tolerance: a higher time per operation, or a lower throughput.
+ * <p>
+ * Arguments: the results file, the baseline file, the tolerance as a fraction of the baseline score, and whether to
+ * replace the baseline with the results rather than check them. Benchmarks missing from either file are reported and
+ * skipped, so that a run of some of the benchmarks only checks those. A score in another unit of time than its baseline
+ * is converted, but a benchmark run in another mode, or with a unit that cannot be converted, fails the check.
+ * <p>
+ * Scores depend on the machine they were measured on: the baseline must be regenerated, with {@code update}, on the
+ * machine that checks against it, and is not meant to be compared across machines.
+ */
+public final class BenchmarkBaseline {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Map<String, Double> SECONDS_BY_TIME_UNIT = Map.of(
+        "ns",
+        1e-9,
+        "us",
+        1e-6,
+        "ms",
+        1e-3,
+        "s",
+        1.0,
+        "min",
+        60.0,
+        "hr",
+        3600.0
+    );
+
+    private BenchmarkBaseline() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: BenchmarkBaseline <results.json> <baseline.json> <tolerance> [update]");
+            System.exit(2);
+        }
+        File resultsFile = new File(args[0]);
+        File baselineFile = new File(args[1]);
+        double tolerance = Double.parseDouble(args[2]);
+        boolean update = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        Map<String, JsonNode> results = results(OBJECT_MAPPER.readTree(resultsFile));
+        if (update) {
+            ObjectNode baseline = OBJECT_MAPPER.createObjectNode();
+            results.forEach(baseline::set);
+            OBJECT_MAPPER.writeValue(baselineFile, baseline);
+            System.out.printf("Wrote the baseline of %d benchmarks to %s%n", results.size(), baselineFile);
+            return;
+        }
+
+        JsonNode baseline = baselineFile.exists() ? OBJECT_MAPPER.readTree(baselineFile) : OBJECT_MAPPER.createObjectNode();
+        int regressions = 0;
+        int mismatches = 0;
+        for (Map.Entry<String, JsonNode> result : results.entrySet()) {
+            JsonNode expected = baseline.get(result.getKey());
+            if (expected == null) {
+                System.out.printf("[NEW]        %s: no baseline%n", result.getKey());
+                continue;
+            }
+            String mode = result.getValue().get("mode").asText();
+            String unit = result.getValue().get("unit").asText();
+            String baselineMode = expected.get("mode").asText();
+            String baselineUnit = expected.get("unit").asText();
+            double score = result.getValue().get("score").asDouble();
+            double baselineScore = convert(expected.get("score").asDouble(), baselineUnit, unit);
+            if (!mode.equals(baselineMode) || Double.isNaN(baselineScore)) {
+                mismatches++;
+                System.out.printf(
+                    "[MISMATCH]   %s: %s in %s, baseline %s in %s%n",
+                    result.getKey(),
+                    mode,
+                    unit,
+                    baselineMode,
+                    baselineUnit
+                );
+                continue;
+            }
+            boolean higherIsBetter = "thrpt".equals(mode);
+            double change = (score - baselineScore) / baselineScore;
+            boolean regressed = higherIsBetter ? change < -tolerance : change > tolerance;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(
+                "%-12s %s: %.3f %s, baseline %.3f (%+.1f%%)%n",
+                regressed ? "[REGRESSION]" : "[OK]",
+                result.getKey(),
+                score,
+                unit,
+                baselineScore,
+                change * 100
+            );
+        }
+        Iterator<String> names = baseline.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!results.containsKey(name)) {
+                System.out.printf("[SKIPPED]    %s: not run%n", name);
+            }
+        }
+        if (mismatches > 0) {
+            System.err.printf("%d benchmark(s) were not run in the mode or unit of their baseline, update it%n", mismatches);
+        }
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed by more than %.0f%% of their baseline%n", regressions, tolerance * 100);
+        }
+        if (mismatches > 0 || regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Converts a score between units of time per operation ({@code us/op}) or of operations per time ({@code ops/s}).
+     *
+     * @return the score in the unit {@code to}, or {@code NaN} if it cannot be converted from the unit {@code from}.
+     */
+    static double convert(double score, String from, String to) {
+        if (from.equals(to)) {
+            return score;
+        }
+        String[] fromParts = from.split("/");
+        String[] toParts = to.split("/");
+        if (fromParts.length != 2 || toParts.length != 2) {
+            return Double.NaN;
+        }
+        if ("op".equals(fromParts[1]) && "op".equals(toParts[1])) {
+            return ratio(fromParts[0], toParts[0]) * score;
+        }
+        if ("ops".equals(fromParts[0]) && "ops".equals(toParts[0])) {
+            return ratio(toParts[1], fromParts[1]) * score;
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * @return the number of {@code to} in a {@code from}, or {@code NaN} if either is not a unit of time.
+     */
+    private static double ratio(String from, String to) {
+        Double fromSeconds = SECONDS_BY_TIME_UNIT.get(from);
+        Double toSeconds = SECONDS_BY_TIME_UNIT.get(to);
+        return fromSeconds == null || toSeconds == null ? Double.NaN : fromSeconds / toSeconds;
+    }
+
+    /**
+     * @return the score, unit and mode of each benchmark run, by benchmark name and parameters.
+     */
+    private static Map<String, JsonNode> results(JsonNode runs) {
+        Map<String, JsonNode> results = new TreeMap<>();
+        for (JsonNode run : runs) {
+            StringBuilder name = new StringBuilder(run.get("benchmark").asText());
+            JsonNode params = run.get("params");
+            if (params != null) {
+                params.fields().forEachRemaining(param -> name.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+            }
+            ObjectNode result = OBJECT_MAPPER.createObjectNode();
+            result.put("mode", run.get("mode").asText());
+            result.put("score", run.get("primaryMetric").get("score").asDouble());
+            result.put("unit", run.get("primaryMetric").get("scoreUnit").asText());
+            results.put(name.toString(), result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ifood.app.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Transforms log messages with {@link CRLFLogConverter}, which runs on every message logged, with and without line
+ * breaks to replace, and from a logger considered safe.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CRLFLogConverterBenchmark {
+
+    private static final String CLEAN_MESSAGE = "REST request to get a page of Orders after : MjAyNC0wMS0wMVQwMDowMDowMFo7NDI=";
+
+    private static final String FORGED_MESSAGE = "REST request to get Order : 42\r\n2024-01-01 INFO Admin logged in\tfrom 127.0.0.1";
+
+    private CRLFLogConverter converter;
+
+    private LoggingEvent applicationEvent;
+
+    private LoggingEvent safeEvent;
+
+    @Setup
+    public void setup() {
+        LoggerContext loggerContext = new LoggerContext();
+        converter = new CRLFLogConverter();
+        converter.setContext(loggerContext);
+        converter.setOptionList(List.of("red"));
+        converter.start();
+        applicationEvent = event(loggerContext.getLogger("com.ifood.app.web.rest.OrderResource"));
+        safeEvent = event(loggerContext.getLogger("org.hibernate.SQL"));
+    }
+
+    private static LoggingEvent event(Logger logger) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(logger.getName());
+        event.setLevel(Level.INFO);
+        return event;
+    }
+
+    @Benchmark
+    public String cleanMessage() {
+        return converter.transform(applicationEvent, CLEAN_MESSAGE);
+    }
+
+    @Benchmark
+    public String forgedMessage() {
+        return converter.transform(applicationEvent, FORGED_MESSAGE);
+    }
+
+    @Benchmark
+    public String safeLogger() {
+        return converter.transform(safeEvent, FORGED_MESSAGE);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ifood.app.config;
+
+import com.ifood.app.management.SecurityMetersService;
+import com.ifood.app.web.rest.AuthenticateController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Encodes tokens as {@link AuthenticateController#createToken} does on login, and decodes them with the decoder of
+ * {@link SecurityJwtConfiguration#jwtDecoder}, with and without its cache of decoded tokens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityJwtConfigurationBenchmark {
+
+    private static final String JWT_KEY =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private AuthenticateController authenticateController;
+
+    private Authentication authentication;
+
+    @Setup
+    public void setup() {
+        authenticateController = new AuthenticateController(securityJwtConfiguration().jwtEncoder(), null);
+        ReflectionTestUtils.setField(authenticateController, "tokenValidityInSeconds", 86400L);
+        authentication = new UsernamePasswordAuthenticationToken(
+            "admin",
+            null,
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER"))
+        );
+    }
+
+    private static SecurityJwtConfiguration securityJwtConfiguration() {
+        SecurityJwtConfiguration securityJwtConfiguration = new SecurityJwtConfiguration();
+        ReflectionTestUtils.setField(securityJwtConfiguration, "jwtKey", JWT_KEY);
+        return securityJwtConfiguration;
+    }
+
+    /**
+     * The decoder, and a token of the benchmark to decode.
+     */
+    @State(Scope.Benchmark)
+    public static class Decoder {
+
+        @Param({ "0", "10000" })
+        private long cacheMaximumSize;
+
+        private ReactiveJwtDecoder jwtDecoder;
+
+        private String token;
+
+        @Setup
+        public void setup(SecurityJwtConfigurationBenchmark benchmark) {
+            ApplicationProperties applicationProperties = new ApplicationProperties();
+            applicationProperties.getJwt().setCacheMaximumSize(cacheMaximumSize);
+            jwtDecoder = securityJwtConfiguration().jwtDecoder(new SecurityMetersService(new SimpleMeterRegistry()), applicationProperties);
+            token = benchmark.createToken();
+        }
+    }
+
+    @Benchmark
+    public String createToken() {
+        return authenticateController.createToken(authentication, false);
+    }
+
+    @Benchmark
+    public Jwt decode(Decoder decoder) {
+        return decoder.jwtDecoder.decode(decoder.token).block();
+    }
+}
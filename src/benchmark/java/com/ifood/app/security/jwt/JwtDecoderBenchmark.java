@@ -0,0 +1,109 @@
+package com.ifood.app.security.jwt;
+
+import static com.ifood.app.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.ifood.app.security.SecurityUtils.JWT_ALGORITHM;
+
+import com.ifood.app.management.SecurityMetersService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.nimbusds.jose.util.Base64;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compares {@link HS512JwtDecoder} with the Nimbus decoder it replaced, on a valid token and on a token with a wrong
+ * signature, whose failure the Nimbus decoder could only classify from its message.
+ * Run with {@code -Djmh.args="-prof gc JwtDecoderBenchmark"} to compare allocations too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private static final String JWT_KEY =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private ReactiveJwtDecoder nimbusJwtDecoder;
+
+    private HS512JwtDecoder hs512JwtDecoder;
+
+    private String validToken;
+
+    private String invalidSignatureToken;
+
+    @Setup
+    public void setup() {
+        byte[] keyBytes = Base64.from(JWT_KEY).decode();
+        SecretKey secretKey = new SecretKeySpec(keyBytes, 0, keyBytes.length, JWT_ALGORITHM.getName());
+        nimbusJwtDecoder = NimbusReactiveJwtDecoder.withSecretKey(secretKey).macAlgorithm(JWT_ALGORITHM).build();
+        hs512JwtDecoder = new HS512JwtDecoder(secretKey, new SecurityMetersService(new SimpleMeterRegistry()));
+
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuedAt(now)
+            .expiresAt(now.plusSeconds(3600))
+            .subject("admin")
+            .claim(AUTHORITIES_KEY, List.of("ROLE_ADMIN", "ROLE_USER"))
+            .build();
+        validToken = new NimbusJwtEncoder(new ImmutableSecret<>(secretKey))
+            .encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims))
+            .getTokenValue();
+        int tampered = validToken.length() - 10;
+        invalidSignatureToken =
+            validToken.substring(0, tampered) + (validToken.charAt(tampered) == 'A' ? 'B' : 'A') + validToken.substring(tampered + 1);
+    }
+
+    @Benchmark
+    public Jwt nimbusValidToken() {
+        return nimbusJwtDecoder.decode(validToken).block();
+    }
+
+    @Benchmark
+    public Jwt hs512ValidToken() {
+        return hs512JwtDecoder.decode(validToken).block();
+    }
+
+    @Benchmark
+    public Boolean nimbusInvalidSignature() {
+        return nimbusJwtDecoder
+            .decode(invalidSignatureToken)
+            .map(jwt -> false)
+            .onErrorResume(e -> Mono.just(e.getMessage().contains("Failed to validate the token")))
+            .block();
+    }
+
+    @Benchmark
+    public Boolean hs512InvalidSignature() {
+        return hs512JwtDecoder
+            .decode(invalidSignatureToken)
+            .map(jwt -> false)
+            .onErrorResume(HS512JwtDecoder.InvalidJwtException.class, e ->
+                Mono.just(e.getFailure() == HS512JwtDecoder.Failure.INVALID_SIGNATURE)
+            )
+            .block();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ifood.app.service.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ifood.app.domain.enumeration.OrderStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serializes a page of orders and a page of dishes to JSON, with an {@link ObjectMapper} configured as the one of the
+ * application: the modules of {@link com.ifood.app.config.JacksonConfiguration} and the defaults of Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoPageSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private ObjectWriter orderPageWriter;
+
+    private ObjectWriter dishPageWriter;
+
+    private List<OrderDTO> orders;
+
+    private List<DishDTO> dishes;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new JavaTimeModule(), new Jdk8Module()).build();
+        orderPageWriter = objectMapper.writerFor(new TypeReference<List<OrderDTO>>() {});
+        dishPageWriter = objectMapper.writerFor(new TypeReference<List<DishDTO>>() {});
+
+        orders = new ArrayList<>(pageSize);
+        dishes = new ArrayList<>(pageSize);
+        Instant now = Instant.now();
+        for (long id = 1; id <= pageSize; id++) {
+            CustomerDTO customer = new CustomerDTO();
+            customer.setId(id);
+            OrderDTO order = new OrderDTO();
+            order.setId(id);
+            order.setOrderDate(now);
+            order.setStatus(OrderStatus.PENDING);
+            order.setVersion(0L);
+            order.setCustomer(customer);
+            orders.add(order);
+
+            MenuDTO menu = new MenuDTO();
+            menu.setId(id);
+            DishDTO dish = new DishDTO();
+            dish.setId(id);
+            dish.setName("Dish " + id);
+            dish.setPrice(BigDecimal.valueOf(1999, 2));
+            dish.setDescription("A dish with a description of a few words");
+            dish.setSpicyLevel(2);
+            dish.setMenu(menu);
+            dishes.add(dish);
+        }
+    }
+
+    @Benchmark
+    public byte[] orderPage() throws JsonProcessingException {
+        return orderPageWriter.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] dishPage() throws JsonProcessingException {
+        return dishPageWriter.writeValueAsBytes(dishes);
+    }
+}
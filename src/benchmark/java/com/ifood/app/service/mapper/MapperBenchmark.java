@@ -0,0 +1,108 @@
+package com.ifood.app.service.mapper;
+
+import com.ifood.app.domain.Customer;
+import com.ifood.app.domain.Dish;
+import com.ifood.app.domain.Menu;
+import com.ifood.app.domain.Order;
+import com.ifood.app.domain.User;
+import com.ifood.app.domain.enumeration.OrderStatus;
+import com.ifood.app.service.dto.AdminUserDTO;
+import com.ifood.app.service.dto.DishDTO;
+import com.ifood.app.service.dto.OrderDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps a page of orders, dishes and users with the MapStruct mappers, as the listings of their resources do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "20" })
+    private int pageSize;
+
+    private final OrderMapper orderMapper = new OrderMapperImpl();
+
+    private final DishMapper dishMapper = new DishMapperImpl();
+
+    private final UserMapper userMapper = new UserMapper();
+
+    private List<Order> orders;
+
+    private List<Dish> dishes;
+
+    private List<User> users;
+
+    private List<OrderDTO> orderDTOs;
+
+    @Setup
+    public void setup() {
+        orders = new ArrayList<>(pageSize);
+        dishes = new ArrayList<>(pageSize);
+        users = new ArrayList<>(pageSize);
+        Instant now = Instant.now();
+        for (long id = 1; id <= pageSize; id++) {
+            orders.add(new Order().id(id).orderDate(now).status(OrderStatus.PENDING).version(0L).customer(new Customer().id(id)));
+            dishes.add(
+                new Dish()
+                    .id(id)
+                    .name("Dish " + id)
+                    .price(BigDecimal.valueOf(1999, 2))
+                    .description("A dish with a description of a few words")
+                    .spicyLevel(2)
+                    .menu(new Menu().id(id))
+            );
+            User user = new User();
+            user.setId(id);
+            user.setLogin("user" + id);
+            user.setFirstName("First");
+            user.setLastName("Last");
+            user.setEmail("user" + id + "@localhost");
+            user.setActivated(true);
+            user.setLangKey("en");
+            user.setAuthorities(Set.of("ROLE_USER"));
+            users.add(user);
+        }
+        orderDTOs = orderMapper.toDto(orders);
+    }
+
+    @Benchmark
+    public List<OrderDTO> ordersToDto() {
+        return orderMapper.toDto(orders);
+    }
+
+    @Benchmark
+    public List<Order> ordersToEntity() {
+        return orderMapper.toEntity(orderDTOs);
+    }
+
+    @Benchmark
+    public List<DishDTO> dishesToDto() {
+        return dishMapper.toDto(dishes);
+    }
+
+    @Benchmark
+    public List<AdminUserDTO> usersToAdminUserDto() {
+        return userMapper.usersToAdminUserDTOs(users);
+    }
+}
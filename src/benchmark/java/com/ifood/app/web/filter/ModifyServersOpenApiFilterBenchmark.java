@@ -0,0 +1,118 @@
+package com.ifood.app.web.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+/**
+ * Rewrites the {@code servers} of an OpenAPI description of about 100 operations with
+ * {@link ModifyServersOpenApiFilter}, either a description it has not seen yet or the one it rewrote last.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModifyServersOpenApiFilterBenchmark {
+
+    private static final String PATH = "/services/catalog/catalog-1/v3/api-docs";
+
+    @Param({ "false", "true" })
+    private boolean gzip;
+
+    private final ModifyServersOpenApiFilter filter = new ModifyServersOpenApiFilter();
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+
+    private final byte[][] descriptions = new byte[2][];
+
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        descriptions[0] = encode(description("1.0.0"));
+        descriptions[1] = encode(description("1.0.1"));
+    }
+
+    private static String description(String version) {
+        StringBuilder paths = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                paths.append(',');
+            }
+            paths
+                .append("\"/api/resources-")
+                .append(i)
+                .append("/{id}\":{\"get\":{\"operationId\":\"getResource")
+                .append(i)
+                .append("\",\"parameters\":[{\"name\":\"id\",\"in\":\"path\",\"required\":true,\"schema\":{\"type\":\"integer\"}}],")
+                .append("\"responses\":{\"200\":{\"description\":\"OK\",\"content\":{\"application/json\":{\"schema\":")
+                .append("{\"$ref\":\"#/components/schemas/ResourceDTO\"}}}}}}}");
+        }
+        return (
+            "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"catalog API\",\"version\":\"" +
+            version +
+            "\"},\"servers\":[{\"url\":\"http://10.0.0.1:8081\",\"description\":\"Generated server url\"}],\"paths\":{" +
+            paths +
+            "}}"
+        );
+    }
+
+    private byte[] encode(String description) throws IOException {
+        byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+        if (!gzip) {
+            return bytes;
+        }
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(zipped)) {
+            output.write(bytes);
+        }
+        return zipped.toByteArray();
+    }
+
+    @Benchmark
+    public MockServerHttpResponse newDescription() {
+        next ^= 1;
+        return rewrite(descriptions[next]);
+    }
+
+    @Benchmark
+    public MockServerHttpResponse sameDescription() {
+        return rewrite(descriptions[0]);
+    }
+
+    private MockServerHttpResponse rewrite(byte[] description) {
+        MockServerHttpResponse response = new MockServerHttpResponse(bufferFactory);
+        if (gzip) {
+            response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        // a new exchange sets up its codecs, session and form data, which would take most of the time measured
+        ServerWebExchange exchange = this.exchange.mutate().response(response).build();
+        // the gateway writes the body of the proxied response as a Flux, which the filter only rewrites
+        filter.createModifyServersOpenApiInterceptor(PATH, exchange).writeWith(Flux.just(bufferFactory.wrap(description))).block();
+        return response;
+    }
+}
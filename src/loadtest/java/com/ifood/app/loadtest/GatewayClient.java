@@ -0,0 +1,133 @@
+package com.ifood.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifood.app.service.IdempotencyService;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.ByteBufMono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Sends JSON requests to the gateway, over a pool of connections sized for the requests in flight.
+ */
+final class GatewayClient {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final ConnectionProvider connectionProvider;
+
+    private final HttpClient httpClient;
+
+    GatewayClient(int port, int maxConnections) {
+        this.connectionProvider = ConnectionProvider.builder("loadtest")
+            .maxConnections(maxConnections)
+            // requests beyond the connections wait for one, their latency counting the wait
+            .pendingAcquireMaxCount(-1)
+            .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+            .baseUrl("http://localhost:" + port)
+            .responseTimeout(RESPONSE_TIMEOUT)
+            .headers(headers -> headers.set(HttpHeaderNames.ACCEPT, HttpHeaderValues.APPLICATION_JSON));
+    }
+
+    /**
+     * @param uri the path and query to get.
+     * @param token the bearer token of the user, or {@code null} to send the request anonymously.
+     * @return the response.
+     */
+    Mono<Response> get(String uri, String token) {
+        return httpClient
+            .headers(headers -> authorize(headers, token))
+            .get()
+            .uri(uri)
+            .responseSingle(GatewayClient::toResponse);
+    }
+
+    /**
+     * @param uri the path to post to.
+     * @param token the bearer token of the user, or {@code null} to send the request anonymously.
+     * @param body the body, serialized to JSON.
+     * @param idempotencyKey the {@code Idempotency-Key} of the request, or {@code null} to send none.
+     * @return the response.
+     */
+    Mono<Response> post(String uri, String token, Object body, String idempotencyKey) {
+        return Mono.fromCallable(() -> OBJECT_MAPPER.writeValueAsString(body)).flatMap(json ->
+            httpClient
+                .headers(headers -> {
+                    authorize(headers, token);
+                    headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+                    if (idempotencyKey != null) {
+                        headers.set(IdempotencyService.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
+                .post()
+                .uri(uri)
+                .send(ByteBufFlux.fromString(Mono.just(json)))
+                .responseSingle(GatewayClient::toResponse)
+        );
+    }
+
+    void dispose() {
+        connectionProvider.dispose();
+    }
+
+    private static Mono<Response> toResponse(HttpClientResponse response, ByteBufMono body) {
+        return body.asByteArray().defaultIfEmpty(NO_BODY).map(bytes -> new Response(response.status().code(), bytes));
+    }
+
+    private static void authorize(HttpHeaders headers, String token) {
+        if (token != null) {
+            headers.set(HttpHeaderNames.AUTHORIZATION, "Bearer " + token);
+        }
+    }
+
+    /**
+     * A response of the gateway, with its whole body.
+     */
+    static final class Response {
+
+        private final int status;
+
+        private final byte[] body;
+
+        private Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        boolean isSuccessful() {
+            return status >= 200 && status < 300;
+        }
+
+        /**
+         * @param action what the request was sent for, to report if it failed.
+         * @return the body, parsed as JSON.
+         * @throws IllegalStateException if the request failed.
+         */
+        JsonNode json(String action) {
+            if (!isSuccessful()) {
+                throw new IllegalStateException(
+                    "Could not " + action + ", got a " + status + ": " + new String(body, StandardCharsets.UTF_8)
+                );
+            }
+            try {
+                return OBJECT_MAPPER.readTree(body);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not " + action + ", got an invalid body", e);
+            }
+        }
+    }
+}
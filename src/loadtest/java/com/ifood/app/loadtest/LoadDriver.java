@@ -0,0 +1,110 @@
+package com.ifood.app.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends a weighted mix of {@link Scenario scenarios} at a constant rate, whether or not the previous requests completed.
+ * <p>
+ * Requests are due at a fixed period from the start of a run. Every {@link #TICK}, the requests that came due are sent,
+ * up to the maximum number of requests in flight, further ones waiting for a request to complete; their latency is
+ * counted from the time they were due, so that a gateway slowing down shows in the percentiles rather than in a lower
+ * rate of requests.
+ */
+final class LoadDriver {
+
+    private static final Duration TICK = Duration.ofMillis(1);
+
+    private final Traffic traffic;
+
+    private final Map<Scenario, Integer> weights;
+
+    private final Scenario[] scenarios;
+
+    private final int[] cumulativeWeights;
+
+    private final long rate;
+
+    private final int concurrency;
+
+    /**
+     * @param traffic the requests to send.
+     * @param weights the weight of each scenario in the mix.
+     * @param rate the requests sent per second.
+     * @param concurrency the maximum number of requests in flight.
+     */
+    LoadDriver(Traffic traffic, Map<Scenario, Integer> weights, long rate, int concurrency) {
+        this.traffic = traffic;
+        this.weights = weights;
+        this.scenarios = weights.keySet().toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int cumulativeWeight = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            cumulativeWeight += weights.get(scenarios[i]);
+            cumulativeWeights[i] = cumulativeWeight;
+        }
+        this.rate = rate;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Send the mix for the given time, and wait for the last requests to complete.
+     *
+     * @param duration the time during which requests are sent.
+     * @return the results of the run.
+     */
+    Mono<Results> run(Duration duration) {
+        return Mono.defer(() -> {
+            long periodNanos = Math.max(1, TimeUnit.SECONDS.toNanos(1) / rate);
+            long requests = duration.toNanos() / periodNanos;
+            Results results = new Results(weights.keySet(), rate);
+            AtomicLong sent = new AtomicLong();
+            long start = System.nanoTime();
+            return Flux.interval(TICK)
+                .takeWhile(tick -> sent.get() < requests)
+                .flatMapIterable(tick -> due(start, periodNanos, requests, sent))
+                .onBackpressureBuffer()
+                .flatMap(dueNanos -> send(dueNanos, results), concurrency)
+                .then(Mono.fromSupplier(() -> results.complete(System.nanoTime() - start)));
+        });
+    }
+
+    /**
+     * @return the times at which the requests not sent yet were due, up to now.
+     */
+    private static List<Long> due(long start, long periodNanos, long requests, AtomicLong sent) {
+        long due = Math.min(requests, (System.nanoTime() - start) / periodNanos + 1);
+        List<Long> dueNanos = new ArrayList<>();
+        for (long request = sent.get(); request < due; request++) {
+            dueNanos.add(start + request * periodNanos);
+        }
+        sent.set(due);
+        return dueNanos;
+    }
+
+    private Mono<Void> send(long dueNanos, Results results) {
+        Scenario scenario = pick();
+        return traffic
+            .send(scenario)
+            .map(GatewayClient.Response::isSuccessful)
+            .onErrorReturn(false)
+            .doOnNext(successful -> results.record(scenario, successful, System.nanoTime() - dueNanos))
+            .then();
+    }
+
+    private Scenario pick() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (value >= cumulativeWeights[i]) {
+            i++;
+        }
+        return scenarios[i];
+    }
+}
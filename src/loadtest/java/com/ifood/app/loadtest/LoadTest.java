@@ -0,0 +1,123 @@
+package com.ifood.app.loadtest;
+
+import com.ifood.app.IFoodApp;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import reactor.netty.DisposableServer;
+
+/**
+ * Load test of the gateway on a single machine, without Consul, a database server nor the services behind it.
+ * <p>
+ * The gateway is started with the configuration it ships with, rather than the test one which comes first on the test
+ * classpath, and the {@code loadtest} profile only overriding what cannot run on a single machine: it runs on the
+ * in-memory database, without Consul nor rate limits, with the instances of the {@link StubService stand-in service}
+ * registered in the simple discovery client.
+ * Once {@link SeedData seeded}, it is sent a mix of browse, login, order, payment and proxied traffic, first to warm it
+ * up and then to measure it; the throughput and latency percentiles of each {@link Scenario} are printed, and written as
+ * JSON. The driver runs in the same JVM as the gateway, so results are comparable between runs on the same machine
+ * rather than in absolute terms.
+ * <p>
+ * Options, as {@code --name=value}:
+ * <ul>
+ *     <li>{@code rate}: the requests sent per second, whether or not the previous ones completed (default 200);</li>
+ *     <li>{@code warmup} and {@code duration}: how long requests are sent before being measured, and measured (default 10s and 30s);</li>
+ *     <li>{@code concurrency}: the maximum number of requests in flight (default 256);</li>
+ *     <li>{@code mix}: the weight of each scenario, as in the default {@code browse:60,login:5,order:20,payment:10,service:5};</li>
+ *     <li>{@code stub-instances} and {@code stub-latency}: the number of stand-in instances, and their latency (default 2 and 5ms);</li>
+ *     <li>{@code restaurants}: the number of restaurants seeded, with 10 dishes each (default 20);</li>
+ *     <li>{@code output}: the file the results are written to (default none);</li>
+ *     <li>{@code max-error-ratio}: the ratio of failed requests beyond which the run exits with a non-zero status (default 0.01).</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private static final String PROFILE = "loadtest";
+
+    private static final String PROFILE_CONFIG_LOCATION = "classpath:/config/application-" + PROFILE + ".yml";
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws IOException {
+        SimpleCommandLinePropertySource options = new SimpleCommandLinePropertySource(args);
+        long rate = Long.parseLong(option(options, "rate", "200"));
+        Duration warmup = DurationStyle.detectAndParse(option(options, "warmup", "10s"));
+        Duration duration = DurationStyle.detectAndParse(option(options, "duration", "30s"));
+        int concurrency = Integer.parseInt(option(options, "concurrency", "256"));
+        Map<Scenario, Integer> mix = Scenario.weights(options.getProperty("mix"));
+        int stubInstances = Integer.parseInt(option(options, "stub-instances", "2"));
+        Duration stubLatency = DurationStyle.detectAndParse(option(options, "stub-latency", "5ms"));
+        int restaurants = Integer.parseInt(option(options, "restaurants", "20"));
+        String output = options.getProperty("output");
+        double maxErrorRatio = Double.parseDouble(option(options, "max-error-ratio", "0.01"));
+
+        List<DisposableServer> stubs = new ArrayList<>();
+        ConfigurableApplicationContext gateway = null;
+        GatewayClient client = null;
+        Results results;
+        try {
+            for (int i = 0; i < stubInstances; i++) {
+                stubs.add(StubService.start(stubLatency));
+            }
+            gateway = startGateway(stubs);
+            client = new GatewayClient(gateway.getEnvironment().getRequiredProperty("local.server.port", Integer.class), concurrency);
+            System.out.printf("Seeding %d restaurants%n", restaurants);
+            LoadDriver driver = new LoadDriver(new Traffic(client, SeedData.seed(client, restaurants)), mix, rate, concurrency);
+            System.out.printf("Warming up for %s%n", warmup);
+            driver.run(warmup).block();
+            System.out.printf("Measuring for %s%n", duration);
+            results = driver.run(duration).block();
+        } finally {
+            if (client != null) {
+                client.dispose();
+            }
+            if (gateway != null) {
+                gateway.close();
+            }
+            stubs.forEach(DisposableServer::disposeNow);
+        }
+
+        results.print(System.out);
+        if (output != null) {
+            File file = new File(output);
+            results.write(file);
+            System.out.printf("Wrote the results to %s%n", file);
+        }
+        if (results.errorRatio() > maxErrorRatio) {
+            System.out.printf(
+                "%.2f%% of the requests failed, more than the %.2f%% allowed%n",
+                100 * results.errorRatio(),
+                100 * maxErrorRatio
+            );
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startGateway(List<DisposableServer> stubs) {
+        List<String> args = new ArrayList<>();
+        // the main configuration directory, then the overrides of the profile, which are not part of it
+        String mainConfigLocation = IFoodApp.class.getProtectionDomain().getCodeSource().getLocation() + "config/";
+        args.add("--spring.config.location=" + mainConfigLocation + "," + PROFILE_CONFIG_LOCATION);
+        args.add("--spring.profiles.active=" + PROFILE);
+        for (int i = 0; i < stubs.size(); i++) {
+            args.add(
+                "--spring.cloud.discovery.client.simple.instances." + StubService.SERVICE_ID + "[" + i + "].uri=http://localhost:" +
+                stubs.get(i).port()
+            );
+        }
+        return new SpringApplicationBuilder(IFoodApp.class).run(args.toArray(String[]::new));
+    }
+
+    private static String option(SimpleCommandLinePropertySource options, String name, String defaultValue) {
+        String value = options.getProperty(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ifood.app.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * The latencies of the successful requests of each {@link Scenario}, and the number of failed ones.
+ * <p>
+ * Latencies are counted from the time a request was due to be sent rather than the time it was, so that requests
+ * delayed behind slow ones are not left out of the percentiles.
+ */
+final class Results {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<Scenario, Histogram> latencies = new EnumMap<>(Scenario.class);
+
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+
+    private final long rate;
+
+    private long elapsedNanos;
+
+    Results(Set<Scenario> scenarios, long rate) {
+        for (Scenario scenario : scenarios) {
+            latencies.put(scenario, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            errors.put(scenario, new LongAdder());
+        }
+        this.rate = rate;
+    }
+
+    void record(Scenario scenario, boolean successful, long latencyNanos) {
+        if (successful) {
+            latencies.get(scenario).recordValue(latencyNanos);
+        } else {
+            errors.get(scenario).increment();
+        }
+    }
+
+    Results complete(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+        return this;
+    }
+
+    /**
+     * @return the ratio of the requests that failed, over all scenarios.
+     */
+    double errorRatio() {
+        long failed = failed();
+        long requests = failed + latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        return requests == 0 ? 0 : (double) failed / requests;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%d requests per second sent for %.1fs%n", rate, elapsedNanos / 1e9);
+        out.printf(
+            "%-10s %10s %8s %10s %10s %10s %10s %10s%n",
+            "traffic",
+            "requests",
+            "errors",
+            "ok/s",
+            "p50 ms",
+            "p99 ms",
+            "p99.9 ms",
+            "max ms"
+        );
+        latencies.forEach((scenario, histogram) -> print(out, scenario.label(), histogram, errors.get(scenario).sum()));
+        print(out, "total", total(), failed());
+    }
+
+    private void print(PrintStream out, String label, Histogram histogram, long failed) {
+        out.printf(
+            "%-10s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+            label,
+            histogram.getTotalCount() + failed,
+            failed,
+            throughput(histogram),
+            millis(histogram, 50),
+            millis(histogram, 99),
+            millis(histogram, 99.9),
+            histogram.getMaxValue() / NANOS_PER_MILLI
+        );
+    }
+
+    void write(File file) throws IOException {
+        ObjectNode results = OBJECT_MAPPER.createObjectNode();
+        results.put("rate", rate);
+        results.put("elapsedSeconds", elapsedNanos / 1e9);
+        ObjectNode traffic = results.putObject("traffic");
+        latencies.forEach((scenario, histogram) -> write(traffic.putObject(scenario.label()), histogram, errors.get(scenario).sum()));
+        write(results.putObject("total"), total(), failed());
+        OBJECT_MAPPER.writeValue(file, results);
+    }
+
+    private void write(ObjectNode node, Histogram histogram, long failed) {
+        node.put("requests", histogram.getTotalCount() + failed);
+        node.put("errors", failed);
+        node.put("throughput", throughput(histogram));
+        node.put("p50", millis(histogram, 50));
+        node.put("p99", millis(histogram, 99));
+        node.put("p999", millis(histogram, 99.9));
+        node.put("max", histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private long failed() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private Histogram total() {
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        latencies.values().forEach(total::add);
+        return total;
+    }
+
+    private double throughput(Histogram histogram) {
+        return elapsedNanos == 0 ? 0 : histogram.getTotalCount() * 1e9 / elapsedNanos;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ifood.app.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A kind of traffic sent to the gateway, with its default share of the requests.
+ */
+enum Scenario {
+    /**
+     * Get a page of restaurants, the catalog of a restaurant, or a page of dishes.
+     */
+    BROWSE(60),
+
+    /**
+     * Authenticate with a login and password.
+     */
+    LOGIN(5),
+
+    /**
+     * Place an order of a few dishes.
+     */
+    ORDER(20),
+
+    /**
+     * Create a payment.
+     */
+    PAYMENT(10),
+
+    /**
+     * Get a document from the stand-in service, through the route of the gateway to it.
+     */
+    SERVICE(5);
+
+    private final int defaultWeight;
+
+    Scenario(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * @return the name of the scenario, as reported.
+     */
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parse the weights of the scenarios.
+     *
+     * @param mix the weights, as in {@code browse:60,login:5}, or {@code null} for the default weights.
+     * @return the weight of each scenario, omitted ones not being sent.
+     * @throws IllegalArgumentException if the mix names an unknown scenario or has no positive weight.
+     */
+    static Map<Scenario, Integer> weights(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        if (mix == null) {
+            for (Scenario scenario : values()) {
+                weights.put(scenario, scenario.defaultWeight);
+            }
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.trim().split(":");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry, expected <scenario>:<weight>: " + entry);
+            }
+            int weight = Integer.parseInt(nameAndWeight[1].trim());
+            if (weight > 0) {
+                weights.put(valueOf(nameAndWeight[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no scenario to send: " + mix);
+        }
+        return weights;
+    }
+}
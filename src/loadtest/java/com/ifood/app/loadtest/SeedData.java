@@ -0,0 +1,100 @@
+package com.ifood.app.loadtest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The entities created through the gateway before the load test, for the traffic to browse and order, along with the
+ * token of the user sending it.
+ */
+final class SeedData {
+
+    static final String LOGIN = "user";
+
+    static final String PASSWORD = "user";
+
+    private static final int DISHES_PER_RESTAURANT = 10;
+
+    private static final int CUSTOMERS = 20;
+
+    private final String token;
+
+    private final List<Long> restaurantIds = new ArrayList<>();
+
+    private final List<Long> dishIds = new ArrayList<>();
+
+    private final List<Long> customerIds = new ArrayList<>();
+
+    private SeedData(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Log in, and create the restaurants, each with a menu of dishes, and the customers.
+     *
+     * @param client the client of the gateway.
+     * @param restaurants the number of restaurants to create.
+     * @return the created entities.
+     * @throws IllegalStateException if a request failed.
+     */
+    static SeedData seed(GatewayClient client, int restaurants) {
+        String token = client
+            .post("/api/authenticate", null, Map.of("username", LOGIN, "password", PASSWORD), null)
+            .block()
+            .json("log in")
+            .get("id_token")
+            .asText();
+        SeedData seedData = new SeedData(token);
+        for (int restaurant = 0; restaurant < restaurants; restaurant++) {
+            long restaurantId = seedData.create(
+                client,
+                "/api/restaurants",
+                Map.of("name", "Restaurant " + restaurant, "location", "Street " + restaurant, "rating", 4.0)
+            );
+            seedData.restaurantIds.add(restaurantId);
+            long menuId = seedData.create(
+                client,
+                "/api/menus",
+                Map.of("name", "Menu " + restaurant, "restaurant", Map.of("id", restaurantId))
+            );
+            for (int dish = 0; dish < DISHES_PER_RESTAURANT; dish++) {
+                BigDecimal price = BigDecimal.valueOf(500 + 150 * dish, 2);
+                seedData.dishIds.add(
+                    seedData.create(client, "/api/dishes", Map.of("name", "Dish " + dish, "price", price, "menu", Map.of("id", menuId)))
+                );
+            }
+        }
+        for (int customer = 0; customer < CUSTOMERS; customer++) {
+            seedData.customerIds.add(
+                seedData.create(
+                    client,
+                    "/api/customers",
+                    Map.of("name", "Customer " + customer, "email", "customer" + customer + "@localhost")
+                )
+            );
+        }
+        return seedData;
+    }
+
+    private long create(GatewayClient client, String uri, Map<String, Object> entity) {
+        return client.post(uri, token, entity, null).block().json("create " + uri).get("id").asLong();
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    List<Long> getRestaurantIds() {
+        return restaurantIds;
+    }
+
+    List<Long> getDishIds() {
+        return dishIds;
+    }
+
+    List<Long> getCustomerIds() {
+        return customerIds;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ifood.app.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * A stand-in for a service behind the gateway, answering every {@code GET /api/**} with a small JSON document after a
+ * fixed latency, the time a real service would take to compute it.
+ */
+final class StubService {
+
+    /**
+     * The id of the service the stand-in instances are registered under, and routed to at {@code /services/stub/**}.
+     */
+    static final String SERVICE_ID = "stub";
+
+    private StubService() {}
+
+    /**
+     * Start an instance on a random port.
+     *
+     * @param latency the time the instance takes to respond.
+     * @return the started instance.
+     */
+    static DisposableServer start(Duration latency) {
+        return HttpServer.create()
+            .host("localhost")
+            .port(0)
+            .route(routes ->
+                routes.route(
+                    request -> request.method() == HttpMethod.GET && request.uri().startsWith("/api/"),
+                    (request, response) -> respond(request, response, latency)
+                )
+            )
+            .bindNow();
+    }
+
+    private static Mono<Void> respond(HttpServerRequest request, HttpServerResponse response, Duration latency) {
+        String json = "{\"service\":\"" + SERVICE_ID + "\",\"uri\":\"" + request.uri() + "\",\"status\":\"ON_THE_WAY\"}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        return Mono.delay(latency).then(
+            response
+                .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                .header(HttpHeaderNames.CONTENT_LENGTH, Integer.toString(body.length))
+                .sendByteArray(Mono.just(body))
+                .then()
+        );
+    }
+}
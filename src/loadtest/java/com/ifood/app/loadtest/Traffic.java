@@ -0,0 +1,85 @@
+package com.ifood.app.loadtest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import reactor.core.publisher.Mono;
+
+/**
+ * Builds and sends the request of a {@link Scenario}, picking its restaurant, dishes or customer at random among the
+ * {@link SeedData seeded} ones.
+ */
+final class Traffic {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int MAXIMUM_ORDERED_DISHES = 4;
+
+    private static final String[] PAYMENT_TYPES = { "CREDIT_CARD", "DEBIT_CARD", "PAYPAL", "CASH" };
+
+    private final GatewayClient client;
+
+    private final SeedData seedData;
+
+    Traffic(GatewayClient client, SeedData seedData) {
+        this.client = client;
+        this.seedData = seedData;
+    }
+
+    /**
+     * @param scenario the kind of request to send.
+     * @return the response.
+     */
+    Mono<GatewayClient.Response> send(Scenario scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = seedData.getToken();
+        return switch (scenario) {
+            case BROWSE -> client.get(browse(random), token);
+            case LOGIN -> client.post("/api/authenticate", null, Map.of("username", SeedData.LOGIN, "password", SeedData.PASSWORD), null);
+            case ORDER -> client.post("/api/orders/place", token, placement(random), UUID.randomUUID().toString());
+            case PAYMENT -> client.post("/api/payments", token, payment(random), UUID.randomUUID().toString());
+            case SERVICE -> client.get("/services/" + StubService.SERVICE_ID + "/api/deliveries/" + random.nextInt(10_000), token);
+        };
+    }
+
+    private String browse(ThreadLocalRandom random) {
+        List<Long> restaurantIds = seedData.getRestaurantIds();
+        return switch (random.nextInt(3)) {
+            case 0 -> "/api/restaurants?page=" + random.nextInt(pages(restaurantIds.size())) + "&size=" + PAGE_SIZE + "&sort=id,asc";
+            case 1 -> "/api/restaurants/" + pick(restaurantIds, random) + "/catalog";
+            default -> "/api/dishes?page=" + random.nextInt(pages(seedData.getDishIds().size())) + "&size=" + PAGE_SIZE + "&sort=id,asc";
+        };
+    }
+
+    private Map<String, Object> placement(ThreadLocalRandom random) {
+        int dishes = 1 + random.nextInt(MAXIMUM_ORDERED_DISHES);
+        List<Map<String, Object>> items = new ArrayList<>(dishes);
+        for (int i = 0; i < dishes; i++) {
+            items.add(Map.of("dishId", pick(seedData.getDishIds(), random), "quantity", 1 + random.nextInt(3)));
+        }
+        return Map.of("customerId", pick(seedData.getCustomerIds(), random), "items", items);
+    }
+
+    private static Map<String, Object> payment(ThreadLocalRandom random) {
+        return Map.of(
+            "paymentDate",
+            Instant.now().toString(),
+            "amount",
+            BigDecimal.valueOf(1000 + random.nextInt(10_000), 2),
+            "paymentType",
+            PAYMENT_TYPES[random.nextInt(PAYMENT_TYPES.length)]
+        );
+    }
+
+    private static int pages(int elements) {
+        return Math.max(1, (elements + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    private static long pick(List<Long> ids, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
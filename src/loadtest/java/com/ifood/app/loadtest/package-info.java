@@ -0,0 +1,4 @@
+/**
+ * Load test of the gateway, against embedded stand-ins for its database and the services behind it.
+ */
+package com.ifood.app.loadtest;
@@ -1,6 +1,8 @@
 package com.ifood.app.aop.logging;
 
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterThrowing;
@@ -11,20 +13,34 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import tech.jhipster.config.JHipsterConstants;
 
 /**
  * Aspect for logging execution of service and repository Spring components.
  *
- * By default, it only runs with the "dev" profile.
+ * It is only registered when {@code application.logging-aspect.enabled} is set, as it is in the "dev" profile, so that
+ * the other profiles do not proxy the components at all. Methods returning a {@link Mono} or a {@link Flux} are timed
+ * from the subscription to the completion of their result rather than while it is assembled.
  */
 @Aspect
 public class LoggingAspect {
 
-    private final Environment env;
+    /**
+     * The loggers of the declaring classes of the advised methods, looked up once per class.
+     */
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
+    private final boolean logStackTraces;
 
     public LoggingAspect(Environment env) {
-        this.env = env;
+        this.logStackTraces = env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT));
     }
 
     /**
@@ -53,8 +69,8 @@ public class LoggingAspect {
      * @param joinPoint join point we want the logger for.
      * @return {@link Logger} associated to the given {@link JoinPoint}.
      */
-    private Logger logger(JoinPoint joinPoint) {
-        return LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringTypeName());
+    private static Logger logger(JoinPoint joinPoint) {
+        return LOGGERS.get(joinPoint.getSignature().getDeclaringType());
     }
 
     /**
@@ -65,21 +81,7 @@ public class LoggingAspect {
      */
     @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
     public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
-        if (env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT))) {
-            logger(joinPoint).error(
-                "Exception in {}() with cause = '{}' and exception = '{}'",
-                joinPoint.getSignature().getName(),
-                e.getCause() != null ? e.getCause() : "NULL",
-                e.getMessage(),
-                e
-            );
-        } else {
-            logger(joinPoint).error(
-                "Exception in {}() with cause = {}",
-                joinPoint.getSignature().getName(),
-                e.getCause() != null ? String.valueOf(e.getCause()) : "NULL"
-            );
-        }
+        logException(logger(joinPoint), joinPoint.getSignature().getName(), e);
     }
 
     /**
@@ -92,18 +94,75 @@ public class LoggingAspect {
     @Around("applicationPackagePointcut() && springBeanPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
         Logger log = logger(joinPoint);
-        if (log.isDebugEnabled()) {
-            log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+        if (!log.isDebugEnabled()) {
+            return proceed(joinPoint);
         }
+        String name = joinPoint.getSignature().getName();
+        log.debug("Enter: {}() with argument[s] = {}", name, Arrays.toString(joinPoint.getArgs()));
+        long start = System.nanoTime();
+        Object result = proceed(joinPoint);
+        if (result instanceof Mono<?> mono) {
+            return timed(log, name, mono);
+        }
+        if (result instanceof Flux<?> flux) {
+            return timed(log, name, flux);
+        }
+        log.debug("Exit: {}() with result = {} in {} ms", name, result, elapsedMillis(start));
+        return result;
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) throws Throwable {
         try {
-            Object result = joinPoint.proceed();
-            if (log.isDebugEnabled()) {
-                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
-            }
-            return result;
+            return joinPoint.proceed();
         } catch (IllegalArgumentException e) {
-            log.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), joinPoint.getSignature().getName());
+            logger(joinPoint).error(
+                "Illegal argument: {} in {}()",
+                Arrays.toString(joinPoint.getArgs()),
+                joinPoint.getSignature().getName()
+            );
             throw e;
         }
     }
+
+    private <T> Mono<T> timed(Logger log, String name, Mono<T> mono) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            log.debug("Subscribe: {}()", name);
+            return mono
+                .doOnSuccess(value -> log.debug("Exit: {}() with result = {} in {} ms", name, value, elapsedMillis(start)))
+                .doOnError(e -> logException(log, name, e))
+                .doOnCancel(() -> log.debug("Cancel: {}() after {} ms", name, elapsedMillis(start)));
+        });
+    }
+
+    private <T> Flux<T> timed(Logger log, String name, Flux<T> flux) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicLong elements = new AtomicLong();
+            log.debug("Subscribe: {}()", name);
+            return flux
+                .doOnNext(value -> elements.incrementAndGet())
+                .doOnComplete(() -> log.debug("Exit: {}() with {} element[s] in {} ms", name, elements.get(), elapsedMillis(start)))
+                .doOnError(e -> logException(log, name, e))
+                .doOnCancel(() -> log.debug("Cancel: {}() after {} element[s] in {} ms", name, elements.get(), elapsedMillis(start)));
+        });
+    }
+
+    private void logException(Logger log, String name, Throwable e) {
+        if (logStackTraces) {
+            log.error(
+                "Exception in {}() with cause = '{}' and exception = '{}'",
+                name,
+                e.getCause() != null ? e.getCause() : "NULL",
+                e.getMessage(),
+                e
+            );
+        } else {
+            log.error("Exception in {}() with cause = {}", name, e.getCause() != null ? String.valueOf(e.getCause()) : "NULL");
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
 }
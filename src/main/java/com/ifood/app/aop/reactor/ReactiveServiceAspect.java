@@ -0,0 +1,159 @@
+package com.ifood.app.aop.reactor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Aspect instrumenting the {@link Mono} and {@link Flux} returned by the services.
+ * <p>
+ * Each result can be marked with a checkpoint naming the service method, which is all an error assembled inside it
+ * reports of its origin, without the cost of capturing the stack trace of every operator as
+ * {@link reactor.core.publisher.Hooks#onOperatorDebug()} does. Each result can also be timed from its subscription to
+ * its completion under {@value #CALLS_METER_NAME}, tagged with the service, the method and the outcome, the elements of
+ * a {@link Flux} being counted under {@value #ELEMENTS_METER_NAME}.
+ */
+@Aspect
+public class ReactiveServiceAspect {
+
+    public static final String CALLS_METER_NAME = "service.calls";
+
+    public static final String ELEMENTS_METER_NAME = "service.calls.elements";
+
+    private final MeterRegistry registry;
+
+    private final boolean checkpoints;
+
+    private final boolean metrics;
+
+    private final Map<Method, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry the registry of the meters.
+     * @param checkpoints whether to mark the results with a checkpoint.
+     * @param metrics whether to time the results.
+     */
+    public ReactiveServiceAspect(MeterRegistry registry, boolean checkpoints, boolean metrics) {
+        this.registry = registry;
+        this.checkpoints = checkpoints;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Pointcut that matches all the services of the application.
+     */
+    @Pointcut("within(@org.springframework.stereotype.Service *) && within(com.ifood.app.service..*)")
+    public void servicePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Advice that instruments the reactive results of the services.
+     *
+     * @param joinPoint join point for advice.
+     * @return the result, instrumented if it is a {@link Mono} or a {@link Flux}.
+     * @throws Throwable the exception thrown by the method.
+     */
+    @Around("servicePointcut()")
+    public Object instrument(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        if (result instanceof Mono<?> mono) {
+            return instrument(meters(joinPoint), mono);
+        }
+        if (result instanceof Flux<?> flux) {
+            return instrument(meters(joinPoint), flux);
+        }
+        return result;
+    }
+
+    private MethodMeters meters(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return methodMeters.computeIfAbsent(method, MethodMeters::new);
+    }
+
+    private <T> Mono<T> instrument(MethodMeters meters, Mono<T> result) {
+        Mono<T> mono = checkpoints ? result.checkpoint(meters.description) : result;
+        if (!metrics) {
+            return mono;
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono.doFinally(signal -> meters.record(signal, start));
+        });
+    }
+
+    private <T> Flux<T> instrument(MethodMeters meters, Flux<T> result) {
+        Flux<T> flux = checkpoints ? result.checkpoint(meters.description) : result;
+        if (!metrics) {
+            return flux;
+        }
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicLong elements = new AtomicLong();
+            return flux
+                .doOnNext(element -> elements.incrementAndGet())
+                .doFinally(signal -> {
+                    meters.record(signal, start);
+                    if (meters.elements != null) {
+                        meters.elements.record(elements.get());
+                    }
+                });
+        });
+    }
+
+    /**
+     * The checkpoint description and the meters of a service method, registered on its first call if metrics are
+     * enabled.
+     */
+    private final class MethodMeters {
+
+        private final String description;
+
+        private final Timer success;
+
+        private final Timer error;
+
+        private final Timer cancelled;
+
+        private final DistributionSummary elements;
+
+        private MethodMeters(Method method) {
+            String service = method.getDeclaringClass().getSimpleName();
+            this.description = service + '.' + method.getName() + "()";
+            this.success = metrics ? timer(service, method.getName(), "success") : null;
+            this.error = metrics ? timer(service, method.getName(), "error") : null;
+            this.cancelled = metrics ? timer(service, method.getName(), "cancelled") : null;
+            this.elements = metrics && Flux.class.isAssignableFrom(method.getReturnType())
+                ? DistributionSummary.builder(ELEMENTS_METER_NAME)
+                    .description("Elements emitted by the Flux returned by the service method")
+                    .tags("service", service, "method", method.getName())
+                    .register(registry)
+                : null;
+        }
+
+        private Timer timer(String service, String method, String outcome) {
+            return Timer.builder(CALLS_METER_NAME)
+                .description("Calls to the service method, from the subscription to the completion of its result")
+                .tags("service", service, "method", method, "outcome", outcome)
+                .register(registry);
+        }
+
+        private void record(SignalType signal, long start) {
+            Timer timer = signal == SignalType.ON_ERROR ? error : signal == SignalType.CANCEL ? cancelled : success;
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
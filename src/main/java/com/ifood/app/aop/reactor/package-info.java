@@ -0,0 +1,4 @@
+/**
+ * Reactor instrumentation aspect.
+ */
+package com.ifood.app.aop.reactor;
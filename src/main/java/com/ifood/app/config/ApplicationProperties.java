@@ -1,5 +1,9 @@
 package com.ifood.app.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.util.unit.DataSize;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -10,9 +14,475 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Pagination pagination = new Pagination();
+
+    private final Catalog catalog = new Catalog();
+
+    private final Idempotency idempotency = new Idempotency();
+
+    private final Jwt jwt = new Jwt();
+
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    private final UserCache userCache = new UserCache();
+
+    private final ResponseCache responseCache = new ResponseCache();
+
+    private final RateLimit rateLimit = new RateLimit();
+
+    private final LoadBalancer loadBalancer = new LoadBalancer();
+
+    private final LoggingAspect loggingAspect = new LoggingAspect();
+
+    private final Reactor reactor = new Reactor();
+
     // jhipster-needle-application-properties-property
 
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public Catalog getCatalog() {
+        return catalog;
+    }
+
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+
+    public Jwt getJwt() {
+        return jwt;
+    }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public UserCache getUserCache() {
+        return userCache;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    public LoggingAspect getLoggingAspect() {
+        return loggingAspect;
+    }
+
+    public Reactor getReactor() {
+        return reactor;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
+    public static class Pagination {
+
+        /**
+         * How long a total count served in the {@code X-Total-Count} header may be reused before it is computed again.
+         */
+        private Duration countMaxStaleness = Duration.ofSeconds(30);
+
+        /**
+         * Whether total counts may come from the database statistics (PostgreSQL {@code pg_class.reltuples}) instead
+         * of a {@code COUNT(*)}.
+         */
+        private boolean countEstimatesEnabled = true;
+
+        /**
+         * Row count from which the statistics estimate is trusted; smaller tables are counted exactly.
+         */
+        private long countEstimateThreshold = 100_000;
+
+        public Duration getCountMaxStaleness() {
+            return countMaxStaleness;
+        }
+
+        public void setCountMaxStaleness(Duration countMaxStaleness) {
+            this.countMaxStaleness = countMaxStaleness;
+        }
+
+        public boolean isCountEstimatesEnabled() {
+            return countEstimatesEnabled;
+        }
+
+        public void setCountEstimatesEnabled(boolean countEstimatesEnabled) {
+            this.countEstimatesEnabled = countEstimatesEnabled;
+        }
+
+        public long getCountEstimateThreshold() {
+            return countEstimateThreshold;
+        }
+
+        public void setCountEstimateThreshold(long countEstimateThreshold) {
+            this.countEstimateThreshold = countEstimateThreshold;
+        }
+    }
+
+    public static class Catalog {
+
+        /**
+         * Maximum number of restaurant catalogs kept in memory; the least used ones are evicted first.
+         */
+        private long cacheMaximumSize = 1_000;
+
+        public long getCacheMaximumSize() {
+            return cacheMaximumSize;
+        }
+
+        public void setCacheMaximumSize(long cacheMaximumSize) {
+            this.cacheMaximumSize = cacheMaximumSize;
+        }
+    }
+
+    public static class Idempotency {
+
+        /**
+         * How long the response to a request carrying an {@code Idempotency-Key} is replayed to retries of that request.
+         */
+        private Duration ttl = Duration.ofHours(1);
+
+        /**
+         * Maximum number of idempotency keys remembered; the least used ones are evicted first.
+         */
+        private long maximumSize = 10_000;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    public static class Jwt {
+
+        /**
+         * Maximum number of decoded tokens kept until they expire, see {@code CachingReactiveJwtDecoder}; 0 disables it.
+         */
+        private long cacheMaximumSize = 10_000;
+
+        public long getCacheMaximumSize() {
+            return cacheMaximumSize;
+        }
+
+        public void setCacheMaximumSize(long cacheMaximumSize) {
+            this.cacheMaximumSize = cacheMaximumSize;
+        }
+    }
+
+    public static class PasswordHashing {
+
+        /**
+         * Number of threads hashing passwords, one per CPU by default.
+         */
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Number of password hashes that may wait for a thread; further ones are rejected.
+         */
+        private int queueCapacity = 100;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    public static class UserCache {
+
+        /**
+         * How long a user is served from the cache of logins and accounts, bounding how long another instance of the
+         * gateway may serve it after it changed.
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+
+        /**
+         * Maximum number of cached users, each one possibly cached under its login and its email.
+         */
+        private long maximumSize = 10_000;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    public static class ResponseCache {
+
+        /**
+         * Maximum size of the bodies kept by the {@code ResponseCache} gateway filter, across all the routes using it.
+         */
+        private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Maximum size of a single cached body, larger responses being proxied without being cached.
+         */
+        private DataSize maximumEntrySize = DataSize.ofMegabytes(1);
+
+        public DataSize getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(DataSize maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public DataSize getMaximumEntrySize() {
+            return maximumEntrySize;
+        }
+
+        public void setMaximumEntrySize(DataSize maximumEntrySize) {
+            this.maximumEntrySize = maximumEntrySize;
+        }
+    }
+
+    public static class RateLimit {
+
+        /**
+         * Maximum number of token buckets kept in memory, one per rule and per user or client address.
+         */
+        private long maximumBuckets = 100_000;
+
+        /**
+         * How long an unused bucket is kept; it should be longer than the time the buckets take to fill up again.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        /**
+         * The requests rate limited before they are handled, each one by the first rule it matches.
+         */
+        private List<Rule> rules = new ArrayList<>();
+
+        public long getMaximumBuckets() {
+            return maximumBuckets;
+        }
+
+        public void setMaximumBuckets(long maximumBuckets) {
+            this.maximumBuckets = maximumBuckets;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public List<Rule> getRules() {
+            return rules;
+        }
+
+        public void setRules(List<Rule> rules) {
+            this.rules = rules;
+        }
+
+        public static class Rule {
+
+            /**
+             * The name of the rule, as tagged on its meters.
+             */
+            private String name;
+
+            /**
+             * The path pattern of the requests the rule applies to.
+             */
+            private String path;
+
+            /**
+             * The method of the requests the rule applies to, all methods if not set.
+             */
+            private String method;
+
+            /**
+             * The number of requests a user or client address may burst.
+             */
+            private long capacity;
+
+            /**
+             * The number of requests a user or client address may make every {@code replenish-period}.
+             */
+            private long replenishRate;
+
+            /**
+             * The period over which {@code replenish-rate} requests are allowed.
+             */
+            private Duration replenishPeriod = Duration.ofSeconds(1);
+
+            public String getName() {
+                return name;
+            }
+
+            public void setName(String name) {
+                this.name = name;
+            }
+
+            public String getPath() {
+                return path;
+            }
+
+            public void setPath(String path) {
+                this.path = path;
+            }
+
+            public String getMethod() {
+                return method;
+            }
+
+            public void setMethod(String method) {
+                this.method = method;
+            }
+
+            public long getCapacity() {
+                return capacity;
+            }
+
+            public void setCapacity(long capacity) {
+                this.capacity = capacity;
+            }
+
+            public long getReplenishRate() {
+                return replenishRate;
+            }
+
+            public void setReplenishRate(long replenishRate) {
+                this.replenishRate = replenishRate;
+            }
+
+            public Duration getReplenishPeriod() {
+                return replenishPeriod;
+            }
+
+            public void setReplenishPeriod(Duration replenishPeriod) {
+                this.replenishPeriod = replenishPeriod;
+            }
+        }
+    }
+    public static class LoadBalancer {
+
+        /**
+         * How fast the moving average of the response time of a service instance forgets its older responses: after
+         * this long, a response weighs about a third of what it did. The response time an instance is scored by
+         * decays as fast while it gets no response, so that an instance left out after slow responses is tried again.
+         */
+        private Duration decay = Duration.ofSeconds(10);
+
+        public Duration getDecay() {
+            return decay;
+        }
+
+        public void setDecay(Duration decay) {
+            this.decay = decay;
+        }
+    }
+
+    public static class LoggingAspect {
+
+        /**
+         * Whether to log the calls to the repositories, services and REST controllers; when disabled, they are not
+         * proxied at all.
+         */
+        private boolean enabled;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Reactor {
+
+        /**
+         * How errors report where the failing operators were assembled: not at all, through a checkpoint on the result
+         * of each service method, or through the stack trace captured on the assembly of every operator, which slows
+         * down the whole application.
+         */
+        private DebugMode debugMode = DebugMode.CHECKPOINTS;
+
+        /**
+         * Whether to time the results of the service methods, from their subscription to their completion.
+         */
+        private boolean serviceMetricsEnabled = true;
+
+        /**
+         * Names of the Reactor schedulers which tasks are timed, as given when they were created.
+         */
+        private List<String> schedulerMetrics = new ArrayList<>(List.of("boundedElastic", "parallel"));
+
+        public DebugMode getDebugMode() {
+            return debugMode;
+        }
+
+        public void setDebugMode(DebugMode debugMode) {
+            this.debugMode = debugMode;
+        }
+
+        public boolean isServiceMetricsEnabled() {
+            return serviceMetricsEnabled;
+        }
+
+        public void setServiceMetricsEnabled(boolean serviceMetricsEnabled) {
+            this.serviceMetricsEnabled = serviceMetricsEnabled;
+        }
+
+        public List<String> getSchedulerMetrics() {
+            return schedulerMetrics;
+        }
+
+        public void setSchedulerMetrics(List<String> schedulerMetrics) {
+            this.schedulerMetrics = schedulerMetrics;
+        }
+
+        public enum DebugMode {
+            NONE,
+            CHECKPOINTS,
+            OPERATOR_DEBUG,
+        }
+    }
+
     // jhipster-needle-application-properties-property-class
 }
@@ -0,0 +1,36 @@
+package com.ifood.app.config;
+
+import com.ifood.app.web.loadbalancer.InFlightRequestFilter;
+import com.ifood.app.web.loadbalancer.InstanceLatencyTracker;
+import com.ifood.app.web.loadbalancer.LeastLatencyLoadBalancer;
+import com.ifood.app.web.loadbalancer.LeastLatencyLoadBalancerConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Balances the requests proxied to each service between its instances with a {@link LeastLatencyLoadBalancer} rather
+ * than round-robin.
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LeastLatencyLoadBalancerConfiguration.class)
+public class LoadBalancerConfiguration {
+
+    /**
+     * The statistics of the instances are shared by the load balancers of all the services, which pick up this bean
+     * from their parent context as one of their lifecycles.
+     */
+    @Bean
+    public InstanceLatencyTracker instanceLatencyTracker(MeterRegistry meterRegistry, ApplicationProperties applicationProperties) {
+        return new InstanceLatencyTracker(meterRegistry, applicationProperties.getLoadBalancer().getDecay());
+    }
+
+    /**
+     * Ends the requests in flight of the {@link InstanceLatencyTracker} when the client cancels them.
+     */
+    @Bean
+    public InFlightRequestFilter inFlightRequestFilter() {
+        return new InFlightRequestFilter();
+    }
+}
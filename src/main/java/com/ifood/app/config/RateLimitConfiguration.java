@@ -0,0 +1,21 @@
+package com.ifood.app.config;
+
+import com.ifood.app.security.ratelimit.InMemoryTokenBucketStore;
+import com.ifood.app.security.ratelimit.TokenBucketStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfiguration {
+
+    /**
+     * Keep the token buckets in memory, unless a store shared by the instances of the gateway is declared.
+     */
+    @Bean
+    @ConditionalOnMissingBean(TokenBucketStore.class)
+    public TokenBucketStore tokenBucketStore(ApplicationProperties applicationProperties) {
+        ApplicationProperties.RateLimit rateLimit = applicationProperties.getRateLimit();
+        return new InMemoryTokenBucketStore(rateLimit.getMaximumBuckets(), rateLimit.getIdleTimeout());
+    }
+}
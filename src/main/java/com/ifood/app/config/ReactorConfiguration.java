@@ -1,15 +1,49 @@
 package com.ifood.app.config;
 
+import com.ifood.app.aop.reactor.ReactiveServiceAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import reactor.core.publisher.Hooks;
-import tech.jhipster.config.JHipsterConstants;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * Reactor assembly tracing and metrics, as configured by {@code application.reactor}.
+ * <p>
+ * Only the {@code operator-debug} mode installs {@link Hooks#onOperatorDebug()}, which captures a stack trace on the
+ * assembly of every operator; the {@code checkpoints} mode marks the results of the services instead, at a cost that
+ * is fine in production. The tasks of the schedulers are timed by {@link ReactorSchedulerMetricsPostProcessor}, which
+ * has to run before this configuration.
+ */
 @Configuration
-@Profile("!" + JHipsterConstants.SPRING_PROFILE_PRODUCTION)
-public class ReactorConfiguration {
+@EnableAspectJAutoProxy
+public class ReactorConfiguration implements DisposableBean {
 
-    public ReactorConfiguration() {
-        Hooks.onOperatorDebug();
+    private final ApplicationProperties.Reactor reactor;
+
+    public ReactorConfiguration(ApplicationProperties applicationProperties) {
+        this.reactor = applicationProperties.getReactor();
+        if (reactor.getDebugMode() == ApplicationProperties.Reactor.DebugMode.OPERATOR_DEBUG) {
+            Hooks.onOperatorDebug();
+        }
+    }
+
+    @Bean
+    public ReactiveServiceAspect reactiveServiceAspect(MeterRegistry meterRegistry) {
+        return new ReactiveServiceAspect(
+            meterRegistry,
+            reactor.getDebugMode() == ApplicationProperties.Reactor.DebugMode.CHECKPOINTS,
+            reactor.isServiceMetricsEnabled()
+        );
+    }
+
+    @Override
+    public void destroy() {
+        Schedulers.removeExecutorServiceDecorator(ReactorSchedulerMetricsPostProcessor.SCHEDULER_METRICS_KEY);
+        if (reactor.getDebugMode() == ApplicationProperties.Reactor.DebugMode.OPERATOR_DEBUG) {
+            Hooks.resetOnOperatorDebug();
+        }
     }
 }
@@ -0,0 +1,54 @@
+package com.ifood.app.config;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.internal.TimedScheduledExecutorService;
+import java.util.List;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Times the tasks of the Reactor schedulers listed in {@code application.reactor.scheduler-metrics}.
+ * <p>
+ * A scheduler decorates its executors when it creates them, and {@code parallel} creates all of them the first time
+ * it is used, which can happen while the context is still being refreshed. The decorator is therefore registered as
+ * soon as the configuration is read, before any bean is created, and records into {@link Metrics#globalRegistry},
+ * which the registry of the context joins once it is created.
+ */
+public class ReactorSchedulerMetricsPostProcessor implements EnvironmentPostProcessor {
+
+    static final String SCHEDULER_METRICS_KEY = "scheduler-metrics";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        List<String> schedulers = Binder.get(environment)
+            .bind("application.reactor", ApplicationProperties.Reactor.class)
+            .orElseGet(ApplicationProperties.Reactor::new)
+            .getSchedulerMetrics();
+        // the environment of each application run is processed, the last one wins
+        Schedulers.removeExecutorServiceDecorator(SCHEDULER_METRICS_KEY);
+        if (schedulers.isEmpty()) {
+            return;
+        }
+        Schedulers.addExecutorServiceDecorator(SCHEDULER_METRICS_KEY, (scheduler, executor) -> {
+            String name = schedulerName(scheduler.toString());
+            if (!schedulers.contains(name)) {
+                return executor;
+            }
+            // the executors of a scheduler share its timers, so that they add up to the scheduler as a whole
+            return new TimedScheduledExecutorService(Metrics.globalRegistry, executor, name, "reactor.scheduler.", Tags.empty());
+        });
+    }
+
+    /**
+     * @return the name given to a scheduler when it was created, the first quoted string of its description.
+     */
+    static String schedulerName(String description) {
+        int start = description.indexOf('"');
+        int end = description.indexOf('"', start + 1);
+        return start >= 0 && end > start ? description.substring(start + 1, end) : description;
+    }
+}
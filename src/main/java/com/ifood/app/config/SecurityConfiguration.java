@@ -4,7 +4,11 @@ import static org.springframework.security.config.Customizer.withDefaults;
 import static org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers.pathMatchers;
 
 import com.ifood.app.security.AuthoritiesConstants;
+import com.ifood.app.security.PasswordHashingScheduler;
+import com.ifood.app.security.ratelimit.RequestRateLimiter;
+import com.ifood.app.web.filter.RateLimitingWebFilter;
 import com.ifood.app.web.filter.SpaWebFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
@@ -33,21 +37,36 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordHashingScheduler passwordHashingScheduler(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.PasswordHashing passwordHashing = applicationProperties.getPasswordHashing();
+        return new PasswordHashingScheduler(passwordHashing.getThreads(), passwordHashing.getQueueCapacity(), meterRegistry);
     }
 
     @Bean
-    public ReactiveAuthenticationManager reactiveAuthenticationManager(ReactiveUserDetailsService userDetailsService) {
+    public PasswordEncoder passwordEncoder(PasswordHashingScheduler passwordHashingScheduler) {
+        return passwordHashingScheduler.timed(new BCryptPasswordEncoder());
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(
+        ReactiveUserDetailsService userDetailsService,
+        PasswordEncoder passwordEncoder,
+        PasswordHashingScheduler passwordHashingScheduler
+    ) {
         UserDetailsRepositoryReactiveAuthenticationManager authenticationManager = new UserDetailsRepositoryReactiveAuthenticationManager(
             userDetailsService
         );
-        authenticationManager.setPasswordEncoder(passwordEncoder());
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        authenticationManager.setScheduler(passwordHashingScheduler.getScheduler());
         return authenticationManager;
     }
 
     @Bean
-    public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http) {
+    public SecurityWebFilterChain springSecurityFilterChain(
+        ServerHttpSecurity http,
+        ApplicationProperties applicationProperties,
+        RequestRateLimiter requestRateLimiter
+    ) {
         http
             .securityMatcher(
                 new NegatedServerWebExchangeMatcher(
@@ -57,6 +76,11 @@ public class SecurityConfiguration {
             .cors(withDefaults())
             .csrf(csrf -> csrf.disable())
             .addFilterAfter(new SpaWebFilter(), SecurityWebFiltersOrder.HTTPS_REDIRECT)
+            // once the bearer token is authenticated, so that users are limited by login rather than by address
+            .addFilterAfter(
+                new RateLimitingWebFilter(applicationProperties.getRateLimit().getRules(), requestRateLimiter),
+                SecurityWebFiltersOrder.AUTHENTICATION
+            )
             .headers(
                 headers ->
                     headers
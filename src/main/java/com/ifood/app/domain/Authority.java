@@ -1,21 +1,34 @@
 package com.ifood.app.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.util.Objects;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A Authority.
  */
+@Table("jhi_authority")
+@JsonIgnoreProperties(value = { "new", "id" })
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class Authority implements Serializable {
+public class Authority implements Serializable, Persistable<String> {
 
     private static final long serialVersionUID = 1L;
 
     @NotNull(message = "must not be null")
     @Size(max = 50)
+    @Id
+    @Column("name")
     private String name;
 
+    @Transient
+    private boolean isPersisted;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public String getName() {
@@ -31,6 +44,22 @@ public class Authority implements Serializable {
         this.name = name;
     }
 
+    @Override
+    public String getId() {
+        return this.name;
+    }
+
+    @Transient
+    @Override
+    public boolean isNew() {
+        return !this.isPersisted;
+    }
+
+    public Authority setIsPersisted() {
+        this.isPersisted = true;
+        return this;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
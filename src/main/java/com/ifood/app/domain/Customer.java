@@ -5,27 +5,38 @@ import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A Customer.
  */
+@Table("customer")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Customer implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @Id
     private Long id;
 
     @NotNull(message = "must not be null")
+    @Column("name")
     private String name;
 
     @NotNull(message = "must not be null")
+    @Column("email")
     private String email;
 
+    @Column("phone_number")
     private String phoneNumber;
 
+    @Column("address")
     private String address;
 
+    @Transient
     @JsonIgnoreProperties(value = { "orderItems", "customer" }, allowSetters = true)
     private Set<Order> orders = new HashSet<>();
 
@@ -4,30 +4,44 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A Dish.
  */
+@Table("dish")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Dish implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @Id
     private Long id;
 
     @NotNull(message = "must not be null")
+    @Column("name")
     private String name;
 
     @NotNull(message = "must not be null")
+    @Column("price")
     private BigDecimal price;
 
+    @Column("description")
     private String description;
 
+    @Column("spicy_level")
     private Integer spicyLevel;
 
+    @Transient
     @JsonIgnoreProperties(value = { "dishes", "restaurant" }, allowSetters = true)
     private Menu menu;
 
+    @Column("menu_id")
+    private Long menuId;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -101,6 +115,7 @@ public class Dish implements Serializable {
 
     public void setMenu(Menu menu) {
         this.menu = menu;
+        this.menuId = menu != null ? menu.getId() : null;
     }
 
     public Dish menu(Menu menu) {
@@ -108,6 +123,14 @@ public class Dish implements Serializable {
         return this;
     }
 
+    public Long getMenuId() {
+        return this.menuId;
+    }
+
+    public void setMenuId(Long menu) {
+        this.menuId = menu;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -5,28 +5,41 @@ import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A Menu.
  */
+@Table("menu")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Menu implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @Id
     private Long id;
 
     @NotNull(message = "must not be null")
+    @Column("name")
     private String name;
 
+    @Column("description")
     private String description;
 
+    @Transient
     @JsonIgnoreProperties(value = { "menu" }, allowSetters = true)
     private Set<Dish> dishes = new HashSet<>();
 
+    @Transient
     @JsonIgnoreProperties(value = { "menus" }, allowSetters = true)
     private Restaurant restaurant;
 
+    @Column("restaurant_id")
+    private Long restaurantId;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -105,6 +118,7 @@ public class Menu implements Serializable {
 
     public void setRestaurant(Restaurant restaurant) {
         this.restaurant = restaurant;
+        this.restaurantId = restaurant != null ? restaurant.getId() : null;
     }
 
     public Menu restaurant(Restaurant restaurant) {
@@ -112,6 +126,14 @@ public class Menu implements Serializable {
         return this;
     }
 
+    public Long getRestaurantId() {
+        return this.restaurantId;
+    }
+
+    public void setRestaurantId(Long restaurant) {
+        this.restaurantId = restaurant;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -7,29 +7,50 @@ import java.io.Serializable;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A Order.
  */
+@Table("jhi_order")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Order implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @Id
     private Long id;
 
     @NotNull(message = "must not be null")
+    @Column("order_date")
     private Instant orderDate;
 
     @NotNull(message = "must not be null")
+    @Column("status")
     private OrderStatus status;
 
+    /**
+     * Incremented by each status transition, see {@link com.ifood.app.repository.OrderRepository#transitionStatus}.
+     */
+    @ReadOnlyProperty
+    @Column("version")
+    private Long version;
+
+    @Transient
     @JsonIgnoreProperties(value = { "order" }, allowSetters = true)
     private Set<OrderItem> orderItems = new HashSet<>();
 
+    @Transient
     @JsonIgnoreProperties(value = { "orders" }, allowSetters = true)
     private Customer customer;
 
+    @Column("customer_id")
+    private Long customerId;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -71,6 +92,19 @@ public class Order implements Serializable {
         this.status = status;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Order version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<OrderItem> getOrderItems() {
         return this.orderItems;
     }
@@ -108,6 +142,7 @@ public class Order implements Serializable {
 
     public void setCustomer(Customer customer) {
         this.customer = customer;
+        this.customerId = customer != null ? customer.getId() : null;
     }
 
     public Order customer(Customer customer) {
@@ -115,6 +150,14 @@ public class Order implements Serializable {
         return this;
     }
 
+    public Long getCustomerId() {
+        return this.customerId;
+    }
+
+    public void setCustomerId(Long customer) {
+        this.customerId = customer;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -141,6 +184,7 @@ public class Order implements Serializable {
             "id=" + getId() +
             ", orderDate='" + getOrderDate() + "'" +
             ", status='" + getStatus() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -4,26 +4,45 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A OrderItem.
  */
+@Table("order_item")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class OrderItem implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @Id
     private Long id;
 
     @NotNull(message = "must not be null")
+    @Column("quantity")
     private Integer quantity;
 
     @NotNull(message = "must not be null")
+    @Column("total_price")
     private BigDecimal totalPrice;
 
+    @Transient
     @JsonIgnoreProperties(value = { "orderItems", "customer" }, allowSetters = true)
     private Order order;
 
+    @Column("order_id")
+    private Long orderId;
+
+    @Transient
+    @JsonIgnoreProperties(value = { "menu" }, allowSetters = true)
+    private Dish dish;
+
+    @Column("dish_id")
+    private Long dishId;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -71,6 +90,7 @@ public class OrderItem implements Serializable {
 
     public void setOrder(Order order) {
         this.order = order;
+        this.orderId = order != null ? order.getId() : null;
     }
 
     public OrderItem order(Order order) {
@@ -78,6 +98,36 @@ public class OrderItem implements Serializable {
         return this;
     }
 
+    public Long getOrderId() {
+        return this.orderId;
+    }
+
+    public void setOrderId(Long order) {
+        this.orderId = order;
+    }
+
+    public Dish getDish() {
+        return this.dish;
+    }
+
+    public void setDish(Dish dish) {
+        this.dish = dish;
+        this.dishId = dish != null ? dish.getId() : null;
+    }
+
+    public OrderItem dish(Dish dish) {
+        this.setDish(dish);
+        return this;
+    }
+
+    public Long getDishId() {
+        return this.dishId;
+    }
+
+    public void setDishId(Long dish) {
+        this.dishId = dish;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
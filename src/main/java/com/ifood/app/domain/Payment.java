@@ -5,24 +5,32 @@ import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A Payment.
  */
+@Table("payment")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Payment implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @Id
     private Long id;
 
     @NotNull(message = "must not be null")
+    @Column("payment_date")
     private Instant paymentDate;
 
     @NotNull(message = "must not be null")
+    @Column("amount")
     private BigDecimal amount;
 
     @NotNull(message = "must not be null")
+    @Column("payment_type")
     private PaymentType paymentType;
 
     // jhipster-needle-entity-add-field - JHipster will add fields here
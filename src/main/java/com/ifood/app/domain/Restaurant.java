@@ -5,26 +5,36 @@ import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A Restaurant.
  */
+@Table("restaurant")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Restaurant implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @Id
     private Long id;
 
     @NotNull(message = "must not be null")
+    @Column("name")
     private String name;
 
+    @Column("location")
     private String location;
 
     @DecimalMin(value = "0")
     @DecimalMax(value = "5")
+    @Column("rating")
     private Double rating;
 
+    @Transient
     @JsonIgnoreProperties(value = { "dishes", "restaurant" }, allowSetters = true)
     private Set<Menu> menus = new HashSet<>();
 
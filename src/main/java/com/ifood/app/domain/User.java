@@ -12,14 +12,20 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
 
 /**
  * A user.
  */
-public class User implements Serializable {
+@Table("jhi_user")
+public class User extends AbstractAuditingEntity<Long> implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    @Id
     private Long id;
 
     @NotNull
@@ -30,12 +36,15 @@ public class User implements Serializable {
     @JsonIgnore
     @NotNull
     @Size(min = 60, max = 60)
+    @Column("password_hash")
     private String password;
 
     @Size(max = 50)
+    @Column("first_name")
     private String firstName;
 
     @Size(max = 50)
+    @Column("last_name")
     private String lastName;
 
     @Email
@@ -45,24 +54,31 @@ public class User implements Serializable {
     private boolean activated = false;
 
     @Size(min = 2, max = 10)
+    @Column("lang_key")
     private String langKey;
 
     @Size(max = 256)
+    @Column("image_url")
     private String imageUrl;
 
     @Size(max = 20)
     @JsonIgnore
+    @Column("activation_key")
     private String activationKey;
 
     @Size(max = 20)
     @JsonIgnore
+    @Column("reset_key")
     private String resetKey;
 
+    @Column("reset_date")
     private Instant resetDate = null;
 
     @JsonIgnore
+    @Transient
     private Set<String> authorities = new HashSet<>();
 
+    @Override
     public Long getId() {
         return id;
     }
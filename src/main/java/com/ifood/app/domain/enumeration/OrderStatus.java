@@ -2,10 +2,27 @@ package com.ifood.app.domain.enumeration;
 
 /**
  * The OrderStatus enumeration.
+ * <p>
+ * A pending order is shipped or cancelled, and a shipped order is completed or cancelled; completed and cancelled
+ * orders do not change anymore.
  */
 public enum OrderStatus {
     PENDING,
     COMPLETED,
     CANCELLED,
-    SHIPPED,
+    SHIPPED;
+
+    /**
+     * Whether an order may move from this status to the given one.
+     *
+     * @param target the status to move to.
+     * @return true if the transition is allowed.
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return switch (this) {
+            case PENDING -> target == SHIPPED || target == CANCELLED;
+            case SHIPPED -> target == COMPLETED || target == CANCELLED;
+            case COMPLETED, CANCELLED -> false;
+        };
+    }
 }
@@ -0,0 +1,20 @@
+package com.ifood.app.management;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity resource which endpoints are metered by {@link CrudMetersService}, under the name of its entity.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface CrudMetered {
+    /**
+     * @return the name of the entity of the resource, its {@code ENTITY_NAME}.
+     */
+    String value();
+}
@@ -0,0 +1,184 @@
+package com.ifood.app.management;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Meters of the entity resources: the latency and throughput of each of their endpoints, and for their listings the
+ * time spent counting and finding the entities, the page sizes asked and the number of entities returned.
+ * <p>
+ * All the meters of an endpoint or a listing are registered when it is created, so that recording a request only looks
+ * up the meters it already holds.
+ */
+@Service
+public class CrudMetersService {
+
+    public static final String REQUESTS_METER_NAME = "crud.requests";
+    public static final String RESPONSE_SIZE_METER_NAME = "crud.response.size";
+    public static final String QUERIES_METER_NAME = "crud.queries";
+    public static final String PAGE_SIZE_METER_NAME = "crud.page-size";
+    public static final String RESULTS_METER_NAME = "crud.results";
+
+    public static final String ENTITY_DIMENSION = "entity";
+    public static final String OPERATION_DIMENSION = "operation";
+    public static final String OUTCOME_DIMENSION = "outcome";
+    public static final String QUERY_DIMENSION = "query";
+
+    private final MeterRegistry registry;
+
+    public CrudMetersService(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Register the meters of an endpoint.
+     *
+     * @param entity the name of the entity of the resource.
+     * @param operation the name of the endpoint, the name of its handler method.
+     * @return the meters of the endpoint.
+     */
+    public Endpoint endpoint(String entity, String operation) {
+        return new Endpoint(entity, operation);
+    }
+
+    /**
+     * Register the meters of the listing of an entity.
+     *
+     * @param entity the name of the entity.
+     * @return the meters of the listing.
+     */
+    public Listing listing(String entity) {
+        return new Listing(entity);
+    }
+
+    /**
+     * The outcome of a request, from the status of its response.
+     */
+    public enum Outcome {
+        SUCCESS("success"),
+        CLIENT_ERROR("client-error"),
+        SERVER_ERROR("server-error"),
+        CANCELLED("cancelled");
+
+        private final String value;
+
+        Outcome(String value) {
+            this.value = value;
+        }
+
+        public static Outcome of(HttpStatusCode status) {
+            if (status == null || status.is5xxServerError()) {
+                return SERVER_ERROR;
+            }
+            return status.is4xxClientError() ? CLIENT_ERROR : SUCCESS;
+        }
+    }
+
+    /**
+     * The meters of an endpoint: a timer per outcome and the size of the responses.
+     */
+    public final class Endpoint {
+
+        private final Timer[] requests = new Timer[Outcome.values().length];
+
+        private final DistributionSummary responseSize;
+
+        private Endpoint(String entity, String operation) {
+            for (Outcome outcome : Outcome.values()) {
+                requests[outcome.ordinal()] = Timer.builder(REQUESTS_METER_NAME)
+                    .description("Requests to the entity resources, from their receipt to their last byte")
+                    .tags(ENTITY_DIMENSION, entity, OPERATION_DIMENSION, operation, OUTCOME_DIMENSION, outcome.value)
+                    .register(registry);
+            }
+            this.responseSize = DistributionSummary.builder(RESPONSE_SIZE_METER_NAME)
+                .description("Size of the bodies of the responses of the entity resources")
+                .baseUnit("bytes")
+                .tags(ENTITY_DIMENSION, entity, OPERATION_DIMENSION, operation)
+                .register(registry);
+        }
+
+        public void record(Outcome outcome, long durationNanos, long responseBytes) {
+            requests[outcome.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+            responseSize.record(responseBytes);
+        }
+    }
+
+    /**
+     * The meters of the listing of an entity: the time spent counting and finding them, the page sizes and the number
+     * of entities returned.
+     */
+    public final class Listing {
+
+        private final Timer count;
+
+        private final Timer find;
+
+        private final DistributionSummary pageSize;
+
+        private final DistributionSummary results;
+
+        private Listing(String entity) {
+            this.count = query(entity, "count");
+            this.find = query(entity, "find");
+            this.pageSize = DistributionSummary.builder(PAGE_SIZE_METER_NAME)
+                .description("Page sizes asked to the listings of the entities")
+                .tags(ENTITY_DIMENSION, entity)
+                .register(registry);
+            this.results = DistributionSummary.builder(RESULTS_METER_NAME)
+                .description("Entities returned by the listings")
+                .tags(ENTITY_DIMENSION, entity)
+                .register(registry);
+        }
+
+        private Timer query(String entity, String query) {
+            return Timer.builder(QUERIES_METER_NAME)
+                .description("Time spent querying the entities listed, from subscription to completion")
+                .tags(ENTITY_DIMENSION, entity, QUERY_DIMENSION, query)
+                .register(registry);
+        }
+
+        /**
+         * @param count the count of the entities.
+         * @return the count, timed.
+         */
+        public <T> Mono<T> count(Mono<T> count) {
+            return timed(this.count, count);
+        }
+
+        /**
+         * @param find the entities found.
+         * @return the entities found, timed.
+         */
+        public <T> Mono<T> find(Mono<T> find) {
+            return timed(this.find, find);
+        }
+
+        /**
+         * @param pageSize the size of the page asked.
+         * @param results the number of entities returned.
+         */
+        public void recordPage(int pageSize, int results) {
+            this.pageSize.record(pageSize);
+            recordResults(results);
+        }
+
+        /**
+         * @param results the number of entities returned by a listing that is not paginated.
+         */
+        public void recordResults(int results) {
+            this.results.record(results);
+        }
+
+        private static <T> Mono<T> timed(Timer timer, Mono<T> mono) {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return mono.doFinally(signal -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+            });
+        }
+    }
+}
@@ -15,12 +15,14 @@ public class SecurityMetersService {
 
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
+    private final Counter tokenNotYetValidCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
 
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
+        this.tokenNotYetValidCounter = invalidTokensCounterForCauseBuilder("not-yet-valid").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
     }
@@ -40,6 +42,10 @@ public class SecurityMetersService {
         this.tokenExpiredCounter.increment();
     }
 
+    public void trackTokenNotYetValid() {
+        this.tokenNotYetValidCounter.increment();
+    }
+
     public void trackTokenUnsupported() {
         this.tokenUnsupportedCounter.increment();
     }
@@ -0,0 +1,28 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Authority;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.event.AfterConvertCallback;
+import org.springframework.data.r2dbc.mapping.event.AfterSaveCallback;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Marks {@link Authority} instances as persisted once they are read from or written to the database, so that
+ * {@link Authority#isNew()} tells Spring Data whether to insert or update the assigned-id entity.
+ */
+@Component
+public class AuthorityCallback implements AfterConvertCallback<Authority>, AfterSaveCallback<Authority> {
+
+    @Override
+    public Publisher<Authority> onAfterConvert(Authority entity, SqlIdentifier table) {
+        return Mono.just(entity.setIsPersisted());
+    }
+
+    @Override
+    public Publisher<Authority> onAfterSave(Authority entity, OutboundRow outboundRow, SqlIdentifier table) {
+        return Mono.just(entity.setIsPersisted());
+    }
+}
@@ -0,0 +1,48 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Customer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC repository for the Customer entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface CustomerRepository extends ReactiveCrudRepository<Customer, Long>, CustomerRepositoryInternal {
+    Flux<Customer> findAllBy(Pageable pageable);
+
+    @Override
+    <S extends Customer> Mono<S> save(S entity);
+
+    @Override
+    Flux<Customer> findAll();
+
+    @Override
+    Mono<Customer> findById(Long id);
+
+    @Override
+    Mono<Void> deleteById(Long id);
+}
+
+interface CustomerRepositoryInternal {
+    <S extends Customer> Mono<S> save(S entity);
+
+    Flux<Customer> findAllBy(Pageable pageable);
+
+    /**
+     * Streams all the customers with the given sort, fetching them from the database as they are consumed.
+     *
+     * @param sort how to sort the customers.
+     * @return all the customers.
+     */
+    Flux<Customer> streamAll(Sort sort);
+
+    Flux<Customer> findAll();
+
+    Mono<Customer> findById(Long id);
+}
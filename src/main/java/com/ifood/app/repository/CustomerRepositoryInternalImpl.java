@@ -0,0 +1,103 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Customer;
+import com.ifood.app.repository.rowmapper.CustomerRowMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.sql.Comparison;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.repository.support.MappingRelationalEntityInformation;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC custom repository implementation for the Customer entity.
+ */
+@SuppressWarnings("unused")
+class CustomerRepositoryInternalImpl extends SimpleR2dbcRepository<Customer, Long> implements CustomerRepositoryInternal {
+
+    private final DatabaseClient db;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final EntityManager entityManager;
+
+    private final CustomerRowMapper customerMapper;
+
+    private static final Table entityTable = Table.aliased("customer", EntityManager.ENTITY_ALIAS);
+
+    public CustomerRepositoryInternalImpl(
+        R2dbcEntityTemplate template,
+        EntityManager entityManager,
+        CustomerRowMapper customerMapper,
+        R2dbcEntityOperations entityOperations,
+        R2dbcConverter converter
+    ) {
+        super(
+            new MappingRelationalEntityInformation(converter.getMappingContext().getRequiredPersistentEntity(Customer.class)),
+            entityOperations,
+            converter
+        );
+        this.db = template.getDatabaseClient();
+        this.r2dbcEntityTemplate = template;
+        this.entityManager = entityManager;
+        this.customerMapper = customerMapper;
+    }
+
+    @Override
+    public Flux<Customer> findAllBy(Pageable pageable) {
+        return createQuery(pageable, null).all();
+    }
+
+    RowsFetchSpec<Customer> createQuery(Pageable pageable, Condition whereClause) {
+        return db.sql(createSelect(pageable, whereClause)).map(this::process);
+    }
+
+    private String createSelect(Pageable pageable, Condition whereClause) {
+        List<Expression> columns = CustomerSqlHelper.getColumns(entityTable, EntityManager.ENTITY_ALIAS);
+        SelectFromAndJoin selectFrom = Select.builder().select(columns).from(entityTable);
+        return entityManager.createSelect(selectFrom, Customer.class, pageable, whereClause);
+    }
+
+    @Override
+    public Flux<Customer> streamAll(Sort sort) {
+        return db
+            .sql(createSelect(Pageable.unpaged(sort), null))
+            .filter(statement -> statement.fetchSize(EntityManager.STREAM_FETCH_SIZE))
+            .map(this::process)
+            .all();
+    }
+
+    @Override
+    public Flux<Customer> findAll() {
+        return findAllBy(null);
+    }
+
+    @Override
+    public Mono<Customer> findById(Long id) {
+        Comparison whereClause = Conditions.isEqual(entityTable.column("id"), Conditions.just(id.toString()));
+        return createQuery(null, whereClause).one();
+    }
+
+    private Customer process(Row row, RowMetadata metadata) {
+        Customer entity = customerMapper.apply(row, "e");
+        return entity;
+    }
+
+    @Override
+    public <S extends Customer> Mono<S> save(S entity) {
+        return super.save(entity);
+    }
+}
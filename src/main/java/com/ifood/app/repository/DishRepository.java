@@ -0,0 +1,73 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Dish;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC repository for the Dish entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface DishRepository extends ReactiveCrudRepository<Dish, Long>, DishRepositoryInternal {
+    Flux<Dish> findAllBy(Pageable pageable);
+
+    @Query("SELECT * FROM dish entity WHERE entity.menu_id = :id")
+    Flux<Dish> findByMenu(Long id);
+
+    @Query("SELECT * FROM dish entity WHERE entity.menu_id IS NULL")
+    Flux<Dish> findAllWhereMenuIsNull();
+
+    @Query("SELECT entity.* FROM dish entity JOIN menu ON entity.menu_id = menu.id WHERE menu.restaurant_id = :id ORDER BY entity.id")
+    Flux<Dish> findByRestaurant(Long id);
+
+    @Override
+    <S extends Dish> Mono<S> save(S entity);
+
+    @Override
+    <S extends Dish> Flux<S> saveAll(Iterable<S> entities);
+
+    @Override
+    Flux<Dish> findAll();
+
+    @Override
+    Mono<Dish> findById(Long id);
+
+    @Override
+    Mono<Void> deleteById(Long id);
+}
+
+interface DishRepositoryInternal {
+    <S extends Dish> Mono<S> save(S entity);
+
+    <S extends Dish> Flux<S> saveAll(Iterable<S> entities);
+
+    Flux<Dish> findAllBy(Pageable pageable);
+
+    /**
+     * Seeks to the dishes sorted by id that come strictly after the given id, so that any page costs a primary key
+     * range scan instead of skipping all the previous rows.
+     *
+     * @param id the id of the last dish already read, or null to start from the first dish.
+     * @param size the maximum number of dishes to return.
+     * @return the next dishes.
+     */
+    Flux<Dish> findAllAfter(Long id, int size);
+
+    /**
+     * Streams all the dishes with the given sort, fetching them from the database as they are consumed.
+     *
+     * @param sort how to sort the dishes.
+     * @return all the dishes.
+     */
+    Flux<Dish> streamAll(Sort sort);
+
+    Flux<Dish> findAll();
+
+    Mono<Dish> findById(Long id);
+}
@@ -0,0 +1,137 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Dish;
+import com.ifood.app.repository.rowmapper.DishRowMapper;
+import com.ifood.app.repository.rowmapper.MenuRowMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Comparison;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoinCondition;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.repository.support.MappingRelationalEntityInformation;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC custom repository implementation for the Dish entity.
+ */
+@SuppressWarnings("unused")
+class DishRepositoryInternalImpl extends SimpleR2dbcRepository<Dish, Long> implements DishRepositoryInternal {
+
+    private final DatabaseClient db;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final EntityManager entityManager;
+
+    private final MenuRowMapper menuMapper;
+    private final DishRowMapper dishMapper;
+
+    private static final Table entityTable = Table.aliased("dish", EntityManager.ENTITY_ALIAS);
+    private static final Table menuTable = Table.aliased("menu", "menu");
+
+    public DishRepositoryInternalImpl(
+        R2dbcEntityTemplate template,
+        EntityManager entityManager,
+        MenuRowMapper menuMapper,
+        DishRowMapper dishMapper,
+        R2dbcEntityOperations entityOperations,
+        R2dbcConverter converter
+    ) {
+        super(
+            new MappingRelationalEntityInformation(converter.getMappingContext().getRequiredPersistentEntity(Dish.class)),
+            entityOperations,
+            converter
+        );
+        this.db = template.getDatabaseClient();
+        this.r2dbcEntityTemplate = template;
+        this.entityManager = entityManager;
+        this.menuMapper = menuMapper;
+        this.dishMapper = dishMapper;
+    }
+
+    @Override
+    public Flux<Dish> findAllBy(Pageable pageable) {
+        return createQuery(pageable, null).all();
+    }
+
+    RowsFetchSpec<Dish> createQuery(Pageable pageable, Condition whereClause) {
+        return db.sql(createSelect(pageable, whereClause)).map(this::process);
+    }
+
+    private String createSelect(Pageable pageable, Condition whereClause) {
+        List<Expression> columns = DishSqlHelper.getColumns(entityTable, EntityManager.ENTITY_ALIAS);
+        columns.addAll(MenuSqlHelper.getColumns(menuTable, "menu"));
+        SelectFromAndJoinCondition selectFrom = Select.builder()
+            .select(columns)
+            .from(entityTable)
+            .leftOuterJoin(menuTable)
+            .on(Column.create("menu_id", entityTable))
+            .equals(Column.create("id", menuTable));
+        return entityManager.createSelect(selectFrom, Dish.class, pageable, whereClause);
+    }
+
+    @Override
+    public Flux<Dish> findAllAfter(Long id, int size) {
+        Condition whereClause = id != null ? Conditions.isGreater(entityTable.column("id"), Conditions.just(":id")) : null;
+        GenericExecuteSpec spec = db.sql(createSelect(PageRequest.of(0, size, Sort.by("id")), whereClause));
+        if (whereClause != null) {
+            spec = spec.bind("id", id);
+        }
+        return spec.map(this::process).all();
+    }
+
+    @Override
+    public Flux<Dish> streamAll(Sort sort) {
+        return db
+            .sql(createSelect(Pageable.unpaged(sort), null))
+            .filter(statement -> statement.fetchSize(EntityManager.STREAM_FETCH_SIZE))
+            .map(this::process)
+            .all();
+    }
+
+    @Override
+    public Flux<Dish> findAll() {
+        return findAllBy(null);
+    }
+
+    @Override
+    public Mono<Dish> findById(Long id) {
+        Comparison whereClause = Conditions.isEqual(entityTable.column("id"), Conditions.just(id.toString()));
+        return createQuery(null, whereClause).one();
+    }
+
+    private Dish process(Row row, RowMetadata metadata) {
+        Dish entity = dishMapper.apply(row, "e");
+        entity.setMenu(entity.getMenuId() != null ? menuMapper.apply(row, "menu") : null);
+        return entity;
+    }
+
+    @Override
+    public <S extends Dish> Mono<S> save(S entity) {
+        return super.save(entity);
+    }
+
+    /**
+     * Saves all the given entities in one transaction, with at most two statements: one multi-row insert for the new
+     * ones and one multi-row update for the existing ones, instead of one round trip per entity.
+     */
+    @Override
+    public <S extends Dish> Flux<S> saveAll(Iterable<S> entities) {
+        return entityManager.saveAll(Dish.class, entities);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ifood.app.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Table;
+
+public class DishSqlHelper {
+
+    public static List<Expression> getColumns(Table table, String columnPrefix) {
+        List<Expression> columns = new ArrayList<>();
+        columns.add(Column.aliased("id", table, columnPrefix + "_id"));
+        columns.add(Column.aliased("name", table, columnPrefix + "_name"));
+        columns.add(Column.aliased("price", table, columnPrefix + "_price"));
+        columns.add(Column.aliased("description", table, columnPrefix + "_description"));
+        columns.add(Column.aliased("spicy_level", table, columnPrefix + "_spicy_level"));
+
+        columns.add(Column.aliased("menu_id", table, columnPrefix + "_menu_id"));
+        return columns;
+    }
+}
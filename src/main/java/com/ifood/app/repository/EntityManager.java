@@ -0,0 +1,334 @@
+package com.ifood.app.repository;
+
+import io.r2dbc.spi.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.query.UpdateMapper;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoinCondition;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectOrdered;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.r2dbc.core.binding.BindMarkers;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+
+/**
+ * Helper class to create SQL selects based on the entity, paging parameters and criteria, and to run
+ * multi-row batched writes.
+ */
+@Service
+public class EntityManager {
+
+    public static final String ENTITY_ALIAS = "e";
+    public static final String ALIAS_PREFIX = "e_";
+
+    /**
+     * Number of rows fetched per round trip by the streaming queries, so that a slow consumer holds back the
+     * database cursor instead of having the whole result set buffered in memory.
+     */
+    public static final int STREAM_FETCH_SIZE = 256;
+
+    private static final Logger log = LoggerFactory.getLogger(EntityManager.class);
+
+    private final SqlRenderer sqlRenderer;
+    private final UpdateMapper updateMapper;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final R2dbcDialect dialect;
+    private final TransactionalOperator transactionalOperator;
+
+    public EntityManager(
+        SqlRenderer sqlRenderer,
+        UpdateMapper updateMapper,
+        R2dbcEntityTemplate r2dbcEntityTemplate,
+        R2dbcDialect dialect,
+        TransactionalOperator transactionalOperator
+    ) {
+        this.sqlRenderer = sqlRenderer;
+        this.updateMapper = updateMapper;
+        this.r2dbcEntityTemplate = r2dbcEntityTemplate;
+        this.dialect = dialect;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    /**
+     * Creates an SQL select statement from the given fragment and pagination parameters.
+     * @param selectFrom a representation of a select statement.
+     * @param entityType the entity type which holds the table name.
+     * @param pageable page parameter, or null or unpaged, if everything needs to be returned.
+     * @param where condition or null. The condition to apply as where clause.
+     * @return sql select statement
+     */
+    public String createSelect(SelectFromAndJoin selectFrom, Class<?> entityType, Pageable pageable, Condition where) {
+        if (pageable != null && pageable.isPaged()) {
+            if (where != null) {
+                return createSelectImpl(
+                    selectFrom.limitOffset(pageable.getPageSize(), pageable.getOffset()).where(where),
+                    entityType,
+                    pageable.getSort()
+                );
+            } else {
+                return createSelectImpl(
+                    selectFrom.limitOffset(pageable.getPageSize(), pageable.getOffset()),
+                    entityType,
+                    pageable.getSort()
+                );
+            }
+        } else {
+            Sort sort = pageable != null ? pageable.getSort() : null;
+            if (where != null) {
+                return createSelectImpl(selectFrom.where(where), entityType, sort);
+            } else {
+                return createSelectImpl(selectFrom, entityType, sort);
+            }
+        }
+    }
+
+    /**
+     * Creates an SQL select statement from the given fragment and pagination parameters.
+     * @param selectFrom a representation of a select statement.
+     * @param entityType the entity type which holds the table name.
+     * @param pageable page parameter, or null or unpaged, if everything needs to be returned.
+     * @param where condition or null. The condition to apply as where clause.
+     * @return sql select statement
+     */
+    public String createSelect(SelectFromAndJoinCondition selectFrom, Class<?> entityType, Pageable pageable, Condition where) {
+        if (pageable != null && pageable.isPaged()) {
+            if (where != null) {
+                return createSelectImpl(
+                    selectFrom.limitOffset(pageable.getPageSize(), pageable.getOffset()).where(where),
+                    entityType,
+                    pageable.getSort()
+                );
+            } else {
+                return createSelectImpl(
+                    selectFrom.limitOffset(pageable.getPageSize(), pageable.getOffset()),
+                    entityType,
+                    pageable.getSort()
+                );
+            }
+        } else {
+            Sort sort = pageable != null ? pageable.getSort() : null;
+            if (where != null) {
+                return createSelectImpl(selectFrom.where(where), entityType, sort);
+            } else {
+                return createSelectImpl(selectFrom, entityType, sort);
+            }
+        }
+    }
+
+    private String createSelectImpl(SelectOrdered selectFrom, Class<?> entityType, Sort sortParameter) {
+        if (sortParameter != null && sortParameter.isSorted()) {
+            RelationalPersistentEntity<?> entity = getPersistentEntity(entityType);
+            if (entity != null) {
+                Table table = Table.aliased(entity.getTableName().getReference(), ENTITY_ALIAS);
+                selectFrom = selectFrom.orderBy(updateMapper.getMappedSort(table, sortParameter, entity));
+            }
+        }
+        return createSelect(selectFrom.build());
+    }
+
+    /**
+     * Generate an actual SQL from the given {@link Select}.
+     * @param select a representation of a select statement.
+     * @return the generated SQL select.
+     */
+    public String createSelect(Select select) {
+        return sqlRenderer.render(select);
+    }
+
+    /**
+     * Saves all the given entities in one transaction, with at most two statements: one {@link #insertAll multi-row
+     * insert} for the new ones and one {@link #updateAll multi-row update} for the existing ones.
+     * @param entityType the entity type which holds the table name.
+     * @param entities the entities to save.
+     * @param <T> the entity type.
+     * @return the saved entities, in the order they were given.
+     */
+    public <T> Flux<T> saveAll(Class<? super T> entityType, Iterable<T> entities) {
+        RelationalPersistentEntity<?> entity = getRequiredPersistentEntity(entityType);
+        List<T> all = new ArrayList<>();
+        List<T> toInsert = new ArrayList<>();
+        List<T> toUpdate = new ArrayList<>();
+        entities.forEach(e -> {
+            all.add(e);
+            (entity.isNew(e) ? toInsert : toUpdate).add(e);
+        });
+        if (all.isEmpty()) {
+            return Flux.empty();
+        }
+        // the inserted entities get their generated id set, so the given ones are emitted once both statements ran
+        return transactionalOperator
+            .transactional(insertAll(entityType, toInsert).thenMany(updateAll(entityType, toUpdate)))
+            .thenMany(Flux.fromIterable(all));
+    }
+
+    /**
+     * Inserts all the given new entities with a single multi-binding {@link Statement}, so the whole batch is
+     * sent to the database in one round trip instead of one per row. The generated ids are set back on the
+     * entities, which are emitted in the order they were given.
+     * @param entityType the entity type which holds the table name.
+     * @param entities the entities to insert, all of them without an id.
+     * @param <T> the entity type.
+     * @return the inserted entities.
+     */
+    public <T> Flux<T> insertAll(Class<? super T> entityType, List<T> entities) {
+        if (entities.isEmpty()) {
+            return Flux.empty();
+        }
+        RelationalPersistentEntity<?> entity = getRequiredPersistentEntity(entityType);
+        RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+        List<OutboundRow> rows = toOutboundRows(entities);
+        List<SqlIdentifier> columns = rows
+            .get(0)
+            .keySet()
+            .stream()
+            .filter(column -> !column.equals(idProperty.getColumnName()))
+            .toList();
+
+        ReactiveDataAccessStrategy dataAccessStrategy = r2dbcEntityTemplate.getDataAccessStrategy();
+        BindMarkers bindMarkers = dialect.getBindMarkersFactory().create();
+        List<String> placeholders = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            placeholders.add(bindMarkers.next().getPlaceholder());
+        }
+        String sql =
+            "INSERT INTO " +
+            dataAccessStrategy.toSql(entity.getTableName()) +
+            " (" +
+            columns.stream().map(dataAccessStrategy::toSql).collect(Collectors.joining(", ")) +
+            ") VALUES (" +
+            String.join(", ", placeholders) +
+            ")";
+        log.debug("Batch insert of {} {} rows", entities.size(), entity.getTableName());
+
+        return getDatabaseClient()
+            .inConnectionMany(connection -> {
+                Statement statement = connection
+                    .createStatement(sql)
+                    .returnGeneratedValues(dataAccessStrategy.toSql(idProperty.getColumnName()));
+                bindAll(statement, rows, columns);
+                return Flux.from(statement.execute()).concatMap(
+                    result -> result.map((row, metadata) -> row.get(0, idProperty.getType()))
+                );
+            })
+            .index()
+            .map(indexedId -> {
+                T inserted = entities.get(indexedId.getT1().intValue());
+                entity.getPropertyAccessor(inserted).setProperty(idProperty, indexedId.getT2());
+                return inserted;
+            });
+    }
+
+    /**
+     * Updates all the given existing entities with a single multi-binding {@link Statement}, so the whole batch is
+     * sent to the database in one round trip instead of one per row.
+     * @param entityType the entity type which holds the table name.
+     * @param entities the entities to update, all of them with an id.
+     * @param <T> the entity type.
+     * @return the updated entities, or a {@link TransientDataAccessResourceException} if some of them do not exist.
+     */
+    public <T> Flux<T> updateAll(Class<? super T> entityType, List<T> entities) {
+        if (entities.isEmpty()) {
+            return Flux.empty();
+        }
+        RelationalPersistentEntity<?> entity = getRequiredPersistentEntity(entityType);
+        SqlIdentifier idColumn = entity.getRequiredIdProperty().getColumnName();
+        List<OutboundRow> rows = toOutboundRows(entities);
+        List<SqlIdentifier> columns = new ArrayList<>(rows.get(0).keySet().stream().filter(column -> !column.equals(idColumn)).toList());
+
+        ReactiveDataAccessStrategy dataAccessStrategy = r2dbcEntityTemplate.getDataAccessStrategy();
+        BindMarkers bindMarkers = dialect.getBindMarkersFactory().create();
+        List<String> assignments = new ArrayList<>();
+        for (SqlIdentifier column : columns) {
+            assignments.add(dataAccessStrategy.toSql(column) + " = " + bindMarkers.next().getPlaceholder());
+        }
+        String sql =
+            "UPDATE " +
+            dataAccessStrategy.toSql(entity.getTableName()) +
+            " SET " +
+            String.join(", ", assignments) +
+            " WHERE " +
+            dataAccessStrategy.toSql(idColumn) +
+            " = " +
+            bindMarkers.next().getPlaceholder();
+        // the id is bound last, matching the WHERE placeholder
+        columns.add(idColumn);
+        log.debug("Batch update of {} {} rows", entities.size(), entity.getTableName());
+
+        return getDatabaseClient()
+            .inConnectionMany(connection -> {
+                Statement statement = connection.createStatement(sql);
+                bindAll(statement, rows, columns);
+                return Flux.from(statement.execute()).concatMap(result -> result.getRowsUpdated());
+            })
+            .reduce(0L, Long::sum)
+            .flatMapMany(rowsUpdated -> {
+                if (rowsUpdated < entities.size()) {
+                    return Flux.error(
+                        new TransientDataAccessResourceException(
+                            String.format(
+                                "Failed to update table [%s]; %d of the %d rows do not exist",
+                                entity.getTableName(),
+                                entities.size() - rowsUpdated,
+                                entities.size()
+                            )
+                        )
+                    );
+                }
+                return Flux.fromIterable(entities);
+            });
+    }
+
+    private <T> List<OutboundRow> toOutboundRows(List<T> entities) {
+        ReactiveDataAccessStrategy dataAccessStrategy = r2dbcEntityTemplate.getDataAccessStrategy();
+        return entities.stream().map(dataAccessStrategy::getOutboundRow).toList();
+    }
+
+    private static void bindAll(Statement statement, List<OutboundRow> rows, List<SqlIdentifier> columns) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            OutboundRow row = rows.get(i);
+            for (int j = 0; j < columns.size(); j++) {
+                Parameter parameter = row.get(columns.get(j));
+                if (parameter.getValue() == null) {
+                    statement.bindNull(j, parameter.getType());
+                } else {
+                    statement.bind(j, parameter.getValue());
+                }
+            }
+        }
+    }
+
+    private DatabaseClient getDatabaseClient() {
+        return r2dbcEntityTemplate.getDatabaseClient();
+    }
+
+    private RelationalPersistentEntity<?> getPersistentEntity(Class<?> entityType) {
+        return r2dbcEntityTemplate.getConverter().getMappingContext().getPersistentEntity(entityType);
+    }
+
+    private RelationalPersistentEntity<?> getRequiredPersistentEntity(Class<?> entityType) {
+        return r2dbcEntityTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(entityType);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ifood.app.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Table;
+
+public class MenuSqlHelper {
+
+    public static List<Expression> getColumns(Table table, String columnPrefix) {
+        List<Expression> columns = new ArrayList<>();
+        columns.add(Column.aliased("id", table, columnPrefix + "_id"));
+        columns.add(Column.aliased("name", table, columnPrefix + "_name"));
+        columns.add(Column.aliased("description", table, columnPrefix + "_description"));
+
+        columns.add(Column.aliased("restaurant_id", table, columnPrefix + "_restaurant_id"));
+        return columns;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.OrderItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC repository for the OrderItem entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface OrderItemRepository extends ReactiveCrudRepository<OrderItem, Long>, OrderItemRepositoryInternal {
+    Flux<OrderItem> findAllBy(Pageable pageable);
+
+    @Query("SELECT * FROM order_item entity WHERE entity.order_id = :id")
+    Flux<OrderItem> findByOrder(Long id);
+
+    @Query("SELECT * FROM order_item entity WHERE entity.order_id IS NULL")
+    Flux<OrderItem> findAllWhereOrderIsNull();
+
+    @Query("SELECT * FROM order_item entity WHERE entity.dish_id = :id")
+    Flux<OrderItem> findByDish(Long id);
+
+    @Query("SELECT * FROM order_item entity WHERE entity.dish_id IS NULL")
+    Flux<OrderItem> findAllWhereDishIsNull();
+
+    @Override
+    <S extends OrderItem> Mono<S> save(S entity);
+
+    @Override
+    <S extends OrderItem> Flux<S> saveAll(Iterable<S> entities);
+
+    @Override
+    Flux<OrderItem> findAll();
+
+    @Override
+    Mono<OrderItem> findById(Long id);
+
+    @Override
+    Mono<Void> deleteById(Long id);
+}
+
+interface OrderItemRepositoryInternal {
+    <S extends OrderItem> Mono<S> save(S entity);
+
+    <S extends OrderItem> Flux<S> saveAll(Iterable<S> entities);
+
+    Flux<OrderItem> findAllBy(Pageable pageable);
+
+    Flux<OrderItem> findAll();
+
+    Mono<OrderItem> findById(Long id);
+}
@@ -0,0 +1,21 @@
+package com.ifood.app.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Table;
+
+public class OrderItemSqlHelper {
+
+    public static List<Expression> getColumns(Table table, String columnPrefix) {
+        List<Expression> columns = new ArrayList<>();
+        columns.add(Column.aliased("id", table, columnPrefix + "_id"));
+        columns.add(Column.aliased("quantity", table, columnPrefix + "_quantity"));
+        columns.add(Column.aliased("total_price", table, columnPrefix + "_total_price"));
+
+        columns.add(Column.aliased("order_id", table, columnPrefix + "_order_id"));
+        columns.add(Column.aliased("dish_id", table, columnPrefix + "_dish_id"));
+        return columns;
+    }
+}
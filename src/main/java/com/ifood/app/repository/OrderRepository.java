@@ -0,0 +1,107 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Order;
+import java.time.Instant;
+import java.util.Collection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC repository for the Order entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface OrderRepository extends ReactiveCrudRepository<Order, Long>, OrderRepositoryInternal {
+    Flux<Order> findAllBy(Pageable pageable);
+
+    @Query("SELECT * FROM jhi_order entity WHERE entity.customer_id = :id")
+    Flux<Order> findByCustomer(Long id);
+
+    @Query("SELECT * FROM jhi_order entity WHERE entity.customer_id IS NULL")
+    Flux<Order> findAllWhereCustomerIsNull();
+
+    /**
+     * Moves the "id" order to the "status" status, provided it is still at the "version" version and in one of the
+     * "fromStatuses" statuses, in a single statement: two concurrent transitions of the same order never both succeed.
+     *
+     * @param id the id of the order.
+     * @param version the version of the order the transition was decided on.
+     * @param fromStatuses the names of the statuses the order may be moved from.
+     * @param status the name of the status to move the order to.
+     * @return the number of orders updated: 1, or 0 if the order does not exist or no longer matches.
+     */
+    @Modifying
+    @Query(
+        "UPDATE jhi_order SET status = :status, version = version + 1 WHERE id = :id AND version = :version AND status IN (:fromStatuses)"
+    )
+    Mono<Integer> transitionStatus(Long id, Long version, Collection<String> fromStatuses, String status);
+
+    /**
+     * Updates the order date and customer of the "id" order, provided it is still at the "version" version and in the
+     * "status" status, in a single statement which increments the version: of two concurrent updates of the same order,
+     * only the first one applies.
+     *
+     * @param id the id of the order.
+     * @param version the version of the order the update was decided on.
+     * @param status the status the order must be in, which the update keeps.
+     * @param orderDate the new order date.
+     * @param customerId the id of the new customer, or null.
+     * @return the number of orders updated: 1, or 0 if the order does not exist, is no longer at that version, or is in
+     * another status.
+     */
+    @Modifying
+    @Query(
+        "UPDATE jhi_order SET order_date = :orderDate, customer_id = :customerId, version = version + 1 " +
+        "WHERE id = :id AND version = :version AND status = :status"
+    )
+    Mono<Integer> updateIfVersion(Long id, Long version, String status, Instant orderDate, Long customerId);
+
+    @Override
+    <S extends Order> Mono<S> save(S entity);
+
+    @Override
+    Flux<Order> findAll();
+
+    @Override
+    Mono<Order> findById(Long id);
+
+    @Override
+    Mono<Void> deleteById(Long id);
+}
+
+interface OrderRepositoryInternal {
+    <S extends Order> Mono<S> save(S entity);
+
+    Flux<Order> findAllBy(Pageable pageable);
+
+    /**
+     * Seeks to the orders sorted by {@code (orderDate, id)} that come strictly after the given key, so that any page
+     * costs an index range scan instead of skipping all the previous rows.
+     *
+     * @param orderDate the order date of the last order already read, or null to start from the first order.
+     * @param id the id of the last order already read, or null to start from the first order.
+     * @param size the maximum number of orders to return.
+     * @return the next orders.
+     */
+    Flux<Order> findAllAfter(Instant orderDate, Long id, int size);
+
+    /**
+     * Streams all the orders with the given sort, fetching them from the database as they are consumed.
+     *
+     * @param sort how to sort the orders.
+     * @return all the orders.
+     */
+    Flux<Order> streamAll(Sort sort);
+
+    Flux<Order> findAll();
+
+    Mono<Order> findById(Long id);
+
+    Mono<Order> findOneWithEagerRelationships(Long id);
+}
@@ -0,0 +1,215 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Order;
+import com.ifood.app.domain.OrderItem;
+import com.ifood.app.repository.rowmapper.CustomerRowMapper;
+import com.ifood.app.repository.rowmapper.DishRowMapper;
+import com.ifood.app.repository.rowmapper.OrderItemRowMapper;
+import com.ifood.app.repository.rowmapper.OrderRowMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Comparison;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoinCondition;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.repository.support.MappingRelationalEntityInformation;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+/**
+ * Spring Data R2DBC custom repository implementation for the Order entity.
+ */
+@SuppressWarnings("unused")
+class OrderRepositoryInternalImpl extends SimpleR2dbcRepository<Order, Long> implements OrderRepositoryInternal {
+
+    private final DatabaseClient db;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final EntityManager entityManager;
+
+    private final CustomerRowMapper customerMapper;
+    private final OrderRowMapper orderMapper;
+    private final OrderItemRowMapper orderItemMapper;
+    private final DishRowMapper dishMapper;
+
+    private static final Table entityTable = Table.aliased("jhi_order", EntityManager.ENTITY_ALIAS);
+    private static final Table customerTable = Table.aliased("customer", "customer");
+    private static final Table orderItemTable = Table.aliased("order_item", "order_item");
+    private static final Table dishTable = Table.aliased("dish", "dish");
+
+    public OrderRepositoryInternalImpl(
+        R2dbcEntityTemplate template,
+        EntityManager entityManager,
+        CustomerRowMapper customerMapper,
+        OrderRowMapper orderMapper,
+        OrderItemRowMapper orderItemMapper,
+        DishRowMapper dishMapper,
+        R2dbcEntityOperations entityOperations,
+        R2dbcConverter converter
+    ) {
+        super(
+            new MappingRelationalEntityInformation(converter.getMappingContext().getRequiredPersistentEntity(Order.class)),
+            entityOperations,
+            converter
+        );
+        this.db = template.getDatabaseClient();
+        this.r2dbcEntityTemplate = template;
+        this.entityManager = entityManager;
+        this.customerMapper = customerMapper;
+        this.orderMapper = orderMapper;
+        this.orderItemMapper = orderItemMapper;
+        this.dishMapper = dishMapper;
+    }
+
+    @Override
+    public Flux<Order> findAllBy(Pageable pageable) {
+        return createQuery(pageable, null).all();
+    }
+
+    RowsFetchSpec<Order> createQuery(Pageable pageable, Condition whereClause) {
+        return db.sql(createSelect(pageable, whereClause)).map(this::process);
+    }
+
+    private String createSelect(Pageable pageable, Condition whereClause) {
+        List<Expression> columns = OrderSqlHelper.getColumns(entityTable, EntityManager.ENTITY_ALIAS);
+        columns.addAll(CustomerSqlHelper.getColumns(customerTable, "customer"));
+        SelectFromAndJoinCondition selectFrom = Select.builder()
+            .select(columns)
+            .from(entityTable)
+            .leftOuterJoin(customerTable)
+            .on(Column.create("customer_id", entityTable))
+            .equals(Column.create("id", customerTable));
+        return entityManager.createSelect(selectFrom, Order.class, pageable, whereClause);
+    }
+
+    @Override
+    public Flux<Order> findAllAfter(Instant orderDate, Long id, int size) {
+        Condition whereClause = null;
+        if (orderDate != null && id != null) {
+            // a row value comparison, which the database seeks to in the (order_date, id) index, where the equivalent
+            // "order_date > :orderDate OR (order_date = :orderDate AND id > :id)" can be planned as a scan of it
+            whereClause = Comparison.create(
+                Expressions.just("(" + EntityManager.ENTITY_ALIAS + ".order_date, " + EntityManager.ENTITY_ALIAS + ".id)"),
+                ">",
+                Expressions.just("(:orderDate, :id)")
+            );
+        }
+        GenericExecuteSpec spec = db.sql(createSelect(PageRequest.of(0, size, Sort.by("orderDate", "id")), whereClause));
+        if (whereClause != null) {
+            spec = spec
+                .bind("orderDate", r2dbcEntityTemplate.getDataAccessStrategy().getBindValue(Parameter.from(orderDate)))
+                .bind("id", id);
+        }
+        return spec.map(this::process).all();
+    }
+
+    @Override
+    public Flux<Order> streamAll(Sort sort) {
+        return db
+            .sql(createSelect(Pageable.unpaged(sort), null))
+            .filter(statement -> statement.fetchSize(EntityManager.STREAM_FETCH_SIZE))
+            .map(this::process)
+            .all();
+    }
+
+    @Override
+    public Flux<Order> findAll() {
+        return findAllBy(null);
+    }
+
+    @Override
+    public Mono<Order> findById(Long id) {
+        Comparison whereClause = Conditions.isEqual(entityTable.column("id"), Conditions.just(id.toString()));
+        return createQuery(null, whereClause).one();
+    }
+
+    @Override
+    public Mono<Order> findOneWithEagerRelationships(Long id) {
+        List<Expression> columns = OrderSqlHelper.getColumns(entityTable, EntityManager.ENTITY_ALIAS);
+        columns.addAll(CustomerSqlHelper.getColumns(customerTable, "customer"));
+        columns.addAll(OrderItemSqlHelper.getColumns(orderItemTable, "order_item"));
+        columns.addAll(DishSqlHelper.getColumns(dishTable, "dish"));
+        SelectFromAndJoinCondition selectFrom = Select.builder()
+            .select(columns)
+            .from(entityTable)
+            .leftOuterJoin(customerTable)
+            .on(Column.create("customer_id", entityTable))
+            .equals(Column.create("id", customerTable))
+            .leftOuterJoin(orderItemTable)
+            .on(Column.create("order_id", orderItemTable))
+            .equals(Column.create("id", entityTable))
+            .leftOuterJoin(dishTable)
+            .on(Column.create("dish_id", orderItemTable))
+            .equals(Column.create("id", dishTable));
+        Comparison whereClause = Conditions.isEqual(entityTable.column("id"), Conditions.just(id.toString()));
+        String select = entityManager.createSelect(selectFrom, Order.class, null, whereClause);
+        return db
+            .sql(select)
+            .map((row, metadata) -> Tuples.of(process(row, metadata), Optional.ofNullable(processOrderItem(row))))
+            .all()
+            .collectList()
+            .filter(rows -> !rows.isEmpty())
+            .map(this::assemble);
+    }
+
+    /**
+     * Maps the item of a row of the order/customer/items join, with its dish.
+     */
+    private OrderItem processOrderItem(Row row) {
+        OrderItem orderItem = orderItemMapper.apply(row, "order_item");
+        orderItem.setDish(orderItem.getDishId() != null ? dishMapper.apply(row, "dish") : null);
+        return orderItem;
+    }
+
+    /**
+     * Folds the rows of the order/customer/items join back into a single {@link Order}: every row repeats the order
+     * and its customer, and carries at most one item (none when the order has no items).
+     */
+    private Order assemble(List<Tuple2<Order, Optional<OrderItem>>> rows) {
+        Order order = rows.get(0).getT1();
+        order.setOrderItems(
+            rows
+                .stream()
+                .map(Tuple2::getT2)
+                .flatMap(Optional::stream)
+                .filter(orderItem -> orderItem.getId() != null)
+                .sorted(Comparator.comparing(OrderItem::getId))
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+        );
+        return order;
+    }
+
+    private Order process(Row row, RowMetadata metadata) {
+        Order entity = orderMapper.apply(row, "e");
+        entity.setCustomer(entity.getCustomerId() != null ? customerMapper.apply(row, "customer") : null);
+        return entity;
+    }
+
+    @Override
+    public <S extends Order> Mono<S> save(S entity) {
+        return super.save(entity);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ifood.app.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Table;
+
+public class OrderSqlHelper {
+
+    public static List<Expression> getColumns(Table table, String columnPrefix) {
+        List<Expression> columns = new ArrayList<>();
+        columns.add(Column.aliased("id", table, columnPrefix + "_id"));
+        columns.add(Column.aliased("order_date", table, columnPrefix + "_order_date"));
+        columns.add(Column.aliased("status", table, columnPrefix + "_status"));
+        columns.add(Column.aliased("version", table, columnPrefix + "_version"));
+
+        columns.add(Column.aliased("customer_id", table, columnPrefix + "_customer_id"));
+        return columns;
+    }
+}
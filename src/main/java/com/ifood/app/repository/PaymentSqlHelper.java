@@ -0,0 +1,19 @@
+package com.ifood.app.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Table;
+
+public class PaymentSqlHelper {
+
+    public static List<Expression> getColumns(Table table, String columnPrefix) {
+        List<Expression> columns = new ArrayList<>();
+        columns.add(Column.aliased("id", table, columnPrefix + "_id"));
+        columns.add(Column.aliased("payment_date", table, columnPrefix + "_payment_date"));
+        columns.add(Column.aliased("amount", table, columnPrefix + "_amount"));
+        columns.add(Column.aliased("payment_type", table, columnPrefix + "_payment_type"));
+        return columns;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Restaurant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC repository for the Restaurant entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface RestaurantRepository extends ReactiveCrudRepository<Restaurant, Long>, RestaurantRepositoryInternal {
+    Flux<Restaurant> findAllBy(Pageable pageable);
+
+    @Override
+    <S extends Restaurant> Mono<S> save(S entity);
+
+    @Override
+    Flux<Restaurant> findAll();
+
+    @Override
+    Mono<Restaurant> findById(Long id);
+
+    @Override
+    Mono<Void> deleteById(Long id);
+}
+
+interface RestaurantRepositoryInternal {
+    <S extends Restaurant> Mono<S> save(S entity);
+
+    Flux<Restaurant> findAllBy(Pageable pageable);
+
+    /**
+     * Streams all the restaurants with the given sort, fetching them from the database as they are consumed.
+     *
+     * @param sort how to sort the restaurants.
+     * @return all the restaurants.
+     */
+    Flux<Restaurant> streamAll(Sort sort);
+
+    Flux<Restaurant> findAll();
+
+    Mono<Restaurant> findById(Long id);
+}
@@ -0,0 +1,103 @@
+package com.ifood.app.repository;
+
+import com.ifood.app.domain.Restaurant;
+import com.ifood.app.repository.rowmapper.RestaurantRowMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.sql.Comparison;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.repository.support.MappingRelationalEntityInformation;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC custom repository implementation for the Restaurant entity.
+ */
+@SuppressWarnings("unused")
+class RestaurantRepositoryInternalImpl extends SimpleR2dbcRepository<Restaurant, Long> implements RestaurantRepositoryInternal {
+
+    private final DatabaseClient db;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final EntityManager entityManager;
+
+    private final RestaurantRowMapper restaurantMapper;
+
+    private static final Table entityTable = Table.aliased("restaurant", EntityManager.ENTITY_ALIAS);
+
+    public RestaurantRepositoryInternalImpl(
+        R2dbcEntityTemplate template,
+        EntityManager entityManager,
+        RestaurantRowMapper restaurantMapper,
+        R2dbcEntityOperations entityOperations,
+        R2dbcConverter converter
+    ) {
+        super(
+            new MappingRelationalEntityInformation(converter.getMappingContext().getRequiredPersistentEntity(Restaurant.class)),
+            entityOperations,
+            converter
+        );
+        this.db = template.getDatabaseClient();
+        this.r2dbcEntityTemplate = template;
+        this.entityManager = entityManager;
+        this.restaurantMapper = restaurantMapper;
+    }
+
+    @Override
+    public Flux<Restaurant> findAllBy(Pageable pageable) {
+        return createQuery(pageable, null).all();
+    }
+
+    RowsFetchSpec<Restaurant> createQuery(Pageable pageable, Condition whereClause) {
+        return db.sql(createSelect(pageable, whereClause)).map(this::process);
+    }
+
+    private String createSelect(Pageable pageable, Condition whereClause) {
+        List<Expression> columns = RestaurantSqlHelper.getColumns(entityTable, EntityManager.ENTITY_ALIAS);
+        SelectFromAndJoin selectFrom = Select.builder().select(columns).from(entityTable);
+        return entityManager.createSelect(selectFrom, Restaurant.class, pageable, whereClause);
+    }
+
+    @Override
+    public Flux<Restaurant> streamAll(Sort sort) {
+        return db
+            .sql(createSelect(Pageable.unpaged(sort), null))
+            .filter(statement -> statement.fetchSize(EntityManager.STREAM_FETCH_SIZE))
+            .map(this::process)
+            .all();
+    }
+
+    @Override
+    public Flux<Restaurant> findAll() {
+        return findAllBy(null);
+    }
+
+    @Override
+    public Mono<Restaurant> findById(Long id) {
+        Comparison whereClause = Conditions.isEqual(entityTable.column("id"), Conditions.just(id.toString()));
+        return createQuery(null, whereClause).one();
+    }
+
+    private Restaurant process(Row row, RowMetadata metadata) {
+        Restaurant entity = restaurantMapper.apply(row, "e");
+        return entity;
+    }
+
+    @Override
+    public <S extends Restaurant> Mono<S> save(S entity) {
+        return super.save(entity);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ifood.app.repository;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads the planner statistics the database keeps about the entity tables.
+ */
+@Repository
+public class TableStatisticsRepository {
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final boolean postgres;
+
+    public TableStatisticsRepository(R2dbcEntityTemplate r2dbcEntityTemplate, R2dbcDialect dialect) {
+        this.r2dbcEntityTemplate = r2dbcEntityTemplate;
+        this.postgres = dialect instanceof PostgresDialect;
+    }
+
+    /**
+     * Estimate the number of rows of the table backing the given entity, as last computed by {@code ANALYZE} or
+     * autovacuum, without scanning the table.
+     *
+     * @param entityType the entity type which holds the table name.
+     * @return the estimated row count, or empty if the database has no estimate for the table.
+     */
+    public Mono<Long> estimateRowCount(Class<?> entityType) {
+        if (!postgres) {
+            return Mono.empty();
+        }
+        RelationalPersistentEntity<?> entity = r2dbcEntityTemplate
+            .getConverter()
+            .getMappingContext()
+            .getRequiredPersistentEntity(entityType);
+        return r2dbcEntityTemplate
+            .getDatabaseClient()
+            .sql("SELECT reltuples::bigint AS estimate FROM pg_class WHERE oid = to_regclass(:table)")
+            .bind("table", entity.getTableName().getReference())
+            .map((row, metadata) -> row.get("estimate", Long.class))
+            .one()
+            // reltuples is -1 for a table that has never been analyzed
+            .filter(estimate -> estimate >= 0);
+    }
+}
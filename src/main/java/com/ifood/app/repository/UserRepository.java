@@ -1,4 +1,183 @@
 package com.ifood.app.repository;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+import com.ifood.app.domain.User;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 /**
- * Spring Data Unknown reactive repository for the {@link User} entity.
+ * Spring Data R2DBC repository for the {@link User} entity.
+ * <p>
+ * The authorities of a user live in the {@code jhi_user_authority} link table, so every lookup and write goes
+ * through {@link UserRepositoryInternal}, which loads and stores them together with the user row.
  */
+@Repository
+public interface UserRepository extends ReactiveCrudRepository<User, Long>, UserRepositoryInternal {
+    @Override
+    Mono<User> findOneByActivationKey(String activationKey);
+
+    @Override
+    Mono<User> findOneByResetKey(String resetKey);
+
+    @Override
+    Mono<User> findOneByEmailIgnoreCase(String email);
+
+    @Override
+    Mono<User> findOneByLogin(String login);
+
+    @Override
+    Mono<User> findById(Long id);
+
+    @Override
+    Flux<User> findAll();
+
+    @Override
+    Flux<User> findAll(Sort sort);
+
+    @Override
+    <S extends User> Mono<S> save(S user);
+
+    @Override
+    Mono<Void> delete(User user);
+}
+
+interface UserRepositoryInternal {
+    Mono<User> findOneByActivationKey(String activationKey);
+
+    Mono<User> findOneByResetKey(String resetKey);
+
+    Mono<User> findOneByEmailIgnoreCase(String email);
+
+    Mono<User> findOneByLogin(String login);
+
+    Mono<User> findById(Long id);
+
+    Flux<User> findAll();
+
+    Flux<User> findAll(Sort sort);
+
+    <S extends User> Mono<S> save(S user);
+
+    Mono<Void> delete(User user);
+}
+
+class UserRepositoryInternalImpl implements UserRepositoryInternal {
+
+    private static final String USER_AUTHORITY_TABLE = "jhi_user_authority";
+
+    private final DatabaseClient db;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    public UserRepositoryInternalImpl(R2dbcEntityTemplate r2dbcEntityTemplate) {
+        this.db = r2dbcEntityTemplate.getDatabaseClient();
+        this.r2dbcEntityTemplate = r2dbcEntityTemplate;
+    }
+
+    @Override
+    public Mono<User> findOneByActivationKey(String activationKey) {
+        return findOneWithAuthorities(query(where("activation_key").is(activationKey)));
+    }
+
+    @Override
+    public Mono<User> findOneByResetKey(String resetKey) {
+        return findOneWithAuthorities(query(where("reset_key").is(resetKey)));
+    }
+
+    @Override
+    public Mono<User> findOneByEmailIgnoreCase(String email) {
+        return findOneWithAuthorities(query(where("email").is(email.toLowerCase())));
+    }
+
+    @Override
+    public Mono<User> findOneByLogin(String login) {
+        return findOneWithAuthorities(query(where("login").is(login)));
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return findOneWithAuthorities(query(where("id").is(id)));
+    }
+
+    @Override
+    public Flux<User> findAll() {
+        return findAll(Sort.unsorted());
+    }
+
+    @Override
+    public Flux<User> findAll(Sort sort) {
+        Mono<Map<Long, Set<String>>> authoritiesByUser = db
+            .sql("SELECT user_id, authority_name FROM " + USER_AUTHORITY_TABLE)
+            .map((row, metadata) -> Map.entry(row.get("user_id", Long.class), row.get("authority_name", String.class)))
+            .all()
+            .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.mapping(Map.Entry::getValue, Collectors.toSet())));
+        return authoritiesByUser.flatMapMany(authorities ->
+            r2dbcEntityTemplate
+                .select(User.class)
+                .matching(Query.empty().sort(sort))
+                .all()
+                .doOnNext(user -> user.setAuthorities(new HashSet<>(authorities.getOrDefault(user.getId(), Set.of()))))
+        );
+    }
+
+    @Override
+    public <S extends User> Mono<S> save(S user) {
+        Mono<S> saved = user.getId() == null ? r2dbcEntityTemplate.insert(user) : r2dbcEntityTemplate.update(user);
+        return saved.flatMap(savedUser -> saveAuthorities(savedUser).thenReturn(savedUser));
+    }
+
+    @Override
+    public Mono<Void> delete(User user) {
+        return deleteAuthorities(user.getId()).then(
+            r2dbcEntityTemplate.delete(User.class).matching(query(where("id").is(user.getId()))).all().then()
+        );
+    }
+
+    private Mono<User> findOneWithAuthorities(Query query) {
+        return r2dbcEntityTemplate
+            .selectOne(query, User.class)
+            .flatMap(user ->
+                findAuthorities(user.getId()).map(authorities -> {
+                    user.setAuthorities(new HashSet<>(authorities));
+                    return user;
+                })
+            );
+    }
+
+    private Mono<List<String>> findAuthorities(Long userId) {
+        return db
+            .sql("SELECT authority_name FROM " + USER_AUTHORITY_TABLE + " WHERE user_id = :userId")
+            .bind("userId", userId)
+            .map((row, metadata) -> row.get("authority_name", String.class))
+            .all()
+            .collectList();
+    }
+
+    private Mono<Void> saveAuthorities(User user) {
+        return deleteAuthorities(user.getId()).thenMany(
+            Flux.fromIterable(user.getAuthorities()).concatMap(authority ->
+                db
+                    .sql("INSERT INTO " + USER_AUTHORITY_TABLE + " (user_id, authority_name) VALUES (:userId, :authority)")
+                    .bind("userId", user.getId())
+                    .bind("authority", authority)
+                    .then()
+            )
+        ).then();
+    }
+
+    private Mono<Void> deleteAuthorities(Long userId) {
+        return db.sql("DELETE FROM " + USER_AUTHORITY_TABLE + " WHERE user_id = :userId").bind("userId", userId).then();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ifood.app.repository.rowmapper;
+
+import com.ifood.app.domain.Customer;
+import io.r2dbc.spi.Row;
+import java.util.function.BiFunction;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converter between {@link Row} to {@link Customer}, with proper type conversions.
+ */
+@Service
+public class CustomerRowMapper implements BiFunction<Row, String, Customer> {
+
+    private final ColumnConverter converter;
+
+    public CustomerRowMapper(ColumnConverter converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * Take a {@link Row} and a column prefix, and extract all the fields.
+     * @return the {@link Customer} stored in the database.
+     */
+    @Override
+    public Customer apply(Row row, String prefix) {
+        Customer entity = new Customer();
+        entity.setId(converter.fromRow(row, prefix + "_id", Long.class));
+        entity.setName(converter.fromRow(row, prefix + "_name", String.class));
+        entity.setEmail(converter.fromRow(row, prefix + "_email", String.class));
+        entity.setPhoneNumber(converter.fromRow(row, prefix + "_phone_number", String.class));
+        entity.setAddress(converter.fromRow(row, prefix + "_address", String.class));
+        return entity;
+    }
+}
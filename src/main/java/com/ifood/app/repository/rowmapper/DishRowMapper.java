@@ -0,0 +1,36 @@
+package com.ifood.app.repository.rowmapper;
+
+import com.ifood.app.domain.Dish;
+import io.r2dbc.spi.Row;
+import java.math.BigDecimal;
+import java.util.function.BiFunction;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converter between {@link Row} to {@link Dish}, with proper type conversions.
+ */
+@Service
+public class DishRowMapper implements BiFunction<Row, String, Dish> {
+
+    private final ColumnConverter converter;
+
+    public DishRowMapper(ColumnConverter converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * Take a {@link Row} and a column prefix, and extract all the fields.
+     * @return the {@link Dish} stored in the database.
+     */
+    @Override
+    public Dish apply(Row row, String prefix) {
+        Dish entity = new Dish();
+        entity.setId(converter.fromRow(row, prefix + "_id", Long.class));
+        entity.setName(converter.fromRow(row, prefix + "_name", String.class));
+        entity.setPrice(converter.fromRow(row, prefix + "_price", BigDecimal.class));
+        entity.setDescription(converter.fromRow(row, prefix + "_description", String.class));
+        entity.setSpicyLevel(converter.fromRow(row, prefix + "_spicy_level", Integer.class));
+        entity.setMenuId(converter.fromRow(row, prefix + "_menu_id", Long.class));
+        return entity;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ifood.app.repository.rowmapper;
+
+import com.ifood.app.domain.Order;
+import com.ifood.app.domain.enumeration.OrderStatus;
+import io.r2dbc.spi.Row;
+import java.time.Instant;
+import java.util.function.BiFunction;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converter between {@link Row} to {@link Order}, with proper type conversions.
+ */
+@Service
+public class OrderRowMapper implements BiFunction<Row, String, Order> {
+
+    private final ColumnConverter converter;
+
+    public OrderRowMapper(ColumnConverter converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * Take a {@link Row} and a column prefix, and extract all the fields.
+     * @return the {@link Order} stored in the database.
+     */
+    @Override
+    public Order apply(Row row, String prefix) {
+        Order entity = new Order();
+        entity.setId(converter.fromRow(row, prefix + "_id", Long.class));
+        entity.setOrderDate(converter.fromRow(row, prefix + "_order_date", Instant.class));
+        entity.setStatus(converter.fromRow(row, prefix + "_status", OrderStatus.class));
+        entity.setVersion(converter.fromRow(row, prefix + "_version", Long.class));
+        entity.setCustomerId(converter.fromRow(row, prefix + "_customer_id", Long.class));
+        return entity;
+    }
+}
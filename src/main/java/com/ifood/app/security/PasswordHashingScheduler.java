@@ -0,0 +1,106 @@
+package com.ifood.app.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Scheduler dedicated to password hashing, so that a burst of logins or registrations only competes with itself.
+ * <p>
+ * Hashes run on a fixed number of threads, by default one per CPU since hashing is CPU-bound, and wait in a bounded
+ * queue: once it is full, new hashes are rejected with a {@link RejectedExecutionException} right away instead of
+ * queueing for longer than any client would wait. The queue depth, the hash durations and the rejections are exposed
+ * as meters.
+ */
+public class PasswordHashingScheduler implements DisposableBean {
+
+    public static final String QUEUED_METER_NAME = "security.password-hashing.queued";
+    public static final String DURATION_METER_NAME = "security.password-hashing.duration";
+    public static final String REJECTED_METER_NAME = "security.password-hashing.rejected";
+    public static final String OPERATION_DIMENSION = "operation";
+
+    private final ThreadPoolExecutor executor;
+
+    private final Scheduler scheduler;
+
+    private final Timer encodeTimer;
+
+    private final Timer matchesTimer;
+
+    public PasswordHashingScheduler(int threads, int queueCapacity, MeterRegistry registry) {
+        Counter rejectedCounter = Counter.builder(REJECTED_METER_NAME)
+            .description("Password hashes rejected because the hashing queue was full")
+            .register(registry);
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("password-hashing-"),
+            (task, executor) -> {
+                rejectedCounter.increment();
+                throw new RejectedExecutionException("Too many password hashes in progress");
+            }
+        );
+        this.scheduler = Schedulers.fromExecutorService(executor, "password-hashing");
+        Gauge.builder(QUEUED_METER_NAME, executor, pool -> pool.getQueue().size())
+            .description("Password hashes waiting for a hashing thread")
+            .register(registry);
+        this.encodeTimer = hashTimerForOperation("encode").register(registry);
+        this.matchesTimer = hashTimerForOperation("matches").register(registry);
+    }
+
+    private Timer.Builder hashTimerForOperation(String operation) {
+        return Timer.builder(DURATION_METER_NAME).description("Time spent hashing passwords").tag(OPERATION_DIMENSION, operation);
+    }
+
+    /**
+     * Get the scheduler to publish password hashing on.
+     *
+     * @return the scheduler.
+     */
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Wrap a password encoder so that the duration of its hashes is recorded.
+     *
+     * @param passwordEncoder the password encoder to wrap.
+     * @return the timed password encoder.
+     */
+    public PasswordEncoder timed(PasswordEncoder passwordEncoder) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return passwordEncoder.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
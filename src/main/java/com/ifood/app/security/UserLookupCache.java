@@ -0,0 +1,144 @@
+package com.ifood.app.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ifood.app.config.ApplicationProperties;
+import com.ifood.app.domain.User;
+import com.ifood.app.repository.UserRepository;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of the {@link User}s, with their authorities, looked up on each login and each {@code GET /api/account}.
+ * <p>
+ * Users are cached by lowercase login and by lowercase email, for {@code application.user-cache.ttl} at most, within
+ * {@code application.user-cache.maximum-size}. Concurrent lookups of the same user share a single load, and users that
+ * do not exist are not cached. Every write of a user must {@link #evict(User) evict} it: the cache of each instance
+ * only sees the writes made through that instance, the time to live bounding how long the others serve stale users.
+ * <p>
+ * The keys of the cached users are indexed by user id, so that evicting a user does not go through the others. A user
+ * being loaded when another is evicted may have been read before the write, under a login or email the index does not
+ * know yet: it is served to the lookups waiting for it, but not kept.
+ */
+@Component
+public class UserLookupCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserLookupCache.class);
+
+    private static final String LOGIN_KEY_PREFIX = "login:";
+
+    private static final String EMAIL_KEY_PREFIX = "email:";
+
+    private final UserRepository userRepository;
+
+    private final AsyncCache<String, User> users;
+
+    private final ConcurrentMap<Long, Set<String>> keysByUserId = new ConcurrentHashMap<>();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserLookupCache(UserRepository userRepository, ApplicationProperties applicationProperties) {
+        this.userRepository = userRepository;
+        ApplicationProperties.UserCache userCache = applicationProperties.getUserCache();
+        this.users = Caffeine.newBuilder()
+            .maximumSize(userCache.getMaximumSize())
+            .expireAfterWrite(userCache.getTtl())
+            .<String, User>removalListener(this::unindex)
+            .buildAsync();
+    }
+
+    /**
+     * Get the user with the given login, with its authorities.
+     *
+     * @param login the login of the user, in any case.
+     * @return the user, or empty if there is none.
+     */
+    public Mono<User> findOneByLogin(String login) {
+        String lowercaseLogin = login.toLowerCase(Locale.ENGLISH);
+        return find(LOGIN_KEY_PREFIX + lowercaseLogin, () -> userRepository.findOneByLogin(lowercaseLogin));
+    }
+
+    /**
+     * Get the user with the given email, with its authorities.
+     *
+     * @param email the email of the user, in any case.
+     * @return the user, or empty if there is none.
+     */
+    public Mono<User> findOneByEmail(String email) {
+        return find(EMAIL_KEY_PREFIX + email.toLowerCase(Locale.ENGLISH), () -> userRepository.findOneByEmailIgnoreCase(email));
+    }
+
+    private Mono<User> find(String key, Supplier<Mono<User>> loader) {
+        // not cancelled with the lookup, as other lookups of the user may be waiting for it
+        return Mono.fromFuture(() -> users.get(key, (k, executor) -> load(k, loader, executor)), true);
+    }
+
+    private CompletableFuture<User> load(String key, Supplier<Mono<User>> loader, Executor executor) {
+        log.debug("Loading User : {}", key);
+        long evictionsBefore = evictions.get();
+        CompletableFuture<User> load = loader.get().doOnNext(user -> index(user, key)).toFuture();
+        AtomicBoolean returned = new AtomicBoolean();
+        load.whenComplete((user, error) -> {
+            if (evictions.get() != evictionsBefore) {
+                // a load completing before it is returned is still being added, and cannot be removed from here
+                Runnable remove = () -> users.asMap().remove(key, load);
+                if (returned.get()) {
+                    remove.run();
+                } else {
+                    executor.execute(remove);
+                }
+            }
+        });
+        returned.set(true);
+        return load;
+    }
+
+    private void index(User user, String key) {
+        keysByUserId.computeIfAbsent(user.getId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private void unindex(String key, User user, RemovalCause cause) {
+        // the user may have been loaded again under that key since, and indexed it again
+        if (user == null || users.getIfPresent(key) != null) {
+            return;
+        }
+        keysByUserId.computeIfPresent(user.getId(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * Evict the given user, under all its logins and emails, past and present.
+     *
+     * @param user the user written.
+     */
+    public void evict(User user) {
+        evictions.incrementAndGet();
+        Set<String> keys = new HashSet<>();
+        if (user.getLogin() != null) {
+            keys.add(LOGIN_KEY_PREFIX + user.getLogin().toLowerCase(Locale.ENGLISH));
+        }
+        if (user.getEmail() != null) {
+            keys.add(EMAIL_KEY_PREFIX + user.getEmail().toLowerCase(Locale.ENGLISH));
+        }
+        Set<String> indexedKeys = user.getId() != null ? keysByUserId.remove(user.getId()) : null;
+        if (indexedKeys != null) {
+            keys.addAll(indexedKeys);
+        }
+        users.synchronous().invalidateAll(keys);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ifood.app.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveJwtDecoder} remembering the tokens it successfully decoded until they expire.
+ * <p>
+ * The resource server and {@link JWTRelayGatewayFilterFactory} both decode the token of each request, and clients reuse
+ * one token for many requests: only the first decode of a token verifies its signature and parses its claims, the
+ * following ones are a lookup. Each token is remembered until its {@code exp} claim, tokens without one are not
+ * remembered, and tokens that fail to decode go through the delegate decoder every time, so that they are validated and
+ * counted as before.
+ */
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+
+    private final Cache<String, Jwt> jwts;
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize) {
+        this(delegate, maximumSize, Clock.systemUTC());
+    }
+
+    CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize, Clock clock) {
+        this.delegate = delegate;
+        this.jwts = Caffeine.newBuilder().maximumSize(maximumSize).expireAfter(new UntilExpiresAt(clock)).build();
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        Jwt jwt = jwts.getIfPresent(token);
+        if (jwt != null) {
+            return Mono.just(jwt);
+        }
+        return delegate
+            .decode(token)
+            .doOnNext(decoded -> {
+                if (decoded.getExpiresAt() != null) {
+                    jwts.put(token, decoded);
+                }
+            });
+    }
+
+    private record UntilExpiresAt(Clock clock) implements Expiry<String, Jwt> {
+        @Override
+        public long expireAfterCreate(String token, Jwt jwt, long currentTime) {
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(jwt.getExpiresAt().toEpochMilli() - clock.millis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.ifood.app.security.jwt;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ifood.app.management.SecurityMetersService;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveJwtDecoder} for the HS512-signed tokens issued by this application.
+ * <p>
+ * The compact serialization is parsed straight from the bytes of the token, the signature is checked with a
+ * {@link Mac} reused by each thread, and the claims are validated like the default Spring Security validators do, with
+ * the same 60 seconds of clock skew. A rejected token is reported to {@link SecurityMetersService} with its
+ * {@link Failure} and signalled as an {@link InvalidJwtException}, which has a constant message and no stack trace.
+ */
+public class HS512JwtDecoder implements ReactiveJwtDecoder {
+
+    /**
+     * Why a token was rejected.
+     */
+    public enum Failure {
+        MALFORMED("Malformed token"),
+        UNSUPPORTED("Unsupported token"),
+        INVALID_SIGNATURE("Invalid token signature"),
+        EXPIRED("Expired token"),
+        NOT_YET_VALID("Token not yet valid");
+
+        private final String message;
+
+        Failure(String message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * Thrown when a token is rejected.
+     */
+    public static class InvalidJwtException extends BadJwtException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Failure failure;
+
+        InvalidJwtException(Failure failure) {
+            super(failure.message);
+            this.failure = failure;
+        }
+
+        public Failure getFailure() {
+            return failure;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // rejecting a token is routine, the stack trace would only cost
+            return this;
+        }
+    }
+
+    private static final String ALGORITHM = "HS512";
+
+    private static final String MAC_ALGORITHM = "HmacSHA512";
+
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+
+    private static final ObjectReader JSON_OBJECT_READER = new ObjectMapper().readerFor(new TypeReference<Map<String, Object>>() {});
+
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    private static final Converter<Map<String, Object>, Map<String, Object>> CLAIM_SET_CONVERTER =
+        MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
+
+    private final ThreadLocal<Mac> macs;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    public HS512JwtDecoder(SecretKey secretKey, SecurityMetersService metersService) {
+        this(secretKey, metersService, Clock.systemUTC());
+    }
+
+    HS512JwtDecoder(SecretKey secretKey, SecurityMetersService metersService, Clock clock) {
+        // fail on an unusable key now rather than on the first request
+        newMac(secretKey);
+        this.macs = ThreadLocal.withInitial(() -> newMac(secretKey));
+        this.metersService = metersService;
+        this.clock = clock;
+    }
+
+    private static Mac newMac(SecretKey secretKey) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot verify " + ALGORITHM + " signatures with the configured key", e);
+        }
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) {
+        try {
+            return Mono.just(verify(token));
+        } catch (InvalidJwtException e) {
+            switch (e.getFailure()) {
+                case MALFORMED -> metersService.trackTokenMalformed();
+                case UNSUPPORTED -> metersService.trackTokenUnsupported();
+                case INVALID_SIGNATURE -> metersService.trackTokenInvalidSignature();
+                case EXPIRED -> metersService.trackTokenExpired();
+                case NOT_YET_VALID -> metersService.trackTokenNotYetValid();
+            }
+            return Mono.error(e);
+        }
+    }
+
+    Jwt verify(String token) {
+        int headerEnd = token != null ? token.indexOf('.') : -1;
+        int payloadEnd = headerEnd >= 0 ? token.indexOf('.', headerEnd + 1) : -1;
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new InvalidJwtException(Failure.MALFORMED);
+        }
+        // base64url is ASCII, any other character turns into '?' and fails to decode
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        Map<String, Object> headers = readJsonObject(bytes, 0, headerEnd);
+        if (!ALGORITHM.equals(headers.get("alg")) || headers.containsKey("crit")) {
+            throw new InvalidJwtException(Failure.UNSUPPORTED);
+        }
+
+        Mac mac = macs.get();
+        mac.update(bytes, 0, payloadEnd);
+        if (!MessageDigest.isEqual(mac.doFinal(), decodeBase64(bytes, payloadEnd + 1, bytes.length).array())) {
+            throw new InvalidJwtException(Failure.INVALID_SIGNATURE);
+        }
+
+        Map<String, Object> claims;
+        try {
+            claims = CLAIM_SET_CONVERTER.convert(readJsonObject(bytes, headerEnd + 1, payloadEnd));
+        } catch (RuntimeException e) {
+            // a registered claim of the wrong type
+            throw new InvalidJwtException(Failure.MALFORMED);
+        }
+        if (claims == null || claims.isEmpty()) {
+            throw new InvalidJwtException(Failure.MALFORMED);
+        }
+        Instant now = clock.instant();
+        Instant expiresAt = (Instant) claims.get(JwtClaimNames.EXP);
+        Instant notBefore = (Instant) claims.get(JwtClaimNames.NBF);
+        if (expiresAt != null && now.minus(CLOCK_SKEW).isAfter(expiresAt)) {
+            throw new InvalidJwtException(Failure.EXPIRED);
+        }
+        if (notBefore != null && now.plus(CLOCK_SKEW).isBefore(notBefore)) {
+            throw new InvalidJwtException(Failure.NOT_YET_VALID);
+        }
+        try {
+            return Jwt.withTokenValue(token).headers(h -> h.putAll(headers)).claims(c -> c.putAll(claims)).build();
+        } catch (IllegalArgumentException e) {
+            // e.g. issued after it expires
+            throw new InvalidJwtException(Failure.MALFORMED);
+        }
+    }
+
+    private static Map<String, Object> readJsonObject(byte[] bytes, int from, int to) {
+        ByteBuffer json = decodeBase64(bytes, from, to);
+        try {
+            Map<String, Object> object = JSON_OBJECT_READER.readValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+            if (object == null) {
+                throw new InvalidJwtException(Failure.MALFORMED);
+            }
+            return object;
+        } catch (IOException e) {
+            throw new InvalidJwtException(Failure.MALFORMED);
+        }
+    }
+
+    private static ByteBuffer decodeBase64(byte[] bytes, int from, int to) {
+        try {
+            return BASE64_URL_DECODER.decode(ByteBuffer.wrap(bytes, from, to - from));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidJwtException(Failure.MALFORMED);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ifood.app.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link TokenBucketStore} keeping the buckets of this instance in memory.
+ * <p>
+ * Each bucket is an {@link AtomicLong} holding its packed {@link TokenBucket} state, updated with a compare-and-set
+ * loop, so taking tokens never blocks. Buckets left unused for {@code idleTimeout} are dropped, which is harmless once
+ * they would have been full again, and the least recently used ones are dropped beyond {@code maximumSize}.
+ */
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    private final LongSupplier clock;
+
+    public InMemoryTokenBucketStore(long maximumSize, Duration idleTimeout) {
+        this(maximumSize, idleTimeout, monotonicMillis());
+    }
+
+    InMemoryTokenBucketStore(long maximumSize, Duration idleTimeout, LongSupplier clock) {
+        this.buckets = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterAccess(idleTimeout).build();
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<RateLimitResult> tryConsume(String key, RateLimit limit, long tokens) {
+        return Mono.just(consume(key, limit, tokens));
+    }
+
+    RateLimitResult consume(String key, RateLimit limit, long tokens) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(TokenBucket.full(limit, now)));
+        while (true) {
+            long state = bucket.get();
+            long refilled = TokenBucket.refill(state, limit, now);
+            if (TokenBucket.tokens(refilled) < tokens) {
+                // the refill is not stored: whoever takes tokens next computes it again
+                Duration retryAfter = Duration.ofMillis(TokenBucket.millisUntil(refilled, limit, tokens, now));
+                return new RateLimitResult(false, TokenBucket.tokens(refilled), retryAfter);
+            }
+            long consumed = refilled - tokens;
+            if (bucket.compareAndSet(state, consumed)) {
+                return new RateLimitResult(true, TokenBucket.tokens(consumed), Duration.ZERO);
+            }
+        }
+    }
+
+    private static LongSupplier monotonicMillis() {
+        long epoch = System.nanoTime();
+        return () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - epoch);
+    }
+}
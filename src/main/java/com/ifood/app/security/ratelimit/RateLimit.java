@@ -0,0 +1,58 @@
+package com.ifood.app.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * The limit enforced by a token bucket: it holds up to {@code capacity} tokens, the size of the bursts it lets through,
+ * and gets {@code replenishRate} tokens back every {@code replenishPeriod}, the sustained rate it lets through.
+ */
+public final class RateLimit {
+
+    private final long capacity;
+
+    private final long replenishRate;
+
+    private final long replenishPeriodMillis;
+
+    public RateLimit(long capacity, long replenishRate, Duration replenishPeriod) {
+        if (capacity <= 0 || capacity > TokenBucket.MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + TokenBucket.MAXIMUM_CAPACITY + ": " + capacity);
+        }
+        if (replenishRate <= 0) {
+            throw new IllegalArgumentException("Replenish rate must be positive: " + replenishRate);
+        }
+        if (replenishPeriod.toMillis() <= 0) {
+            throw new IllegalArgumentException("Replenish period must be at least 1ms: " + replenishPeriod);
+        }
+        this.capacity = capacity;
+        this.replenishRate = replenishRate;
+        this.replenishPeriodMillis = replenishPeriod.toMillis();
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getReplenishRate() {
+        return replenishRate;
+    }
+
+    public long getReplenishPeriodMillis() {
+        return replenishPeriodMillis;
+    }
+
+    /**
+     * The time it takes to replenish the given number of tokens.
+     *
+     * @param tokens the number of tokens.
+     * @return the time in milliseconds, rounded up.
+     */
+    public long millisToReplenish(long tokens) {
+        return (tokens * replenishPeriodMillis + replenishRate - 1) / replenishRate;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit{capacity=" + capacity + ", replenishRate=" + replenishRate + ", replenishPeriod=" + replenishPeriodMillis + "ms}";
+    }
+}
@@ -0,0 +1,47 @@
+package com.ifood.app.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * The outcome of taking tokens from a bucket.
+ */
+public final class RateLimitResult {
+
+    private final boolean allowed;
+
+    private final long remainingTokens;
+
+    private final Duration retryAfter;
+
+    public RateLimitResult(boolean allowed, long remainingTokens, Duration retryAfter) {
+        this.allowed = allowed;
+        this.remainingTokens = remainingTokens;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return whether the tokens were taken.
+     */
+    public boolean isAllowed() {
+        return allowed;
+    }
+
+    /**
+     * @return the tokens left in the bucket.
+     */
+    public long getRemainingTokens() {
+        return remainingTokens;
+    }
+
+    /**
+     * @return how long to wait until the bucket holds the tokens requested, zero when they were taken.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitResult{allowed=" + allowed + ", remainingTokens=" + remainingTokens + ", retryAfter=" + retryAfter + "}";
+    }
+}
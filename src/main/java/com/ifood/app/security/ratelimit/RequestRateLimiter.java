@@ -0,0 +1,117 @@
+package com.ifood.app.security.ratelimit;
+
+import com.ifood.app.security.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.InetSocketAddress;
+import java.util.function.Function;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate limits requests with a token bucket per rule and per user, or per client address for anonymous requests.
+ * <p>
+ * The client address is the remote address of the request: the address of the connection, unless
+ * {@code server.forward-headers-strategy} trusts the headers of the load balancer in front of the gateway, as the
+ * {@code prod} profile does.
+ * <p>
+ * Requests going over the limit are answered with a 429 and a {@code Retry-After} header. Requests are counted under
+ * {@value #REQUESTS_METER_NAME}, tagged with their rule and whether they were allowed or rejected.
+ */
+@Component
+public class RequestRateLimiter {
+
+    public static final String REQUESTS_METER_NAME = "security.rate-limit.requests";
+
+    public static final String RULE_DIMENSION = "rule";
+
+    public static final String RESULT_DIMENSION = "result";
+
+    private final TokenBucketStore tokenBucketStore;
+
+    private final MeterRegistry registry;
+
+    public RequestRateLimiter(TokenBucketStore tokenBucketStore, MeterRegistry registry) {
+        this.tokenBucketStore = tokenBucketStore;
+        this.registry = registry;
+    }
+
+    /**
+     * Create the limiter of a rule, registering its meters.
+     *
+     * @param name the name of the rule, which buckets are not shared with other rules.
+     * @param limit the limit of each bucket of the rule.
+     * @return the limiter.
+     */
+    public Rule rule(String name, RateLimit limit) {
+        return new Rule(name, limit);
+    }
+
+    /**
+     * The limiter of a rule, holding its limit and meters.
+     */
+    public final class Rule {
+
+        private final String name;
+
+        private final RateLimit limit;
+
+        private final Counter allowed;
+
+        private final Counter rejected;
+
+        private Rule(String name, RateLimit limit) {
+            this.name = name;
+            this.limit = limit;
+            this.allowed = Counter.builder(REQUESTS_METER_NAME)
+                .description("Requests allowed by the rate limiter")
+                .tags(RULE_DIMENSION, name, RESULT_DIMENSION, "allowed")
+                .register(registry);
+            this.rejected = Counter.builder(REQUESTS_METER_NAME)
+                .description("Requests rejected by the rate limiter")
+                .tags(RULE_DIMENSION, name, RESULT_DIMENSION, "rejected")
+                .register(registry);
+        }
+
+        /**
+         * Let the request through if its bucket holds a token, or answer it with a 429.
+         *
+         * @param exchange the request.
+         * @param chain the rest of the filter chain.
+         * @return the completion of the request.
+         */
+        public Mono<Void> filter(ServerWebExchange exchange, Function<ServerWebExchange, Mono<Void>> chain) {
+            return SecurityUtils.getCurrentUserLogin()
+                .map(login -> name + " user:" + login)
+                .switchIfEmpty(Mono.fromSupplier(() -> name + " ip:" + clientAddress(exchange)))
+                .flatMap(key -> tokenBucketStore.tryConsume(key, limit, 1))
+                .flatMap(result -> {
+                    if (result.isAllowed()) {
+                        allowed.increment();
+                        return chain.apply(exchange);
+                    }
+                    rejected.increment();
+                    return tooManyRequests(exchange.getResponse(), result);
+                });
+        }
+
+        private Mono<Void> tooManyRequests(ServerHttpResponse response, RateLimitResult result) {
+            long retryAfterMillis = result.getRetryAfter().toMillis();
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString((retryAfterMillis + 999) / 1000));
+            return response.setComplete();
+        }
+    }
+
+    private static String clientAddress(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+    }
+}
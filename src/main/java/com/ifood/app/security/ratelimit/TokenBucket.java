@@ -0,0 +1,87 @@
+package com.ifood.app.security.ratelimit;
+
+/**
+ * Token bucket arithmetic on a state packed in a single {@code long}, so that a bucket can be updated with one
+ * compare-and-set.
+ * <p>
+ * The low {@value #TOKEN_BITS} bits hold the tokens left in the bucket, the high bits the time of its last refill in
+ * milliseconds, relative to an epoch chosen by the store. Tokens are replenished whole: the time of the last refill
+ * only moves forward by the time the tokens added took to replenish, so that fractions of a token are not lost.
+ */
+public final class TokenBucket {
+
+    static final int TOKEN_BITS = 22;
+
+    /**
+     * The largest capacity a bucket may have.
+     */
+    public static final long MAXIMUM_CAPACITY = (1L << TOKEN_BITS) - 1;
+
+    private TokenBucket() {}
+
+    /**
+     * The state of a full bucket.
+     *
+     * @param limit the limit of the bucket.
+     * @param nowMillis the current time.
+     * @return the state.
+     */
+    public static long full(RateLimit limit, long nowMillis) {
+        return pack(nowMillis, limit.getCapacity());
+    }
+
+    /**
+     * The state of a bucket once refilled with the tokens replenished since its last refill.
+     *
+     * @param state the state of the bucket.
+     * @param limit the limit of the bucket.
+     * @param nowMillis the current time.
+     * @return the refilled state, which may be the given one.
+     */
+    public static long refill(long state, RateLimit limit, long nowMillis) {
+        long tokens = tokens(state);
+        long refilledAt = refilledAt(state);
+        long elapsed = nowMillis - refilledAt;
+        if (elapsed <= 0) {
+            return state;
+        }
+        long missing = limit.getCapacity() - tokens;
+        if (missing <= 0 || elapsed >= limit.millisToReplenish(missing)) {
+            return full(limit, nowMillis);
+        }
+        long added = Math.min(missing, (elapsed * limit.getReplenishRate()) / limit.getReplenishPeriodMillis());
+        if (added == 0) {
+            return state;
+        }
+        return pack(refilledAt + (added * limit.getReplenishPeriodMillis()) / limit.getReplenishRate(), tokens + added);
+    }
+
+    /**
+     * The time until a refilled bucket holds the given number of tokens.
+     *
+     * @param state the refilled state of the bucket.
+     * @param limit the limit of the bucket.
+     * @param requested the number of tokens.
+     * @param nowMillis the current time.
+     * @return the time in milliseconds, at least 1 if the bucket does not hold them already.
+     */
+    public static long millisUntil(long state, RateLimit limit, long requested, long nowMillis) {
+        long missing = requested - tokens(state);
+        if (missing <= 0) {
+            return 0;
+        }
+        return Math.max(1, refilledAt(state) + limit.millisToReplenish(missing) - nowMillis);
+    }
+
+    public static long tokens(long state) {
+        return state & MAXIMUM_CAPACITY;
+    }
+
+    public static long refilledAt(long state) {
+        return state >>> TOKEN_BITS;
+    }
+
+    static long pack(long refilledAtMillis, long tokens) {
+        return (refilledAtMillis << TOKEN_BITS) | tokens;
+    }
+}
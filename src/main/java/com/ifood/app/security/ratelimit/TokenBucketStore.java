@@ -0,0 +1,22 @@
+package com.ifood.app.security.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Where the token buckets live.
+ * <p>
+ * {@link InMemoryTokenBucketStore} keeps them in this instance, so each instance of the gateway enforces the limits on
+ * its own. A store shared by all the instances, such as Redis running the {@link TokenBucket} arithmetic in a script,
+ * can be plugged in by declaring another bean of this type.
+ */
+public interface TokenBucketStore {
+    /**
+     * Take tokens from a bucket, creating it full if it does not exist.
+     *
+     * @param key the key of the bucket.
+     * @param limit the limit of the bucket.
+     * @param tokens the number of tokens to take, at most the capacity of the bucket.
+     * @return whether the tokens were taken.
+     */
+    Mono<RateLimitResult> tryConsume(String key, RateLimit limit, long tokens);
+}
@@ -0,0 +1,4 @@
+/**
+ * Token bucket rate limiting of the requests of each user or client address.
+ */
+package com.ifood.app.security.ratelimit;
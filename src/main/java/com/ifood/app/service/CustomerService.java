@@ -1,11 +1,13 @@
 package com.ifood.app.service;
 
+import com.ifood.app.domain.Customer;
 import com.ifood.app.repository.CustomerRepository;
 import com.ifood.app.service.dto.CustomerDTO;
 import com.ifood.app.service.mapper.CustomerMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -22,9 +24,12 @@ public class CustomerService {
 
     private final CustomerMapper customerMapper;
 
-    public CustomerService(CustomerRepository customerRepository, CustomerMapper customerMapper) {
+    private final EntityCountService entityCountService;
+
+    public CustomerService(CustomerRepository customerRepository, CustomerMapper customerMapper, EntityCountService entityCountService) {
         this.customerRepository = customerRepository;
         this.customerMapper = customerMapper;
+        this.entityCountService = entityCountService;
     }
 
     /**
@@ -80,6 +85,17 @@ public class CustomerService {
         return customerRepository.findAllBy(pageable).map(customerMapper::toDto);
     }
 
+    /**
+     * Stream all the customers, sorted by id unless another sort is given.
+     *
+     * @param sort the sort of the customers.
+     * @return the customers, as they are read from the database.
+     */
+    public Flux<CustomerDTO> streamAll(Sort sort) {
+        log.debug("Request to stream all Customers");
+        return customerRepository.streamAll(sort.isSorted() ? sort : Sort.by("id")).map(customerMapper::toDto);
+    }
+
     /**
      * Returns the number of customers available.
      * @return the number of entities in the database.
@@ -89,6 +105,16 @@ public class CustomerService {
         return customerRepository.count();
     }
 
+    /**
+     * Returns the number of customers available, as served by {@link EntityCountService} unless an exact count is
+     * requested.
+     * @param exact whether to run an exact count.
+     * @return the number of entities in the database, possibly estimated or slightly stale.
+     */
+    public Mono<Long> countAll(boolean exact) {
+        return exact ? countAll() : entityCountService.count(Customer.class, this::countAll);
+    }
+
     /**
      * Get one customer by id.
      *
@@ -1,11 +1,14 @@
 package com.ifood.app.service;
 
+import com.ifood.app.domain.Dish;
 import com.ifood.app.repository.DishRepository;
 import com.ifood.app.service.dto.DishDTO;
 import com.ifood.app.service.mapper.DishMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -22,9 +25,24 @@ public class DishService {
 
     private final DishMapper dishMapper;
 
-    public DishService(DishRepository dishRepository, DishMapper dishMapper) {
+    private final RestaurantCatalogService restaurantCatalogService;
+
+    private final EntityCountService entityCountService;
+
+    private final SingleFlight<Long, DishDTO> findOneFlight;
+
+    public DishService(
+        DishRepository dishRepository,
+        DishMapper dishMapper,
+        EntityCountService entityCountService,
+        RestaurantCatalogService restaurantCatalogService,
+        MeterRegistry meterRegistry
+    ) {
         this.dishRepository = dishRepository;
         this.dishMapper = dishMapper;
+        this.entityCountService = entityCountService;
+        this.restaurantCatalogService = restaurantCatalogService;
+        this.findOneFlight = new SingleFlight<>("dish", meterRegistry);
     }
 
     /**
@@ -35,7 +53,10 @@ public class DishService {
      */
     public Mono<DishDTO> save(DishDTO dishDTO) {
         log.debug("Request to save Dish : {}", dishDTO);
-        return dishRepository.save(dishMapper.toEntity(dishDTO)).map(dishMapper::toDto);
+        return dishRepository
+            .save(dishMapper.toEntity(dishDTO))
+            .map(dishMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -46,7 +67,10 @@ public class DishService {
      */
     public Mono<DishDTO> update(DishDTO dishDTO) {
         log.debug("Request to update Dish : {}", dishDTO);
-        return dishRepository.save(dishMapper.toEntity(dishDTO)).map(dishMapper::toDto);
+        return dishRepository
+            .save(dishMapper.toEntity(dishDTO))
+            .map(dishMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -66,7 +90,8 @@ public class DishService {
                 return existingDish;
             })
             .flatMap(dishRepository::save)
-            .map(dishMapper::toDto);
+            .map(dishMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -80,6 +105,29 @@ public class DishService {
         return dishRepository.findAllBy(pageable).map(dishMapper::toDto);
     }
 
+    /**
+     * Stream all the dishes, sorted by id unless another sort is given.
+     *
+     * @param sort the sort of the dishes.
+     * @return the dishes, as they are read from the database.
+     */
+    public Flux<DishDTO> streamAll(Sort sort) {
+        log.debug("Request to stream all Dishes");
+        return dishRepository.streamAll(sort.isSorted() ? sort : Sort.by("id")).map(dishMapper::toDto);
+    }
+
+    /**
+     * Get the dishes that come after the given id.
+     *
+     * @param id the id of the last dish already read, or null to start from the first dish.
+     * @param size the maximum number of dishes to return.
+     * @return the list of entities.
+     */
+    public Flux<DishDTO> findAllAfter(Long id, int size) {
+        log.debug("Request to get Dishes after : {}", id);
+        return dishRepository.findAllAfter(id, size).map(dishMapper::toDto);
+    }
+
     /**
      * Returns the number of dishes available.
      * @return the number of entities in the database.
@@ -89,15 +137,27 @@ public class DishService {
         return dishRepository.count();
     }
 
+    /**
+     * Returns the number of dishes available, as served by {@link EntityCountService} unless an exact count is
+     * requested.
+     * @param exact whether to run an exact count.
+     * @return the number of entities in the database, possibly estimated or slightly stale.
+     */
+    public Mono<Long> countAll(boolean exact) {
+        return exact ? countAll() : entityCountService.count(Dish.class, this::countAll);
+    }
+
     /**
      * Get one dish by id.
+     * <p>
+     * Concurrent reads of the same dish share a single database read through {@link SingleFlight}.
      *
      * @param id the id of the entity.
      * @return the entity.
      */
     public Mono<DishDTO> findOne(Long id) {
         log.debug("Request to get Dish : {}", id);
-        return dishRepository.findById(id).map(dishMapper::toDto);
+        return findOneFlight.execute(id, key -> dishRepository.findById(key).map(dishMapper::toDto));
     }
 
     /**
@@ -108,6 +168,6 @@ public class DishService {
      */
     public Mono<Void> delete(Long id) {
         log.debug("Request to delete Dish : {}", id);
-        return dishRepository.deleteById(id);
+        return dishRepository.deleteById(id).doOnSuccess(deleted -> restaurantCatalogService.evictDish(id));
     }
 }
@@ -0,0 +1,69 @@
+package com.ifood.app.service;
+
+import com.ifood.app.config.ApplicationProperties;
+import com.ifood.app.repository.TableStatisticsRepository;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service serving the total counts of the paginated listings without a {@code COUNT(*)} per page.
+ * <p>
+ * A count comes from the database statistics when the table is large enough for the estimate to be meaningful, and
+ * from an exact count otherwise. Either way the value is shared by all requests for at most
+ * {@code application.pagination.count-max-staleness}, and concurrent requests arriving while it is being refreshed
+ * wait for the same refresh instead of starting their own.
+ */
+@Service
+public class EntityCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCountService.class);
+
+    private final TableStatisticsRepository tableStatisticsRepository;
+
+    private final Duration maxStaleness;
+
+    private final boolean estimatesEnabled;
+
+    private final long estimateThreshold;
+
+    private final Map<Class<?>, Mono<Long>> counts = new ConcurrentHashMap<>();
+
+    public EntityCountService(TableStatisticsRepository tableStatisticsRepository, ApplicationProperties applicationProperties) {
+        this.tableStatisticsRepository = tableStatisticsRepository;
+        ApplicationProperties.Pagination pagination = applicationProperties.getPagination();
+        this.maxStaleness = pagination.getCountMaxStaleness();
+        this.estimatesEnabled = pagination.isCountEstimatesEnabled();
+        this.estimateThreshold = pagination.getCountEstimateThreshold();
+    }
+
+    /**
+     * Get the number of rows of the given entity, possibly estimated and at most {@code count-max-staleness} old.
+     *
+     * @param entityType the entity type.
+     * @param exactCount the exact count, used when there is no usable estimate.
+     * @return the number of rows.
+     */
+    public Mono<Long> count(Class<?> entityType, Supplier<Mono<Long>> exactCount) {
+        return counts.computeIfAbsent(entityType, type ->
+            load(type, exactCount).cache(count -> maxStaleness, error -> Duration.ZERO, () -> Duration.ZERO)
+        );
+    }
+
+    private Mono<Long> load(Class<?> entityType, Supplier<Mono<Long>> exactCount) {
+        Mono<Long> exact = Mono.defer(exactCount);
+        if (!estimatesEnabled) {
+            return exact;
+        }
+        return tableStatisticsRepository
+            .estimateRowCount(entityType)
+            .filter(estimate -> estimate >= estimateThreshold)
+            .doOnNext(estimate -> log.debug("Using estimated count of {} for {}", estimate, entityType.getSimpleName()))
+            .switchIfEmpty(exact);
+    }
+}
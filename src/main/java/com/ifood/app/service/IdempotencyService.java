@@ -0,0 +1,68 @@
+package com.ifood.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ifood.app.config.ApplicationProperties;
+import com.ifood.app.security.SecurityUtils;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service running each creation request carrying an {@code Idempotency-Key} at most once.
+ * <p>
+ * Keys are scoped by operation and by user, so that keys of different clients never collide. The result of the first
+ * request with a given key is remembered for {@code application.idempotency.ttl}, within a
+ * store bounded by {@code application.idempotency.maximum-size}, and replayed to every retry of it, including the
+ * retries arriving while the first request is still running. Failed requests are forgotten, so that they can be
+ * retried. Looking a key up takes no lock: a known key is a plain read, and a new key is claimed with a single
+ * {@code putIfAbsent}, the action itself running outside of the store.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final Cache<String, Mono<?>> results;
+
+    public IdempotencyService(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Idempotency idempotency = applicationProperties.getIdempotency();
+        this.results = Caffeine.newBuilder().maximumSize(idempotency.getMaximumSize()).expireAfterWrite(idempotency.getTtl()).build();
+    }
+
+    /**
+     * Run the given action, unless an action of the current user with the same operation and key already ran or is
+     * running, in which case its result is returned instead.
+     *
+     * @param operation the operation the key applies to, e.g. the endpoint called.
+     * @param key the idempotency key sent by the client, or null to always run the action.
+     * @param action the action to run once.
+     * @param <T> the type of the result.
+     * @return the result of the action, possibly from a previous request.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String operation, String key, Supplier<Mono<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        return SecurityUtils.getCurrentUserLogin().defaultIfEmpty("").flatMap(login -> {
+            String scopedKey = operation + ':' + login + ':' + key;
+            Mono<T> previous = (Mono<T>) results.getIfPresent(scopedKey);
+            if (previous != null) {
+                log.debug("Replaying the result of {}", scopedKey);
+                return previous;
+            }
+            Mono<T> result = Mono.defer(action).cache();
+            previous = (Mono<T>) results.asMap().putIfAbsent(scopedKey, result);
+            if (previous != null) {
+                log.debug("Replaying the result of {}", scopedKey);
+                return previous;
+            }
+            return result.doOnError(e -> results.asMap().remove(scopedKey, result));
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.ifood.app.service;
+
+/**
+ * Thrown when an order cannot be placed because it refers to a dish or a customer that does not exist.
+ */
+public class InvalidOrderPlacementException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidOrderPlacementException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ifood.app.service;
+
+/**
+ * Thrown when an order cannot move from its current status to the requested one.
+ */
+public class InvalidOrderTransitionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidOrderTransitionException(String message) {
+        super(message);
+    }
+}
@@ -21,9 +21,12 @@ public class MenuService {
 
     private final MenuMapper menuMapper;
 
-    public MenuService(MenuRepository menuRepository, MenuMapper menuMapper) {
+    private final RestaurantCatalogService restaurantCatalogService;
+
+    public MenuService(MenuRepository menuRepository, MenuMapper menuMapper, RestaurantCatalogService restaurantCatalogService) {
         this.menuRepository = menuRepository;
         this.menuMapper = menuMapper;
+        this.restaurantCatalogService = restaurantCatalogService;
     }
 
     /**
@@ -34,7 +37,10 @@ public class MenuService {
      */
     public Mono<MenuDTO> save(MenuDTO menuDTO) {
         log.debug("Request to save Menu : {}", menuDTO);
-        return menuRepository.save(menuMapper.toEntity(menuDTO)).map(menuMapper::toDto);
+        return menuRepository
+            .save(menuMapper.toEntity(menuDTO))
+            .map(menuMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -45,7 +51,10 @@ public class MenuService {
      */
     public Mono<MenuDTO> update(MenuDTO menuDTO) {
         log.debug("Request to update Menu : {}", menuDTO);
-        return menuRepository.save(menuMapper.toEntity(menuDTO)).map(menuMapper::toDto);
+        return menuRepository
+            .save(menuMapper.toEntity(menuDTO))
+            .map(menuMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -65,7 +74,8 @@ public class MenuService {
                 return existingMenu;
             })
             .flatMap(menuRepository::save)
-            .map(menuMapper::toDto);
+            .map(menuMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -106,6 +116,6 @@ public class MenuService {
      */
     public Mono<Void> delete(Long id) {
         log.debug("Request to delete Menu : {}", id);
-        return menuRepository.deleteById(id);
+        return menuRepository.deleteById(id).doOnSuccess(deleted -> restaurantCatalogService.evictMenu(id));
     }
 }
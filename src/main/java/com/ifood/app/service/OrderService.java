@@ -1,12 +1,32 @@
 package com.ifood.app.service;
 
+import com.ifood.app.domain.Dish;
+import com.ifood.app.domain.Order;
+import com.ifood.app.domain.OrderItem;
+import com.ifood.app.domain.enumeration.OrderStatus;
+import com.ifood.app.repository.CustomerRepository;
+import com.ifood.app.repository.DishRepository;
+import com.ifood.app.repository.OrderItemRepository;
 import com.ifood.app.repository.OrderRepository;
 import com.ifood.app.service.dto.OrderDTO;
+import com.ifood.app.service.dto.OrderDetailsDTO;
+import com.ifood.app.service.dto.OrderPlacementDTO;
+import com.ifood.app.service.dto.OrderTransitionDTO;
+import com.ifood.app.service.mapper.OrderDetailsMapper;
 import com.ifood.app.service.mapper.OrderMapper;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -18,13 +38,139 @@ public class OrderService {
 
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
 
+    private static final long INITIAL_VERSION = 0L;
+
     private final OrderRepository orderRepository;
 
     private final OrderMapper orderMapper;
 
-    public OrderService(OrderRepository orderRepository, OrderMapper orderMapper) {
+    private final EntityCountService entityCountService;
+
+    private final OrderDetailsMapper orderDetailsMapper;
+
+    private final OrderItemRepository orderItemRepository;
+
+    private final DishRepository dishRepository;
+
+    private final CustomerRepository customerRepository;
+
+    public OrderService(
+        OrderRepository orderRepository,
+        OrderMapper orderMapper,
+        OrderDetailsMapper orderDetailsMapper,
+        EntityCountService entityCountService,
+        OrderItemRepository orderItemRepository,
+        DishRepository dishRepository,
+        CustomerRepository customerRepository
+    ) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
+        this.orderDetailsMapper = orderDetailsMapper;
+        this.entityCountService = entityCountService;
+        this.orderItemRepository = orderItemRepository;
+        this.dishRepository = dishRepository;
+        this.customerRepository = customerRepository;
+    }
+
+    /**
+     * Place an order for the given dishes, in a single transaction.
+     * <p>
+     * The current prices of all the dishes are read with one query, each item total is the dish price times the
+     * quantity, and the order is inserted together with all its items in one batch. The same dish given more than
+     * once makes a single item with the summed quantity.
+     *
+     * @param orderPlacementDTO the dishes and quantities to order.
+     * @return the placed order, with its items.
+     * @throws InvalidOrderPlacementException if a dish or the customer does not exist.
+     */
+    @Transactional
+    public Mono<OrderDetailsDTO> place(OrderPlacementDTO orderPlacementDTO) {
+        log.debug("Request to place Order : {}", orderPlacementDTO);
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        orderPlacementDTO.getItems().forEach(item -> quantities.merge(item.getDishId(), item.getQuantity(), Integer::sum));
+        Long customerId = orderPlacementDTO.getCustomerId();
+        Mono<Boolean> customerExists = customerId != null ? customerRepository.existsById(customerId) : Mono.just(true);
+        return Mono.zip(dishRepository.findAllById(quantities.keySet()).collectMap(Dish::getId, Dish::getPrice), customerExists)
+            .flatMap(pricesAndCustomer -> {
+                Map<Long, BigDecimal> prices = pricesAndCustomer.getT1();
+                List<Long> unknownDishIds = quantities.keySet().stream().filter(dishId -> !prices.containsKey(dishId)).toList();
+                if (!unknownDishIds.isEmpty()) {
+                    return Mono.error(new InvalidOrderPlacementException("Unknown dishes: " + unknownDishIds));
+                }
+                if (!pricesAndCustomer.getT2()) {
+                    return Mono.error(new InvalidOrderPlacementException("Unknown customer: " + customerId));
+                }
+                Order order = new Order().orderDate(Instant.now()).status(OrderStatus.PENDING).version(INITIAL_VERSION);
+                order.setCustomerId(customerId);
+                return orderRepository
+                    .save(order)
+                    .flatMap(placed ->
+                        orderItemRepository
+                            .saveAll(
+                                quantities
+                                    .entrySet()
+                                    .stream()
+                                    .map(line -> toOrderItem(placed, line.getKey(), prices.get(line.getKey()), line.getValue()))
+                                    .toList()
+                            )
+                            .then(orderRepository.findOneWithEagerRelationships(placed.getId()))
+                    );
+            })
+            .map(orderDetailsMapper::toDto);
+    }
+
+    private static OrderItem toOrderItem(Order order, Long dishId, BigDecimal price, int quantity) {
+        OrderItem orderItem = new OrderItem().quantity(quantity).totalPrice(price.multiply(BigDecimal.valueOf(quantity))).order(order);
+        orderItem.setDishId(dishId);
+        return orderItem;
+    }
+
+    /**
+     * Move an order to a new status, with a single conditional update.
+     * <p>
+     * The update only applies if the order is still at the version the transition was decided on, and in a status it
+     * may move from: of two concurrent transitions of the same order, only the first one succeeds. The order is only
+     * read again when the update does not apply, to tell why.
+     *
+     * @param id the id of the order.
+     * @param orderTransitionDTO the status to move to and the version of the order it was decided on.
+     * @return the applied transition, holding the new version of the order, or empty if the order does not exist.
+     * @throws InvalidOrderTransitionException if the order cannot move to the requested status.
+     * @throws OptimisticLockingFailureException if the order changed since the given version.
+     */
+    public Mono<OrderTransitionDTO> transition(Long id, OrderTransitionDTO orderTransitionDTO) {
+        log.debug("Request to transition Order : {}, {}", id, orderTransitionDTO);
+        OrderStatus status = orderTransitionDTO.getStatus();
+        Long version = orderTransitionDTO.getVersion();
+        List<String> fromStatuses = Arrays.stream(OrderStatus.values())
+            .filter(fromStatus -> fromStatus.canTransitionTo(status))
+            .map(OrderStatus::name)
+            .toList();
+        if (fromStatuses.isEmpty()) {
+            return Mono.error(new InvalidOrderTransitionException("An order cannot move to " + status));
+        }
+        return orderRepository
+            .transitionStatus(id, version, fromStatuses, status.name())
+            .flatMap(updated -> {
+                if (updated > 0) {
+                    OrderTransitionDTO result = new OrderTransitionDTO();
+                    result.setStatus(status);
+                    result.setVersion(version + 1);
+                    return Mono.just(result);
+                }
+                return orderRepository
+                    .findById(id)
+                    .flatMap(order -> {
+                        if (!version.equals(order.getVersion())) {
+                            return Mono.error(
+                                new OptimisticLockingFailureException("Order " + id + " is at version " + order.getVersion())
+                            );
+                        }
+                        return Mono.error(
+                            new InvalidOrderTransitionException("An order cannot move from " + order.getStatus() + " to " + status)
+                        );
+                    });
+            });
     }
 
     /**
@@ -35,38 +181,88 @@ public class OrderService {
      */
     public Mono<OrderDTO> save(OrderDTO orderDTO) {
         log.debug("Request to save Order : {}", orderDTO);
-        return orderRepository.save(orderMapper.toEntity(orderDTO)).map(orderMapper::toDto);
+        // the version is not written, and the column default it gets is not read back on insert
+        return orderRepository.save(orderMapper.toEntity(orderDTO).version(INITIAL_VERSION)).map(orderMapper::toDto);
     }
 
     /**
-     * Update a order.
+     * Update a order, provided it is still at the version the update was decided on.
+     * <p>
+     * The status of an order only changes through {@link #transition}, so the update must keep it. The update is a
+     * single conditional statement; the order is only read when it does not apply, to tell why.
      *
-     * @param orderDTO the entity to save.
-     * @return the persisted entity.
+     * @param orderDTO the entity to save, with the version of the order it was decided on.
+     * @return the persisted entity, holding the new version of the order, or empty if the order does not exist.
+     * @throws InvalidOrderTransitionException if the update changes the status of the order.
+     * @throws OptimisticLockingFailureException if the order changed since the given version.
      */
     public Mono<OrderDTO> update(OrderDTO orderDTO) {
         log.debug("Request to update Order : {}", orderDTO);
-        return orderRepository.save(orderMapper.toEntity(orderDTO)).map(orderMapper::toDto);
+        Order order = orderMapper.toEntity(orderDTO);
+        Long version = order.getVersion();
+        return orderRepository
+            .updateIfVersion(order.getId(), version, order.getStatus().name(), order.getOrderDate(), order.getCustomerId())
+            .flatMap(updated -> {
+                if (updated > 0) {
+                    return Mono.just(orderMapper.toDto(order.version(version + 1)));
+                }
+                return orderRepository
+                    .findById(order.getId())
+                    .flatMap(existingOrder -> {
+                        if (!version.equals(existingOrder.getVersion())) {
+                            return Mono.error(staleVersion(order.getId(), version));
+                        }
+                        return Mono.error(statusReadOnly());
+                    });
+            });
     }
 
     /**
-     * Partially update a order.
+     * Partially update a order, provided it is still at the version the update was decided on.
+     * <p>
+     * The status of an order only changes through {@link #transition}, so the update must keep it or leave it out.
      *
-     * @param orderDTO the entity to update partially.
-     * @return the persisted entity.
+     * @param orderDTO the entity to update partially, with the version of the order it was decided on.
+     * @return the persisted entity, holding the new version of the order, or empty if the order does not exist.
+     * @throws InvalidOrderTransitionException if the update changes the status of the order.
+     * @throws OptimisticLockingFailureException if the order changed since the given version.
      */
     public Mono<OrderDTO> partialUpdate(OrderDTO orderDTO) {
         log.debug("Request to partially update Order : {}", orderDTO);
 
         return orderRepository
             .findById(orderDTO.getId())
-            .map(existingOrder -> {
+            .flatMap(existingOrder -> {
+                OrderStatus status = existingOrder.getStatus();
                 orderMapper.partialUpdate(existingOrder, orderDTO);
+                return updateIfVersion(status, existingOrder);
+            });
+    }
 
-                return existingOrder;
-            })
-            .flatMap(orderRepository::save)
-            .map(orderMapper::toDto);
+    /**
+     * Write the updated order with a single conditional update, which only applies at the version it holds.
+     */
+    private Mono<OrderDTO> updateIfVersion(OrderStatus status, Order order) {
+        if (order.getStatus() != status) {
+            return Mono.error(statusReadOnly());
+        }
+        Long version = order.getVersion();
+        return orderRepository
+            .updateIfVersion(order.getId(), version, status.name(), order.getOrderDate(), order.getCustomerId())
+            .flatMap(updated -> {
+                if (updated == 0) {
+                    return Mono.error(staleVersion(order.getId(), version));
+                }
+                return Mono.just(orderMapper.toDto(order.version(version + 1)));
+            });
+    }
+
+    private static InvalidOrderTransitionException statusReadOnly() {
+        return new InvalidOrderTransitionException("The status of an order only changes through its transitions, not with an update");
+    }
+
+    private static OptimisticLockingFailureException staleVersion(Long id, Long version) {
+        return new OptimisticLockingFailureException("Order " + id + " is no longer at version " + version);
     }
 
     /**
@@ -80,6 +276,30 @@ public class OrderService {
         return orderRepository.findAllBy(pageable).map(orderMapper::toDto);
     }
 
+    /**
+     * Stream all the orders, sorted by id unless another sort is given.
+     *
+     * @param sort the sort of the orders.
+     * @return the orders, as they are read from the database.
+     */
+    public Flux<OrderDTO> streamAll(Sort sort) {
+        log.debug("Request to stream all Orders");
+        return orderRepository.streamAll(sort.isSorted() ? sort : Sort.by("id")).map(orderMapper::toDto);
+    }
+
+    /**
+     * Get the orders that come after the given key in {@code (orderDate, id)} order.
+     *
+     * @param orderDate the order date of the last order already read, or null to start from the first order.
+     * @param id the id of the last order already read, or null to start from the first order.
+     * @param size the maximum number of orders to return.
+     * @return the list of entities.
+     */
+    public Flux<OrderDTO> findAllAfter(Instant orderDate, Long id, int size) {
+        log.debug("Request to get Orders after : {}, {}", orderDate, id);
+        return orderRepository.findAllAfter(orderDate, id, size).map(orderMapper::toDto);
+    }
+
     /**
      * Returns the number of orders available.
      * @return the number of entities in the database.
@@ -89,6 +309,16 @@ public class OrderService {
         return orderRepository.count();
     }
 
+    /**
+     * Returns the number of orders available, as served by {@link EntityCountService} unless an exact count is
+     * requested.
+     * @param exact whether to run an exact count.
+     * @return the number of entities in the database, possibly estimated or slightly stale.
+     */
+    public Mono<Long> countAll(boolean exact) {
+        return exact ? countAll() : entityCountService.count(Order.class, this::countAll);
+    }
+
     /**
      * Get one order by id.
      *
@@ -100,6 +330,17 @@ public class OrderService {
         return orderRepository.findById(id).map(orderMapper::toDto);
     }
 
+    /**
+     * Get one order by id, together with its customer and its items, loaded in a single query.
+     *
+     * @param id the id of the entity.
+     * @return the order aggregate.
+     */
+    public Mono<OrderDetailsDTO> findOneWithDetails(Long id) {
+        log.debug("Request to get Order details : {}", id);
+        return orderRepository.findOneWithEagerRelationships(id).map(orderDetailsMapper::toDto);
+    }
+
     /**
      * Delete the order by id.
      *
@@ -0,0 +1,281 @@
+package com.ifood.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ifood.app.config.ApplicationProperties;
+import com.ifood.app.domain.Dish;
+import com.ifood.app.domain.Menu;
+import com.ifood.app.domain.Restaurant;
+import com.ifood.app.repository.DishRepository;
+import com.ifood.app.repository.MenuRepository;
+import com.ifood.app.repository.RestaurantRepository;
+import com.ifood.app.service.dto.DishDTO;
+import com.ifood.app.service.dto.MenuCatalogDTO;
+import com.ifood.app.service.dto.MenuDTO;
+import com.ifood.app.service.dto.RestaurantCatalogDTO;
+import com.ifood.app.service.dto.RestaurantDTO;
+import com.ifood.app.service.mapper.DishMapper;
+import com.ifood.app.service.mapper.RestaurantCatalogMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service serving the catalog of a {@link Restaurant}, i.e. its menus and their dishes, from memory.
+ * <p>
+ * Catalogs are loaded on first read, rendered once as a {@link RestaurantCatalogSnapshot}, and kept until a
+ * restaurant, menu or dish they contain is written through {@link RestaurantService}, {@link MenuService} or
+ * {@link DishService}, which evict them, or until they are evicted to stay within
+ * {@code application.catalog.cache-maximum-size}. Only the catalogs affected by a write are rendered again, on their
+ * next read. Concurrent reads of a catalog being loaded share the same load.
+ * <p>
+ * Catalogs are cached by restaurant id, and the menus and dishes of the loaded ones are indexed by id to the restaurant
+ * holding them, so that a write evicts the catalogs it affects without going through the others. A menu or dish that
+ * is not indexed may still be part of a catalog being loaded, which may have read it before the write: such a catalog
+ * is served to the reads waiting for it, but not kept.
+ */
+@Service
+public class RestaurantCatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(RestaurantCatalogService.class);
+
+    private final RestaurantRepository restaurantRepository;
+
+    private final MenuRepository menuRepository;
+
+    private final DishRepository dishRepository;
+
+    private final RestaurantCatalogMapper restaurantCatalogMapper;
+
+    private final DishMapper dishMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final AsyncCache<Long, RestaurantCatalogSnapshot> catalogs;
+
+    private final ConcurrentMap<Long, Long> restaurantIdsByMenuId = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Long, Long> restaurantIdsByDishId = new ConcurrentHashMap<>();
+
+    /**
+     * Number of writes of a menu or dish which could not be traced to a cached catalog.
+     */
+    private final AtomicLong untracedWrites = new AtomicLong();
+
+    public RestaurantCatalogService(
+        RestaurantRepository restaurantRepository,
+        MenuRepository menuRepository,
+        DishRepository dishRepository,
+        RestaurantCatalogMapper restaurantCatalogMapper,
+        DishMapper dishMapper,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.restaurantRepository = restaurantRepository;
+        this.menuRepository = menuRepository;
+        this.dishRepository = dishRepository;
+        this.restaurantCatalogMapper = restaurantCatalogMapper;
+        this.dishMapper = dishMapper;
+        this.objectMapper = objectMapper;
+        this.catalogs = Caffeine.newBuilder()
+            .maximumSize(applicationProperties.getCatalog().getCacheMaximumSize())
+            .<Long, RestaurantCatalogSnapshot>removalListener(this::unindex)
+            .buildAsync();
+    }
+
+    /**
+     * Get the catalog of the "restaurantId" restaurant.
+     *
+     * @param restaurantId the id of the restaurant.
+     * @return the catalog, or empty if the restaurant does not exist.
+     */
+    public Mono<RestaurantCatalogDTO> findOne(Long restaurantId) {
+        return findSnapshot(restaurantId).map(RestaurantCatalogSnapshot::getCatalog);
+    }
+
+    /**
+     * Get the catalog of the "restaurantId" restaurant, ready to be written to a response.
+     *
+     * @param restaurantId the id of the restaurant.
+     * @return the catalog snapshot, or empty if the restaurant does not exist.
+     */
+    public Mono<RestaurantCatalogSnapshot> findSnapshot(Long restaurantId) {
+        log.debug("Request to get the catalog of Restaurant : {}", restaurantId);
+        // not cancelled with the read, which may share the load with others
+        return Mono.fromFuture(() -> catalogs.get(restaurantId, this::loadAndIndex), true);
+    }
+
+    private CompletableFuture<RestaurantCatalogSnapshot> loadAndIndex(Long restaurantId, Executor executor) {
+        long untracedWritesBefore = untracedWrites.get();
+        CompletableFuture<RestaurantCatalogSnapshot> load = load(restaurantId).doOnNext(this::index).toFuture();
+        AtomicBoolean returned = new AtomicBoolean();
+        load.whenComplete((snapshot, error) -> {
+            if (untracedWrites.get() != untracedWritesBefore) {
+                // the cache cannot be written to while it is still adding the load, i.e. until it is returned
+                Runnable remove = () -> catalogs.asMap().remove(restaurantId, load);
+                if (returned.get()) {
+                    remove.run();
+                } else {
+                    executor.execute(remove);
+                }
+            }
+        });
+        returned.set(true);
+        return load;
+    }
+
+    private Mono<RestaurantCatalogSnapshot> load(Long restaurantId) {
+        log.debug("Loading the catalog of Restaurant : {}", restaurantId);
+        return restaurantRepository
+            .findById(restaurantId)
+            .flatMap(restaurant ->
+                Mono.zip(
+                    menuRepository.findByRestaurant(restaurantId).collectList(),
+                    dishRepository.findByRestaurant(restaurantId).collectList()
+                ).map(menusAndDishes -> toCatalog(restaurant, menusAndDishes.getT1(), menusAndDishes.getT2()))
+            )
+            .map(this::toSnapshot);
+    }
+
+    private RestaurantCatalogDTO toCatalog(Restaurant restaurant, List<Menu> menus, List<Dish> dishes) {
+        Map<Long, List<DishDTO>> dishesByMenuId = dishes
+            .stream()
+            .collect(Collectors.groupingBy(Dish::getMenuId, Collectors.mapping(dishMapper::toDto, Collectors.toList())));
+        RestaurantCatalogDTO catalog = restaurantCatalogMapper.toDto(restaurant);
+        catalog.setMenus(
+            menus
+                .stream()
+                .sorted(Comparator.comparing(Menu::getId))
+                .map(menu -> {
+                    MenuCatalogDTO menuCatalog = restaurantCatalogMapper.toDto(menu);
+                    menuCatalog.setDishes(dishesByMenuId.getOrDefault(menu.getId(), List.of()));
+                    return menuCatalog;
+                })
+                .toList()
+        );
+        return catalog;
+    }
+
+    private void index(RestaurantCatalogSnapshot snapshot) {
+        RestaurantCatalogDTO catalog = snapshot.getCatalog();
+        for (MenuCatalogDTO menu : catalog.getMenus()) {
+            restaurantIdsByMenuId.put(menu.getId(), catalog.getId());
+            menu.getDishes().forEach(dish -> restaurantIdsByDishId.put(dish.getId(), catalog.getId()));
+        }
+    }
+
+    private void unindex(Long restaurantId, RestaurantCatalogSnapshot snapshot, RemovalCause cause) {
+        // the catalog may have been loaded again since, and indexed its menus and dishes again
+        if (snapshot == null || catalogs.getIfPresent(restaurantId) != null) {
+            return;
+        }
+        for (MenuCatalogDTO menu : snapshot.getCatalog().getMenus()) {
+            restaurantIdsByMenuId.remove(menu.getId(), restaurantId);
+            menu.getDishes().forEach(dish -> restaurantIdsByDishId.remove(dish.getId(), restaurantId));
+        }
+    }
+
+    private RestaurantCatalogSnapshot toSnapshot(RestaurantCatalogDTO catalog) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(catalog);
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+                gzip.write(json);
+            }
+            String eTag = "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            return new RestaurantCatalogSnapshot(catalog, json, gzipped.toByteArray(), eTag);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not render the catalog of Restaurant " + catalog.getId(), e);
+        }
+    }
+
+    /**
+     * Evict the catalog of the "restaurantId" restaurant.
+     *
+     * @param restaurantId the id of the restaurant.
+     */
+    public void evictRestaurant(Long restaurantId) {
+        if (restaurantId != null) {
+            catalogs.synchronous().invalidate(restaurantId);
+        }
+    }
+
+    /**
+     * Evict the catalogs affected by a write of the given restaurant.
+     *
+     * @param restaurantDTO the restaurant written.
+     */
+    public void evict(RestaurantDTO restaurantDTO) {
+        evictRestaurant(restaurantDTO.getId());
+    }
+
+    /**
+     * Evict the catalog holding the "menuId" menu.
+     *
+     * @param menuId the id of the menu.
+     */
+    public void evictMenu(Long menuId) {
+        evictIndexed(restaurantIdsByMenuId, menuId);
+    }
+
+    /**
+     * Evict the catalogs affected by a write of the given menu: the one of its restaurant, and the one it may have
+     * been moved from.
+     *
+     * @param menuDTO the menu written.
+     */
+    public void evict(MenuDTO menuDTO) {
+        if (menuDTO.getRestaurant() != null) {
+            evictRestaurant(menuDTO.getRestaurant().getId());
+        }
+        evictMenu(menuDTO.getId());
+    }
+
+    /**
+     * Evict the catalog holding the "dishId" dish.
+     *
+     * @param dishId the id of the dish.
+     */
+    public void evictDish(Long dishId) {
+        evictIndexed(restaurantIdsByDishId, dishId);
+    }
+
+    /**
+     * Evict the catalogs affected by a write of the given dish: the one holding its menu, and the one it may have been
+     * moved from.
+     *
+     * @param dishDTO the dish written.
+     */
+    public void evict(DishDTO dishDTO) {
+        if (dishDTO.getMenu() != null) {
+            evictMenu(dishDTO.getMenu().getId());
+        }
+        evictDish(dishDTO.getId());
+    }
+
+    private void evictIndexed(Map<Long, Long> restaurantIds, Long id) {
+        Long restaurantId = id != null ? restaurantIds.get(id) : null;
+        if (restaurantId != null) {
+            evictRestaurant(restaurantId);
+        } else {
+            untracedWrites.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ifood.app.service;
+
+import com.ifood.app.service.dto.RestaurantCatalogDTO;
+
+/**
+ * A {@link RestaurantCatalogDTO} together with its JSON representation, rendered once, in plain and gzip form, and
+ * the entity tag derived from its content.
+ */
+public class RestaurantCatalogSnapshot {
+
+    private final RestaurantCatalogDTO catalog;
+
+    private final byte[] json;
+
+    private final byte[] gzippedJson;
+
+    private final String eTag;
+
+    public RestaurantCatalogSnapshot(RestaurantCatalogDTO catalog, byte[] json, byte[] gzippedJson, String eTag) {
+        this.catalog = catalog;
+        this.json = json;
+        this.gzippedJson = gzippedJson;
+        this.eTag = eTag;
+    }
+
+    public RestaurantCatalogDTO getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * The JSON representation of the catalog. The array is shared and must not be modified.
+     *
+     * @return the JSON bytes.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * The gzip-compressed JSON representation of the catalog. The array is shared and must not be modified.
+     *
+     * @return the compressed JSON bytes.
+     */
+    public byte[] getGzippedJson() {
+        return gzippedJson;
+    }
+
+    /**
+     * The weak entity tag of the catalog, quoted, identical for the plain and the gzip representations.
+     *
+     * @return the entity tag.
+     */
+    public String getETag() {
+        return eTag;
+    }
+}
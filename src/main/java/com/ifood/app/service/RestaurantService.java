@@ -1,11 +1,14 @@
 package com.ifood.app.service;
 
+import com.ifood.app.domain.Restaurant;
 import com.ifood.app.repository.RestaurantRepository;
 import com.ifood.app.service.dto.RestaurantDTO;
 import com.ifood.app.service.mapper.RestaurantMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -22,9 +25,24 @@ public class RestaurantService {
 
     private final RestaurantMapper restaurantMapper;
 
-    public RestaurantService(RestaurantRepository restaurantRepository, RestaurantMapper restaurantMapper) {
+    private final RestaurantCatalogService restaurantCatalogService;
+
+    private final EntityCountService entityCountService;
+
+    private final SingleFlight<Long, RestaurantDTO> findOneFlight;
+
+    public RestaurantService(
+        RestaurantRepository restaurantRepository,
+        RestaurantMapper restaurantMapper,
+        EntityCountService entityCountService,
+        RestaurantCatalogService restaurantCatalogService,
+        MeterRegistry meterRegistry
+    ) {
         this.restaurantRepository = restaurantRepository;
         this.restaurantMapper = restaurantMapper;
+        this.entityCountService = entityCountService;
+        this.restaurantCatalogService = restaurantCatalogService;
+        this.findOneFlight = new SingleFlight<>("restaurant", meterRegistry);
     }
 
     /**
@@ -35,7 +53,10 @@ public class RestaurantService {
      */
     public Mono<RestaurantDTO> save(RestaurantDTO restaurantDTO) {
         log.debug("Request to save Restaurant : {}", restaurantDTO);
-        return restaurantRepository.save(restaurantMapper.toEntity(restaurantDTO)).map(restaurantMapper::toDto);
+        return restaurantRepository
+            .save(restaurantMapper.toEntity(restaurantDTO))
+            .map(restaurantMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -46,7 +67,10 @@ public class RestaurantService {
      */
     public Mono<RestaurantDTO> update(RestaurantDTO restaurantDTO) {
         log.debug("Request to update Restaurant : {}", restaurantDTO);
-        return restaurantRepository.save(restaurantMapper.toEntity(restaurantDTO)).map(restaurantMapper::toDto);
+        return restaurantRepository
+            .save(restaurantMapper.toEntity(restaurantDTO))
+            .map(restaurantMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -66,7 +90,8 @@ public class RestaurantService {
                 return existingRestaurant;
             })
             .flatMap(restaurantRepository::save)
-            .map(restaurantMapper::toDto);
+            .map(restaurantMapper::toDto)
+            .doOnNext(restaurantCatalogService::evict);
     }
 
     /**
@@ -80,6 +105,17 @@ public class RestaurantService {
         return restaurantRepository.findAllBy(pageable).map(restaurantMapper::toDto);
     }
 
+    /**
+     * Stream all the restaurants, sorted by id unless another sort is given.
+     *
+     * @param sort the sort of the restaurants.
+     * @return the restaurants, as they are read from the database.
+     */
+    public Flux<RestaurantDTO> streamAll(Sort sort) {
+        log.debug("Request to stream all Restaurants");
+        return restaurantRepository.streamAll(sort.isSorted() ? sort : Sort.by("id")).map(restaurantMapper::toDto);
+    }
+
     /**
      * Returns the number of restaurants available.
      * @return the number of entities in the database.
@@ -89,15 +125,27 @@ public class RestaurantService {
         return restaurantRepository.count();
     }
 
+    /**
+     * Returns the number of restaurants available, as served by {@link EntityCountService} unless an exact count is
+     * requested.
+     * @param exact whether to run an exact count.
+     * @return the number of entities in the database, possibly estimated or slightly stale.
+     */
+    public Mono<Long> countAll(boolean exact) {
+        return exact ? countAll() : entityCountService.count(Restaurant.class, this::countAll);
+    }
+
     /**
      * Get one restaurant by id.
+     * <p>
+     * Concurrent reads of the same restaurant share a single database read through {@link SingleFlight}.
      *
      * @param id the id of the entity.
      * @return the entity.
      */
     public Mono<RestaurantDTO> findOne(Long id) {
         log.debug("Request to get Restaurant : {}", id);
-        return restaurantRepository.findById(id).map(restaurantMapper::toDto);
+        return findOneFlight.execute(id, key -> restaurantRepository.findById(key).map(restaurantMapper::toDto));
     }
 
     /**
@@ -108,6 +156,6 @@ public class RestaurantService {
      */
     public Mono<Void> delete(Long id) {
         log.debug("Request to delete Restaurant : {}", id);
-        return restaurantRepository.deleteById(id);
+        return restaurantRepository.deleteById(id).doOnSuccess(deleted -> restaurantCatalogService.evictRestaurant(id));
     }
 }
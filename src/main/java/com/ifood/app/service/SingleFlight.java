@@ -0,0 +1,101 @@
+package com.ifood.app.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shares a single in-flight read among concurrent identical reads.
+ * <p>
+ * The first read of a key runs the loader; the reads of the same key arriving while it runs get its result instead of
+ * running the loader again. Nothing is kept once the load completes, so the next read of the key loads again: this
+ * only absorbs bursts, it does not cache.
+ * <p>
+ * The load runs detached from the reads, so that a read cancelling does not cancel it for the others, with the Reactor
+ * context of the read which started it: the reads sharing it must not depend on their own context reaching the loader.
+ * <p>
+ * Every read is counted under {@value #CALLS_METER_NAME}, tagged with whether it ran the loader or was coalesced, and
+ * the share of coalesced reads is published under {@value #COALESCING_RATIO_METER_NAME}.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values loaded.
+ */
+public class SingleFlight<K, V> {
+
+    public static final String CALLS_METER_NAME = "service.single-flight.calls";
+
+    public static final String COALESCING_RATIO_METER_NAME = "service.single-flight.coalescing-ratio";
+
+    public static final String NAME_DIMENSION = "name";
+
+    public static final String RESULT_DIMENSION = "result";
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry registry) {
+        this.executed = Counter.builder(CALLS_METER_NAME)
+            .description("Reads which ran their loader")
+            .tags(NAME_DIMENSION, name, RESULT_DIMENSION, "executed")
+            .register(registry);
+        this.coalesced = Counter.builder(CALLS_METER_NAME)
+            .description("Reads which shared the load of a concurrent identical read")
+            .tags(NAME_DIMENSION, name, RESULT_DIMENSION, "coalesced")
+            .register(registry);
+        Gauge.builder(COALESCING_RATIO_METER_NAME, this, SingleFlight::coalescingRatio)
+            .description("Share of the reads which were coalesced")
+            .tag(NAME_DIMENSION, name)
+            .register(registry);
+    }
+
+    /**
+     * Read the value of the given key, sharing the load already in flight for it if any.
+     *
+     * @param key the key to read.
+     * @param loader the function loading the value of a key.
+     * @return the value, or empty if the loader returned empty.
+     */
+    public Mono<V> execute(K key, Function<K, Mono<V>> loader) {
+        return Mono.deferContextual(context -> {
+            CompletableFuture<V> load = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+            if (existing != null) {
+                coalesced.increment();
+                // a subscriber cancelling must not cancel the load shared with the other ones
+                return Mono.fromFuture(existing, true);
+            }
+            executed.increment();
+            // deferred, so that the loader throwing fails the load rather than leaving it in flight forever
+            Mono.defer(() -> loader.apply(key))
+                .contextWrite(context)
+                .subscribe(
+                    value -> {
+                        inFlight.remove(key, load);
+                        load.complete(value);
+                    },
+                    error -> {
+                        inFlight.remove(key, load);
+                        load.completeExceptionally(error);
+                    },
+                    () -> {
+                        inFlight.remove(key, load);
+                        load.complete(null);
+                    }
+                );
+            return Mono.fromFuture(load, true);
+        });
+    }
+
+    private double coalescingRatio() {
+        double total = executed.count() + coalesced.count();
+        return total == 0 ? 0 : coalesced.count() / total;
+    }
+}
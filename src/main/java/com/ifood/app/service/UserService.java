@@ -4,7 +4,9 @@ import com.ifood.app.config.Constants;
 import com.ifood.app.domain.User;
 import com.ifood.app.repository.UserRepository;
 import com.ifood.app.security.AuthoritiesConstants;
+import com.ifood.app.security.PasswordHashingScheduler;
 import com.ifood.app.security.SecurityUtils;
+import com.ifood.app.security.UserLookupCache;
 import com.ifood.app.service.dto.AdminUserDTO;
 import com.ifood.app.service.dto.UserDTO;
 import java.time.Instant;
@@ -12,6 +14,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -31,9 +34,20 @@ public class UserService {
 
     private final PasswordEncoder passwordEncoder;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final PasswordHashingScheduler passwordHashingScheduler;
+
+    private final UserLookupCache userLookupCache;
+
+    public UserService(
+        UserRepository userRepository,
+        PasswordEncoder passwordEncoder,
+        PasswordHashingScheduler passwordHashingScheduler,
+        UserLookupCache userLookupCache
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.passwordHashingScheduler = passwordHashingScheduler;
+        this.userLookupCache = userLookupCache;
     }
 
     public Mono<User> activateRegistration(String key) {
@@ -54,7 +68,7 @@ public class UserService {
         return userRepository
             .findOneByResetKey(key)
             .filter(user -> user.getResetDate().isAfter(Instant.now().minus(1, ChronoUnit.DAYS)))
-            .publishOn(Schedulers.boundedElastic())
+            .publishOn(passwordHashingScheduler.getScheduler())
             .map(user -> {
                 user.setPassword(passwordEncoder.encode(newPassword));
                 user.setResetKey(null);
@@ -82,7 +96,7 @@ public class UserService {
             .findOneByLogin(userDTO.getLogin().toLowerCase())
             .flatMap(existingUser -> {
                 if (!existingUser.isActivated()) {
-                    return userRepository.delete(existingUser);
+                    return removeUser(existingUser);
                 } else {
                     return Mono.error(new UsernameAlreadyUsedException());
                 }
@@ -90,12 +104,12 @@ public class UserService {
             .then(userRepository.findOneByEmailIgnoreCase(userDTO.getEmail()))
             .flatMap(existingUser -> {
                 if (!existingUser.isActivated()) {
-                    return userRepository.delete(existingUser);
+                    return removeUser(existingUser);
                 } else {
                     return Mono.error(new EmailAlreadyUsedException());
                 }
             })
-            .publishOn(Schedulers.boundedElastic())
+            .publishOn(passwordHashingScheduler.getScheduler())
             .then(
                 Mono.fromCallable(() -> {
                     User newUser = new User();
@@ -132,6 +146,7 @@ public class UserService {
         if (userDTO.getEmail() != null) {
             user.setEmail(userDTO.getEmail().toLowerCase());
         }
+        user.setImageUrl(userDTO.getImageUrl());
         if (userDTO.getLangKey() == null) {
             user.setLangKey(Constants.DEFAULT_LANGUAGE); // default language
         } else {
@@ -139,7 +154,7 @@ public class UserService {
         }
         user.setAuthorities(userDTO.getAuthorities());
         return Mono.just(user)
-            .publishOn(Schedulers.boundedElastic())
+            .publishOn(passwordHashingScheduler.getScheduler())
             .map(newUser -> {
                 String encryptedPassword = passwordEncoder.encode(RandomUtil.generatePassword());
                 newUser.setPassword(encryptedPassword);
@@ -168,6 +183,7 @@ public class UserService {
                 if (userDTO.getEmail() != null) {
                     user.setEmail(userDTO.getEmail().toLowerCase());
                 }
+                user.setImageUrl(userDTO.getImageUrl());
                 user.setActivated(userDTO.isActivated());
                 user.setLangKey(userDTO.getLangKey());
                 user.setAuthorities(userDTO.getAuthorities());
@@ -181,7 +197,7 @@ public class UserService {
     public Mono<Void> deleteUser(String login) {
         return userRepository
             .findOneByLogin(login)
-            .flatMap(user -> userRepository.delete(user).thenReturn(user))
+            .flatMap(user -> removeUser(user).thenReturn(user))
             .doOnNext(user -> log.debug("Deleted User: {}", user))
             .then();
     }
@@ -222,13 +238,18 @@ public class UserService {
                 }
                 user.setLastModifiedBy(login);
                 return userRepository.save(user);
-            });
+            })
+            .doOnNext(userLookupCache::evict);
+    }
+
+    private Mono<Void> removeUser(User user) {
+        return userRepository.delete(user).doOnSuccess(deleted -> userLookupCache.evict(user));
     }
 
     public Mono<Void> changePassword(String currentClearTextPassword, String newPassword) {
         return SecurityUtils.getCurrentUserLogin()
             .flatMap(userRepository::findOneByLogin)
-            .publishOn(Schedulers.boundedElastic())
+            .publishOn(passwordHashingScheduler.getScheduler())
             .map(user -> {
                 String currentEncryptedPassword = user.getPassword();
                 if (!passwordEncoder.matches(currentClearTextPassword, currentEncryptedPassword)) {
@@ -243,8 +264,8 @@ public class UserService {
             .then();
     }
 
-    public Flux<AdminUserDTO> getAllManagedUsers() {
-        return userRepository.findAll().map(AdminUserDTO::new);
+    public Flux<AdminUserDTO> getAllManagedUsers(Sort sort) {
+        return userRepository.findAll(sort).map(AdminUserDTO::new);
     }
 
     public Flux<UserDTO> getAllPublicUsers() {
@@ -255,7 +276,12 @@ public class UserService {
         return userRepository.findOneByLogin(login);
     }
 
+    /**
+     * Get the current user, from the {@link UserLookupCache}.
+     *
+     * @return the current user, with its authorities.
+     */
     public Mono<User> getUserWithAuthorities() {
-        return SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneByLogin);
+        return SecurityUtils.getCurrentUserLogin().flatMap(userLookupCache::findOneByLogin);
     }
 }
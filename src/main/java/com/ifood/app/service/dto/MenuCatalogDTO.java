@@ -0,0 +1,86 @@
+package com.ifood.app.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read-only DTO for a {@link com.ifood.app.domain.Menu} together with its dishes, as part of a
+ * {@link RestaurantCatalogDTO}.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MenuCatalogDTO implements Serializable {
+
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private List<DishDTO> dishes = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<DishDTO> getDishes() {
+        return dishes;
+    }
+
+    public void setDishes(List<DishDTO> dishes) {
+        this.dishes = dishes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MenuCatalogDTO)) {
+            return false;
+        }
+
+        MenuCatalogDTO menuCatalogDTO = (MenuCatalogDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, menuCatalogDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MenuCatalogDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", description='" + getDescription() + "'" +
+            ", dishes=" + getDishes() +
+            "}";
+    }
+}
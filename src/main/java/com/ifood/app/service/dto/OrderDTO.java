@@ -20,6 +20,8 @@ public class OrderDTO implements Serializable {
     @NotNull(message = "must not be null")
     private OrderStatus status;
 
+    private Long version;
+
     private CustomerDTO customer;
 
     public Long getId() {
@@ -46,6 +48,14 @@ public class OrderDTO implements Serializable {
         this.status = status;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public CustomerDTO getCustomer() {
         return customer;
     }
@@ -82,6 +92,7 @@ public class OrderDTO implements Serializable {
             "id=" + getId() +
             ", orderDate='" + getOrderDate() + "'" +
             ", status='" + getStatus() + "'" +
+            ", version=" + getVersion() +
             ", customer=" + getCustomer() +
             "}";
     }
@@ -0,0 +1,110 @@
+package com.ifood.app.service.dto;
+
+import com.ifood.app.domain.enumeration.OrderStatus;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read-only DTO for the {@link com.ifood.app.domain.Order} aggregate: the order together with its customer and
+ * its items.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class OrderDetailsDTO implements Serializable {
+
+    private Long id;
+
+    private Instant orderDate;
+
+    private OrderStatus status;
+
+    private Long version;
+
+    private CustomerDTO customer;
+
+    private List<OrderItemDTO> orderItems = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getOrderDate() {
+        return orderDate;
+    }
+
+    public void setOrderDate(Instant orderDate) {
+        this.orderDate = orderDate;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public CustomerDTO getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(CustomerDTO customer) {
+        this.customer = customer;
+    }
+
+    public List<OrderItemDTO> getOrderItems() {
+        return orderItems;
+    }
+
+    public void setOrderItems(List<OrderItemDTO> orderItems) {
+        this.orderItems = orderItems;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OrderDetailsDTO)) {
+            return false;
+        }
+
+        OrderDetailsDTO orderDetailsDTO = (OrderDetailsDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, orderDetailsDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "OrderDetailsDTO{" +
+            "id=" + getId() +
+            ", orderDate='" + getOrderDate() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", version=" + getVersion() +
+            ", customer=" + getCustomer() +
+            ", orderItems=" + getOrderItems() +
+            "}";
+    }
+}
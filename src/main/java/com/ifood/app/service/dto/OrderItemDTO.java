@@ -21,6 +21,8 @@ public class OrderItemDTO implements Serializable {
 
     private OrderDTO order;
 
+    private DishDTO dish;
+
     public Long getId() {
         return id;
     }
@@ -53,6 +55,14 @@ public class OrderItemDTO implements Serializable {
         this.order = order;
     }
 
+    public DishDTO getDish() {
+        return dish;
+    }
+
+    public void setDish(DishDTO dish) {
+        this.dish = dish;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -82,6 +92,7 @@ public class OrderItemDTO implements Serializable {
             ", quantity=" + getQuantity() +
             ", totalPrice=" + getTotalPrice() +
             ", order=" + getOrder() +
+            ", dish=" + getDish() +
             "}";
     }
 }
@@ -0,0 +1,45 @@
+package com.ifood.app.service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO for placing a {@link com.ifood.app.domain.Order}: the dishes to order, with their quantities, for an
+ * optional customer. Prices are never taken from the client.
+ */
+public class OrderPlacementDTO implements Serializable {
+
+    private Long customerId;
+
+    @NotEmpty(message = "must not be empty")
+    @Valid
+    private List<OrderPlacementItemDTO> items = new ArrayList<>();
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public List<OrderPlacementItemDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<OrderPlacementItemDTO> items) {
+        this.items = items;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "OrderPlacementDTO{" +
+            "customerId=" + getCustomerId() +
+            ", items=" + getItems() +
+            "}";
+    }
+}
@@ -0,0 +1,42 @@
+package com.ifood.app.service.dto;
+
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+
+/**
+ * A line of an {@link OrderPlacementDTO}: a dish and how many of it to order.
+ */
+public class OrderPlacementItemDTO implements Serializable {
+
+    @NotNull(message = "must not be null")
+    private Long dishId;
+
+    @NotNull(message = "must not be null")
+    @Min(value = 1)
+    private Integer quantity;
+
+    public Long getDishId() {
+        return dishId;
+    }
+
+    public void setDishId(Long dishId) {
+        this.dishId = dishId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "OrderPlacementItemDTO{" +
+            "dishId=" + getDishId() +
+            ", quantity=" + getQuantity() +
+            "}";
+    }
+}
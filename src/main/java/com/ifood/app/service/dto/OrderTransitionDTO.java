@@ -0,0 +1,43 @@
+package com.ifood.app.service.dto;
+
+import com.ifood.app.domain.enumeration.OrderStatus;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+
+/**
+ * A transition of an {@link com.ifood.app.domain.Order} to a new status, decided on the given version of the order.
+ * Once applied, it holds the new version of the order.
+ */
+public class OrderTransitionDTO implements Serializable {
+
+    @NotNull(message = "must not be null")
+    private OrderStatus status;
+
+    @NotNull(message = "must not be null")
+    private Long version;
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "OrderTransitionDTO{" +
+            "status='" + getStatus() + "'" +
+            ", version=" + getVersion() +
+            "}";
+    }
+}
@@ -0,0 +1,97 @@
+package com.ifood.app.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read-only DTO for the catalog of a {@link com.ifood.app.domain.Restaurant}: the restaurant together with its
+ * menus and their dishes.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class RestaurantCatalogDTO implements Serializable {
+
+    private Long id;
+
+    private String name;
+
+    private String location;
+
+    private Double rating;
+
+    private List<MenuCatalogDTO> menus = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+
+    public void setRating(Double rating) {
+        this.rating = rating;
+    }
+
+    public List<MenuCatalogDTO> getMenus() {
+        return menus;
+    }
+
+    public void setMenus(List<MenuCatalogDTO> menus) {
+        this.menus = menus;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RestaurantCatalogDTO)) {
+            return false;
+        }
+
+        RestaurantCatalogDTO restaurantCatalogDTO = (RestaurantCatalogDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, restaurantCatalogDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "RestaurantCatalogDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", location='" + getLocation() + "'" +
+            ", rating=" + getRating() +
+            ", menus=" + getMenus() +
+            "}";
+    }
+}
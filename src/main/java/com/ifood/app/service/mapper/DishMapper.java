@@ -9,11 +9,22 @@ import org.mapstruct.*;
 /**
  * Mapper for the entity {@link Dish} and its DTO {@link DishDTO}.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = { MenuMapper.class })
 public interface DishMapper extends EntityMapper<DishDTO, Dish> {
     @Mapping(target = "menu", source = "menu", qualifiedByName = "menuId")
     DishDTO toDto(Dish s);
 
+    // the menuId column is set along with the relationship
+    @Override
+    @Mapping(target = "menuId", ignore = true)
+    Dish toEntity(DishDTO dto);
+
+    @Override
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "menuId", ignore = true)
+    void partialUpdate(@MappingTarget Dish entity, DishDTO dto);
+
     @Named("menuId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
@@ -14,6 +14,17 @@ public interface MenuMapper extends EntityMapper<MenuDTO, Menu> {
     @Mapping(target = "restaurant", source = "restaurant", qualifiedByName = "restaurantId")
     MenuDTO toDto(Menu s);
 
+    // the restaurantId column is set along with the relationship
+    @Override
+    @Mapping(target = "restaurantId", ignore = true)
+    Menu toEntity(MenuDTO dto);
+
+    @Override
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "restaurantId", ignore = true)
+    void partialUpdate(@MappingTarget Menu entity, MenuDTO dto);
+
     @Named("restaurantId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
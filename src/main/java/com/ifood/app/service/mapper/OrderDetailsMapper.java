@@ -0,0 +1,13 @@
+package com.ifood.app.service.mapper;
+
+import com.ifood.app.domain.Order;
+import com.ifood.app.service.dto.OrderDetailsDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the {@link Order} aggregate and its read-only DTO {@link OrderDetailsDTO}.
+ */
+@Mapper(componentModel = "spring", uses = { CustomerMapper.class, OrderItemMapper.class })
+public interface OrderDetailsMapper {
+    OrderDetailsDTO toDto(Order order);
+}
@@ -1,7 +1,9 @@
 package com.ifood.app.service.mapper;
 
+import com.ifood.app.domain.Dish;
 import com.ifood.app.domain.Order;
 import com.ifood.app.domain.OrderItem;
+import com.ifood.app.service.dto.DishDTO;
 import com.ifood.app.service.dto.OrderDTO;
 import com.ifood.app.service.dto.OrderItemDTO;
 import org.mapstruct.*;
@@ -9,13 +11,32 @@ import org.mapstruct.*;
 /**
  * Mapper for the entity {@link OrderItem} and its DTO {@link OrderItemDTO}.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = { OrderMapper.class, DishMapper.class })
 public interface OrderItemMapper extends EntityMapper<OrderItemDTO, OrderItem> {
     @Mapping(target = "order", source = "order", qualifiedByName = "orderId")
+    @Mapping(target = "dish", source = "dish", qualifiedByName = "dishId")
     OrderItemDTO toDto(OrderItem s);
 
+    // the orderId and dishId columns are set along with the relationships
+    @Override
+    @Mapping(target = "orderId", ignore = true)
+    @Mapping(target = "dishId", ignore = true)
+    OrderItem toEntity(OrderItemDTO dto);
+
+    @Override
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "orderId", ignore = true)
+    @Mapping(target = "dishId", ignore = true)
+    void partialUpdate(@MappingTarget OrderItem entity, OrderItemDTO dto);
+
     @Named("orderId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
     OrderDTO toDtoOrderId(Order order);
+
+    @Named("dishId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    DishDTO toDtoDishId(Dish dish);
 }
@@ -14,6 +14,17 @@ public interface OrderMapper extends EntityMapper<OrderDTO, Order> {
     @Mapping(target = "customer", source = "customer", qualifiedByName = "customerId")
     OrderDTO toDto(Order s);
 
+    // the customerId column is set along with the relationship
+    @Override
+    @Mapping(target = "customerId", ignore = true)
+    Order toEntity(OrderDTO dto);
+
+    @Override
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "customerId", ignore = true)
+    void partialUpdate(@MappingTarget Order entity, OrderDTO dto);
+
     @Named("customerId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
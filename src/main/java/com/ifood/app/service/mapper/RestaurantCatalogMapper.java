@@ -0,0 +1,20 @@
+package com.ifood.app.service.mapper;
+
+import com.ifood.app.domain.Menu;
+import com.ifood.app.domain.Restaurant;
+import com.ifood.app.service.dto.MenuCatalogDTO;
+import com.ifood.app.service.dto.RestaurantCatalogDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the catalog of a {@link Restaurant} and its read-only DTO {@link RestaurantCatalogDTO}. The menus and
+ * dishes are set by the caller, in their display order.
+ */
+@Mapper(componentModel = "spring")
+public interface RestaurantCatalogMapper {
+    @Mapping(target = "menus", ignore = true)
+    RestaurantCatalogDTO toDto(Restaurant restaurant);
+
+    @Mapping(target = "dishes", ignore = true)
+    MenuCatalogDTO toDto(Menu menu);
+}
@@ -0,0 +1,130 @@
+package com.ifood.app.web.filter;
+
+import com.ifood.app.management.CrudMetered;
+import com.ifood.app.management.CrudMetersService;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records the latency, outcome and response size of the requests to the entity resources, the REST controllers
+ * annotated with {@link CrudMetered}.
+ * <p>
+ * The meters of all their endpoints are registered when the filter is created, tagged with the entity and the name of
+ * the handler method, and found for each request from the handler it was mapped to.
+ */
+@Component
+public class CrudMetricsWebFilter implements WebFilter, Ordered {
+
+    private final Map<Method, CrudMetersService.Endpoint> endpoints = new HashMap<>();
+
+    public CrudMetricsWebFilter(
+        CrudMetersService crudMetersService,
+        @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping requestMappingHandlerMapping
+    ) {
+        Map<Class<?>, String> entities = new HashMap<>();
+        requestMappingHandlerMapping
+            .getHandlerMethods()
+            .values()
+            .forEach(handlerMethod -> {
+                String entity = entities.computeIfAbsent(handlerMethod.getBeanType(), CrudMetricsWebFilter::entityName);
+                if (!entity.isEmpty()) {
+                    endpoints.computeIfAbsent(handlerMethod.getMethod(), method -> crudMetersService.endpoint(entity, method.getName()));
+                }
+            });
+    }
+
+    /**
+     * @return the entity name a resource is metered under, or an empty string if it is not metered.
+     */
+    private static String entityName(Class<?> resource) {
+        CrudMetered crudMetered = AnnotationUtils.findAnnotation(resource, CrudMetered.class);
+        return crudMetered == null ? "" : crudMetered.value();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().value().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        CountingResponse response = new CountingResponse(exchange.getResponse());
+        return chain
+            .filter(exchange.mutate().response(response).build())
+            .doOnSuccess(ignored -> record(exchange, start, response, CrudMetersService.Outcome.of(response.getStatusCode())))
+            .doOnError(e -> record(exchange, start, response, outcome(e)))
+            .doOnCancel(() -> record(exchange, start, response, CrudMetersService.Outcome.CANCELLED));
+    }
+
+    private void record(ServerWebExchange exchange, long start, CountingResponse response, CrudMetersService.Outcome outcome) {
+        if (exchange.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            CrudMetersService.Endpoint endpoint = endpoints.get(handlerMethod.getMethod());
+            if (endpoint != null) {
+                endpoint.record(outcome, System.nanoTime() - start, response.bytes.sum());
+            }
+        }
+    }
+
+    /**
+     * The outcome of a request which handler failed, before the failure is turned into a response.
+     */
+    private static CrudMetersService.Outcome outcome(Throwable e) {
+        if (e instanceof ErrorResponse errorResponse) {
+            return CrudMetersService.Outcome.of(errorResponse.getStatusCode());
+        }
+        return CrudMetersService.Outcome.SERVER_ERROR;
+    }
+
+    /**
+     * Run before the security filters, so that the time spent authenticating the request is recorded too.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Counts the bytes of the body written.
+     */
+    private static final class CountingResponse extends ServerHttpResponseDecorator {
+
+        private final LongAdder bytes = new LongAdder();
+
+        private CountingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::count));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(buffers -> Flux.from(buffers).doOnNext(this::count)));
+        }
+
+        private void count(DataBuffer buffer) {
+            // the body may be written on another thread than the one recording the request
+            bytes.add(buffer.readableByteCount());
+        }
+    }
+}
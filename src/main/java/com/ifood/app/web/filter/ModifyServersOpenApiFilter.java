@@ -1,15 +1,24 @@
 package com.ifood.app.web.filter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -22,7 +31,6 @@ import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
@@ -31,19 +39,34 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Sets the {@code servers} of the OpenAPI descriptions of the proxied services to their path through the gateway.
+ * <p>
+ * Descriptions are rewritten in a single streaming pass, from the (possibly gzipped) bytes received to the bytes sent,
+ * without building a tree nor a string of them. The rewritten description of each service instance is kept along with
+ * the {@code ETag} and the digest of the description it was rewritten from, and served again as long as the instance
+ * sends the same one: a matching {@code ETag} spares reading the description at all, otherwise the digest is computed
+ * on the received bytes as they arrive, and the description is only decompressed and parsed when it changed.
+ */
 @Component
 public class ModifyServersOpenApiFilter implements GlobalFilter, Ordered {
 
     private static final String OPEN_API_PATH = "/v3/api-docs";
     private static final Logger log = LoggerFactory.getLogger(ModifyServersOpenApiFilter.class);
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final int MAXIMUM_CACHED_DESCRIPTIONS = 256;
+
+    private final Cache<String, RewrittenDescription> rewrittenDescriptions = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_CACHED_DESCRIPTIONS)
+        .build();
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         String path = exchange.getRequest().getURI().getPath();
         if (path.startsWith("/services") && path.contains(OPEN_API_PATH)) {
-            ServerHttpResponse originalResponse = exchange.getResponse();
-            DataBufferFactory bufferFactory = originalResponse.bufferFactory();
-            ServerHttpResponseDecorator decoratedResponse = createModifyServersOpenApiInterceptor(path, originalResponse, bufferFactory);
+            ServerHttpResponseDecorator decoratedResponse = createModifyServersOpenApiInterceptor(path, exchange);
 
             // replace response with decorator
             return chain.filter(exchange.mutate().response(decoratedResponse).build());
@@ -57,91 +80,150 @@ public class ModifyServersOpenApiFilter implements GlobalFilter, Ordered {
         return -1;
     }
 
-    public ModifyServersOpenApiInterceptor createModifyServersOpenApiInterceptor(
-        String path,
-        ServerHttpResponse originalResponse,
-        DataBufferFactory bufferFactory
-    ) {
-        return new ModifyServersOpenApiInterceptor(path, originalResponse, bufferFactory);
+    public ModifyServersOpenApiInterceptor createModifyServersOpenApiInterceptor(String path, ServerWebExchange exchange) {
+        return new ModifyServersOpenApiInterceptor(path, exchange);
     }
 
     public class ModifyServersOpenApiInterceptor extends ServerHttpResponseDecorator {
 
         private final String path;
+        private final ServerWebExchange exchange;
         private final ServerHttpResponse originalResponse;
         private final DataBufferFactory bufferFactory;
-        private String rewritedBody = "";
+        private byte[] rewritedBody;
 
-        private ModifyServersOpenApiInterceptor(String path, ServerHttpResponse originalResponse, DataBufferFactory bufferFactory) {
-            super(originalResponse);
+        private ModifyServersOpenApiInterceptor(String path, ServerWebExchange exchange) {
+            super(exchange.getResponse());
             this.path = path;
-            this.originalResponse = originalResponse;
-            this.bufferFactory = bufferFactory;
+            this.exchange = exchange;
+            this.originalResponse = exchange.getResponse();
+            this.bufferFactory = originalResponse.bufferFactory();
         }
 
+        /**
+         * @return the rewritten description, unzipped, or an empty string if the description was not rewritten.
+         */
         public String getRewritedBody() {
-            return rewritedBody;
+            if (rewritedBody == null) {
+                return "";
+            }
+            return new String(isZippedResponse() ? unzipContent(rewritedBody) : rewritedBody, StandardCharsets.UTF_8);
         }
 
         @Override
         public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
-            rewritedBody = "";
+            rewritedBody = null;
             if (body instanceof Flux) {
                 Flux<? extends DataBuffer> fluxBody = (Flux<? extends DataBuffer>) body;
+                String key = cacheKey();
+                String etag = originalResponse.getHeaders().getETag();
+                RewrittenDescription cached = rewrittenDescriptions.getIfPresent(key);
+                if (cached != null && etag != null && etag.equals(cached.sourceEtag)) {
+                    return super.writeWith(fluxBody.doOnNext(DataBufferUtils::release).then(Mono.fromSupplier(() -> serve(cached))));
+                }
 
-                return super.writeWith(fluxBody.buffer().map(dataBuffers -> rewriteBodyWithServers(dataBuffers)));
+                MessageDigest digest = newDigest();
+                return super.writeWith(
+                    DataBufferUtils.join(fluxBody.doOnNext(chunk -> update(digest, chunk))).map(content ->
+                        rewriteBodyWithServers(key, etag, digest.digest(), content)
+                    )
+                );
             }
             // when body is not a flux
             return super.writeWith(body);
         }
 
-        private DataBuffer rewriteBodyWithServers(List<? extends DataBuffer> dataBuffers) {
-            DataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
-            DataBuffer join = dataBufferFactory.join(dataBuffers);
-            byte[] content = new byte[join.readableByteCount()];
-            join.read(content);
+        /**
+         * @return the key of the rewritten descriptions of the service instance the request was routed to.
+         */
+        private String cacheKey() {
+            URI requestUrl = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+            String instance = requestUrl == null ? "" : requestUrl.getHost() + ":" + requestUrl.getPort() + " ";
+            return instance + (isZippedResponse() ? path + " gzip" : path);
+        }
+
+        private DataBuffer rewriteBodyWithServers(String key, String etag, byte[] digest, DataBuffer content) {
+            RewrittenDescription rewritten = rewrittenDescriptions.getIfPresent(key);
+            if (rewritten == null || !Arrays.equals(rewritten.sourceDigest, digest)) {
+                int readPosition = content.readPosition();
+                try {
+                    rewritten = new RewrittenDescription(digest, etag, rewrite(content));
+                } catch (IOException e) {
+                    log.error("Error when modify servers from api-doc of {}: {}", path, e.getMessage());
+                    content.readPosition(readPosition);
+                    return content;
+                }
+                rewrittenDescriptions.put(key, rewritten);
+            } else if (!Objects.equals(rewritten.sourceEtag, etag)) {
+                rewrittenDescriptions.put(key, new RewrittenDescription(digest, etag, rewritten.body));
+            }
 
             // release memory
-            DataBufferUtils.release(join);
-            String strBody = contentToString(content);
+            DataBufferUtils.release(content);
+            return serve(rewritten);
+        }
 
-            try {
-                // create custom server
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode jsonBody = mapper.readTree(strBody);
-                ObjectNode serversToJson = mapper.createObjectNode();
-                serversToJson.set("url", mapper.valueToTree(path.replaceFirst(OPEN_API_PATH + "(/.*)?$", "")));
-                serversToJson.set("description", mapper.valueToTree("added by global filter"));
-
-                // add custom server
-                ArrayNode servers = mapper.createArrayNode();
-                servers.add(serversToJson);
-                ((ObjectNode) jsonBody).set("servers", servers);
-
-                rewritedBody = jsonBody.toString();
-                return rewritedBodyToDataBuffer();
-            } catch (JsonProcessingException e) {
-                log.error("Error when modify servers from api-doc of {}: {}", path, e.getMessage());
+        private DataBuffer serve(RewrittenDescription rewritten) {
+            rewritedBody = rewritten.body;
+            originalResponse.getHeaders().setContentLength(rewritten.body.length);
+            return bufferFactory.wrap(rewritten.body);
+        }
+
+        private byte[] rewrite(DataBuffer content) throws IOException {
+            ByteArrayOutputStream rewritten = new ByteArrayOutputStream(content.readableByteCount() + 128);
+            boolean zipped = isZippedResponse();
+            try (
+                InputStream input = zipped ? new GZIPInputStream(content.asInputStream()) : content.asInputStream();
+                OutputStream output = zipped ? new GZIPOutputStream(rewritten) : rewritten;
+                JsonParser parser = JSON_FACTORY.createParser(input);
+                JsonGenerator generator = JSON_FACTORY.createGenerator(output)
+            ) {
+                rewriteServers(parser, generator);
+            }
+            return rewritten.toByteArray();
+        }
+
+        /**
+         * Copy the description, replacing its {@code servers} by the path of the service instance through the gateway.
+         */
+        private void rewriteServers(JsonParser parser, JsonGenerator generator) throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "The OpenAPI description is not a JSON object");
             }
-            return join;
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("servers".equals(name)) {
+                    parser.skipChildren();
+                } else {
+                    generator.writeFieldName(name);
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            generator.writeArrayFieldStart("servers");
+            generator.writeStartObject();
+            generator.writeStringField("url", path.replaceFirst(OPEN_API_PATH + "(/.*)?$", ""));
+            generator.writeStringField("description", "added by global filter");
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
         }
 
-        private DataBuffer rewritedBodyToDataBuffer() {
-            if (isZippedResponse()) {
-                byte[] zippedBody = zipContent(rewritedBody);
-                originalResponse.getHeaders().setContentLength(zippedBody.length);
-                return bufferFactory.wrap(zippedBody);
+        private MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
             }
-            originalResponse.getHeaders().setContentLength(rewritedBody.getBytes().length);
-            return bufferFactory.wrap(rewritedBody.getBytes());
         }
 
-        private String contentToString(byte[] content) {
-            if (isZippedResponse()) {
-                byte[] unzippedContent = unzipContent(content);
-                return new String(unzippedContent, StandardCharsets.UTF_8);
+        private void update(MessageDigest digest, DataBuffer chunk) {
+            try (DataBuffer.ByteBufferIterator iterator = chunk.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    digest.update(iterator.next());
+                }
             }
-            return new String(content, StandardCharsets.UTF_8);
         }
 
         private boolean isZippedResponse() {
@@ -153,29 +235,31 @@ public class ModifyServersOpenApiFilter implements GlobalFilter, Ordered {
         }
 
         private byte[] unzipContent(byte[] content) {
-            try {
-                GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(content));
-                byte[] unzippedContent = gzipInputStream.readAllBytes();
-                gzipInputStream.close();
-                return unzippedContent;
+            try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+                return gzipInputStream.readAllBytes();
             } catch (IOException e) {
                 log.error("Error when unzip content during modify servers from api-doc of {}: {}", path, e.getMessage());
             }
             return content;
         }
+    }
 
-        private byte[] zipContent(String content) {
-            try {
-                ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(content.length());
-                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream);
-                gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
-                gzipOutputStream.flush();
-                gzipOutputStream.close();
-                return byteArrayOutputStream.toByteArray();
-            } catch (IOException e) {
-                log.error("Error when zip content during modify servers from api-doc of {}: {}", path, e.getMessage());
-            }
-            return content.getBytes();
+    /**
+     * A rewritten description, along with the digest and the {@code ETag}, if any, of the description it was rewritten
+     * from.
+     */
+    private static final class RewrittenDescription {
+
+        private final byte[] sourceDigest;
+
+        private final String sourceEtag;
+
+        private final byte[] body;
+
+        private RewrittenDescription(byte[] sourceDigest, String sourceEtag, byte[] body) {
+            this.sourceDigest = sourceDigest;
+            this.sourceEtag = sourceEtag;
+            this.body = body;
         }
     }
 }
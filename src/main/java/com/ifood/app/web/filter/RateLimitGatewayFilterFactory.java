@@ -0,0 +1,92 @@
+package com.ifood.app.web.filter;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import com.ifood.app.security.ratelimit.RateLimit;
+import com.ifood.app.security.ratelimit.RequestRateLimiter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gateway filter rate limiting the requests of a route, per user or per client address for anonymous requests.
+ * <p>
+ * Each route gets its own buckets and meters, tagged with the id of the route.
+ */
+@Component
+public class RateLimitGatewayFilterFactory extends AbstractGatewayFilterFactory<RateLimitGatewayFilterFactory.Config> {
+
+    private final RequestRateLimiter requestRateLimiter;
+
+    public RateLimitGatewayFilterFactory(RequestRateLimiter requestRateLimiter) {
+        super(Config.class);
+        this.requestRateLimiter = requestRateLimiter;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("capacity", "replenishRate", "replenishPeriod");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        RateLimit limit = new RateLimit(config.getCapacity(), config.getReplenishRate(), config.getReplenishPeriod());
+        Map<String, RequestRateLimiter.Rule> limiters = new ConcurrentHashMap<>();
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "gateway";
+            RequestRateLimiter.Rule limiter = limiters.get(routeId);
+            if (limiter == null) {
+                limiter = limiters.computeIfAbsent(routeId, id -> requestRateLimiter.rule("route:" + id, limit));
+            }
+            return limiter.filter(exchange, chain::filter);
+        };
+    }
+
+    public static class Config {
+
+        /**
+         * The number of requests a user or client address may burst.
+         */
+        private long capacity;
+
+        /**
+         * The number of requests a user or client address may make every {@code replenish-period}.
+         */
+        private long replenishRate;
+
+        /**
+         * The period over which {@code replenish-rate} requests are allowed.
+         */
+        private Duration replenishPeriod = Duration.ofSeconds(1);
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public long getReplenishRate() {
+            return replenishRate;
+        }
+
+        public void setReplenishRate(long replenishRate) {
+            this.replenishRate = replenishRate;
+        }
+
+        public Duration getReplenishPeriod() {
+            return replenishPeriod;
+        }
+
+        public void setReplenishPeriod(Duration replenishPeriod) {
+            this.replenishPeriod = replenishPeriod;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ifood.app.web.filter;
+
+import com.ifood.app.config.ApplicationProperties;
+import com.ifood.app.security.ratelimit.RateLimit;
+import com.ifood.app.security.ratelimit.RequestRateLimiter;
+import java.util.List;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate limits the requests matching the {@code application.rate-limit.rules}, each one by the first rule it matches.
+ */
+public class RateLimitingWebFilter implements WebFilter {
+
+    private final List<MatchingRule> rules;
+
+    public RateLimitingWebFilter(List<ApplicationProperties.RateLimit.Rule> rules, RequestRateLimiter requestRateLimiter) {
+        this.rules = rules
+            .stream()
+            .map(rule ->
+                new MatchingRule(
+                    PathPatternParser.defaultInstance.parse(rule.getPath()),
+                    rule.getMethod() != null ? HttpMethod.valueOf(rule.getMethod()) : null,
+                    requestRateLimiter.rule(
+                        rule.getName(),
+                        new RateLimit(rule.getCapacity(), rule.getReplenishRate(), rule.getReplenishPeriod())
+                    )
+                )
+            )
+            .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        for (MatchingRule rule : rules) {
+            if (rule.matches(request)) {
+                return rule.limiter.filter(exchange, chain::filter);
+            }
+        }
+        return chain.filter(exchange);
+    }
+
+    private static final class MatchingRule {
+
+        private final PathPattern path;
+
+        private final HttpMethod method;
+
+        private final RequestRateLimiter.Rule limiter;
+
+        private MatchingRule(PathPattern path, HttpMethod method, RequestRateLimiter.Rule limiter) {
+            this.path = path;
+            this.method = method;
+            this.limiter = limiter;
+        }
+
+        private boolean matches(ServerHttpRequest request) {
+            return (method == null || method.equals(request.getMethod())) && path.matches(request.getPath().pathWithinApplication());
+        }
+    }
+}
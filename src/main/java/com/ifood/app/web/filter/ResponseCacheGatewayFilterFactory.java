@@ -0,0 +1,358 @@
+package com.ifood.app.web.filter;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ifood.app.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.IllegalReferenceCountException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gateway filter serving the successful GETs of a route from memory, for as long as the proxied service allows it.
+ * <p>
+ * A response is cached for its {@code Cache-Control} {@code s-maxage} or {@code max-age}, less its {@code Age}, or for
+ * the route's {@code time-to-live} when it has none; responses marked {@code no-store}, {@code no-cache} or
+ * {@code private}, setting cookies, or varying on other headers than {@code Accept} and {@code Accept-Encoding} are
+ * not cached. Requests marked {@code no-cache} skip the cache and refresh it, the ones marked {@code no-store} bypass
+ * it entirely.
+ * <p>
+ * Responses are keyed by route, path, query, {@code Accept} and {@code Accept-Encoding}, and by principal for
+ * authenticated requests. With {@code per-principal: false}, authenticated requests share the responses the service
+ * marks {@code public} or {@code s-maxage}, and are not cached otherwise.
+ * <p>
+ * Bodies are held in pooled direct buffers, up to {@code application.response-cache.maximum-size} bytes across all
+ * routes, and released when evicted. The cache is monitored under {@value #CACHE_NAME}.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_NAME = "gateway.response-cache";
+
+    private static final Set<String> KEYED_HEADERS = Set.of("accept", "accept-encoding");
+
+    private static final Set<String> UNCACHED_HEADERS = Set.of(
+        HttpHeaders.AGE,
+        HttpHeaders.CONNECTION,
+        HttpHeaders.CONTENT_LENGTH,
+        HttpHeaders.DATE,
+        HttpHeaders.TRANSFER_ENCODING,
+        "Keep-Alive"
+    );
+
+    private final Cache<String, CachedResponse> responses;
+
+    private final long maximumEntrySize;
+
+    public ResponseCacheGatewayFilterFactory(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        super(Config.class);
+        ApplicationProperties.ResponseCache properties = applicationProperties.getResponseCache();
+        this.maximumEntrySize = Math.min(properties.getMaximumEntrySize().toBytes(), Integer.MAX_VALUE);
+        this.responses = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumSize().toBytes())
+            .weigher((String key, CachedResponse response) -> response.body.capacity())
+            .expireAfter(new UntilStale())
+            .removalListener((String key, CachedResponse response, RemovalCause cause) -> response.body.release())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("timeToLive", "perPrincipal");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Map<String, String> cacheControl = cacheControl(request.getHeaders());
+            if (request.getMethod() != HttpMethod.GET || cacheControl.containsKey("no-store")) {
+                return chain.filter(exchange);
+            }
+            boolean authenticated = request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION);
+            boolean shared = authenticated && !config.isPerPrincipal();
+            Mono<String> key = !authenticated || shared
+                ? Mono.just(key(exchange))
+                // an authenticated request without principal is proxied without being cached
+                : exchange.getPrincipal().map(principal -> key(exchange) + ' ' + principal.getName()).defaultIfEmpty("");
+            return key.flatMap(cacheKey -> {
+                if (cacheKey.isEmpty()) {
+                    return chain.filter(exchange);
+                }
+                CachedResponse cached = cacheControl.containsKey("no-cache") ? null : responses.getIfPresent(cacheKey);
+                Mono<Void> hit = cached != null ? cached.writeTo(exchange.getResponse()) : null;
+                if (hit != null) {
+                    return hit;
+                }
+                CachingResponse response = new CachingResponse(exchange.getResponse(), cacheKey, config, shared);
+                return chain.filter(exchange.mutate().response(response).build());
+            });
+        };
+    }
+
+    private static String key(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders headers = request.getHeaders();
+        return (
+            (route != null ? route.getId() : "") +
+            ' ' +
+            request.getURI().getRawPath() +
+            '?' +
+            (request.getURI().getRawQuery() != null ? request.getURI().getRawQuery() : "") +
+            ' ' +
+            headers.getOrEmpty(HttpHeaders.ACCEPT) +
+            ' ' +
+            headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)
+        );
+    }
+
+    private static Map<String, String> cacheControl(HttpHeaders headers) {
+        Map<String, String> directives = new HashMap<>();
+        for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : StringUtils.tokenizeToStringArray(value, ",")) {
+                int equals = directive.indexOf('=');
+                String name = (equals < 0 ? directive : directive.substring(0, equals)).trim().toLowerCase(Locale.ROOT);
+                String argument = equals < 0 ? "" : directive.substring(equals + 1).trim();
+                directives.put(name, StringUtils.trimTrailingCharacter(StringUtils.trimLeadingCharacter(argument, '"'), '"'));
+            }
+        }
+        return directives;
+    }
+
+    private static long seconds(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Records the body of a response while it is written, and caches it once fully written when the response allows
+     * it.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+
+        private final Config config;
+
+        private final boolean shared;
+
+        private ByteBuf body;
+
+        private CachingResponse(ServerHttpResponse delegate, String key, Config config, boolean shared) {
+            super(delegate);
+            this.key = key;
+            this.config = config;
+            this.shared = shared;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            Duration timeToLive = timeToLive();
+            if (timeToLive.isZero() || timeToLive.isNegative()) {
+                return super.writeWith(body);
+            }
+            long contentLength = getHeaders().getContentLength();
+            if (contentLength > maximumEntrySize) {
+                return super.writeWith(body);
+            }
+            int initialCapacity = contentLength >= 0 ? (int) contentLength : (int) Math.min(1024, maximumEntrySize);
+            this.body = PooledByteBufAllocator.DEFAULT.directBuffer(initialCapacity, (int) maximumEntrySize);
+            return super.writeWith(
+                Flux.from(body)
+                    .doOnNext(this::record)
+                    .doOnComplete(() -> store(timeToLive))
+                    .doFinally(signal -> discard())
+            );
+        }
+
+        private Duration timeToLive() {
+            HttpHeaders headers = getHeaders();
+            Map<String, String> cacheControl = cacheControl(headers);
+            if (
+                !HttpStatus.OK.equals(getStatusCode()) ||
+                headers.containsKey(HttpHeaders.SET_COOKIE) ||
+                cacheControl.containsKey("no-store") ||
+                cacheControl.containsKey("no-cache") ||
+                cacheControl.containsKey("private") ||
+                (shared && !cacheControl.containsKey("public") && !cacheControl.containsKey("s-maxage")) ||
+                !headers.getVary().stream().allMatch(name -> KEYED_HEADERS.contains(name.toLowerCase(Locale.ROOT)))
+            ) {
+                return Duration.ZERO;
+            }
+            String maxAge = cacheControl.getOrDefault("s-maxage", cacheControl.get("max-age"));
+            if (maxAge == null) {
+                return config.getTimeToLive();
+            }
+            long age = headers.containsKey(HttpHeaders.AGE) ? seconds(headers.getFirst(HttpHeaders.AGE)) : 0;
+            return Duration.ofSeconds(seconds(maxAge) - age);
+        }
+
+        private void record(DataBuffer buffer) {
+            if (body == null) {
+                return;
+            }
+            if (body.readableBytes() + buffer.readableByteCount() > body.maxCapacity()) {
+                discard();
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    body.writeBytes(iterator.next());
+                }
+            }
+        }
+
+        private void store(Duration timeToLive) {
+            if (body == null) {
+                return;
+            }
+            HttpHeaders headers = new HttpHeaders();
+            getHeaders()
+                .forEach((name, values) -> {
+                    if (UNCACHED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                        headers.put(name, List.copyOf(values));
+                    }
+                });
+            responses.put(key, new CachedResponse(HttpHeaders.readOnlyHttpHeaders(headers), body, System.nanoTime(), timeToLive));
+            body = null;
+        }
+
+        private void discard() {
+            if (body != null) {
+                body.release();
+                body = null;
+            }
+        }
+    }
+
+    /**
+     * A cached response, which body is released when it leaves the cache.
+     */
+    private static final class CachedResponse {
+
+        private final HttpHeaders headers;
+
+        private final ByteBuf body;
+
+        private final long storedAt;
+
+        private final Duration timeToLive;
+
+        private CachedResponse(HttpHeaders headers, ByteBuf body, long storedAt, Duration timeToLive) {
+            this.headers = headers;
+            this.body = body;
+            this.storedAt = storedAt;
+            this.timeToLive = timeToLive;
+        }
+
+        /**
+         * Write this response, unless its body was released since it was read from the cache.
+         *
+         * @return the completion of the write, or null if the body was released.
+         */
+        private Mono<Void> writeTo(ServerHttpResponse response) {
+            ByteBuf content;
+            try {
+                content = body.retainedDuplicate();
+            } catch (IllegalReferenceCountException e) {
+                return null;
+            }
+            DataBuffer buffer;
+            if (response.bufferFactory() instanceof NettyDataBufferFactory nettyDataBufferFactory) {
+                buffer = nettyDataBufferFactory.wrap(content);
+            } else {
+                byte[] bytes = ByteBufUtil.getBytes(content);
+                content.release();
+                buffer = response.bufferFactory().wrap(bytes);
+            }
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().putAll(headers);
+            response.getHeaders().setContentLength(buffer.readableByteCount());
+            response.getHeaders().set(HttpHeaders.AGE, Long.toString(Duration.ofNanos(System.nanoTime() - storedAt).toSeconds()));
+            return response.writeWith(Mono.just(buffer));
+        }
+    }
+
+    private static final class UntilStale implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+            return response.timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return response.timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    public static class Config {
+
+        /**
+         * How long responses without {@code max-age} nor {@code s-maxage} are cached, zero to not cache them.
+         */
+        private Duration timeToLive = Duration.ZERO;
+
+        /**
+         * Whether authenticated requests are cached per principal, rather than sharing the responses the service marks
+         * public.
+         */
+        private boolean perPrincipal = true;
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public boolean isPerPrincipal() {
+            return perPrincipal;
+        }
+
+        public void setPerPrincipal(boolean perPrincipal) {
+            this.perPrincipal = perPrincipal;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ifood.app.web.loadbalancer;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Ends the request in flight to the instance a proxied request was sent to when the exchange ends, including when the
+ * client cancels it, which the lifecycles of the load balancer are not told about.
+ * <p>
+ * It runs right after the load balancer filter, which starts the request in flight once it picked the instance.
+ */
+public class InFlightRequestFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return chain
+            .filter(exchange)
+            .doFinally(signal -> {
+                if (exchange.getAttribute(InstanceLatencyTracker.IN_FLIGHT_REQUEST_ATTR) instanceof
+                    InstanceLatencyTracker.InFlightRequest inFlightRequest) {
+                    inFlightRequest.end();
+                }
+            });
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
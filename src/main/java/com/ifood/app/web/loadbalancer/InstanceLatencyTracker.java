@@ -0,0 +1,241 @@
+package com.ifood.app.web.loadbalancer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+
+/**
+ * Tracks the requests in flight and the response time of each service instance, as {@link LeastLatencyLoadBalancer}
+ * needs them.
+ * <p>
+ * The response time is an exponentially weighted moving average, which weights decay with time rather than with the
+ * number of requests, so that an instance serving few requests does not keep an old response time for long. Its score
+ * also decays with the time since its last response, so that an instance that stopped being picked after slow responses
+ * is eventually picked again, and its response time sampled again, rather than being left out for good. The
+ * statistics of each instance are published under {@value #SCORE_METER_NAME}, {@value #RESPONSE_TIME_METER_NAME} and
+ * {@value #IN_FLIGHT_METER_NAME}, tagged with its service and instance, until the instance stops receiving requests.
+ * <p>
+ * The load balancer filter of the gateway only completes the requests of its lifecycles when their response succeeds or
+ * fails, not when the client cancels them, so the request in flight to an instance is also kept in the
+ * {@value #IN_FLIGHT_REQUEST_ATTR} exchange attribute, for {@link InFlightRequestFilter} to end it however the exchange
+ * ends. Either of them ends it, once.
+ */
+public class InstanceLatencyTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    public static final String SCORE_METER_NAME = "gateway.load-balancer.score";
+
+    public static final String RESPONSE_TIME_METER_NAME = "gateway.load-balancer.response-time";
+
+    public static final String IN_FLIGHT_METER_NAME = "gateway.load-balancer.in-flight";
+
+    public static final String IN_FLIGHT_REQUEST_ATTR = InstanceLatencyTracker.class.getName() + ".inFlightRequest";
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final Cache<String, InstanceStats> stats;
+
+    private final MeterRegistry registry;
+
+    private final long decayNanos;
+
+    private final LongSupplier nanoTime;
+
+    public InstanceLatencyTracker(MeterRegistry registry, Duration decay) {
+        this(registry, decay, System::nanoTime);
+    }
+
+    InstanceLatencyTracker(MeterRegistry registry, Duration decay, LongSupplier nanoTime) {
+        this.registry = registry;
+        this.decayNanos = decay.toNanos();
+        this.nanoTime = nanoTime;
+        this.stats = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_TIMEOUT)
+            .removalListener((String key, InstanceStats instanceStats, RemovalCause cause) -> instanceStats.meters.forEach(registry::remove))
+            .build();
+    }
+
+    /**
+     * Get the statistics of an instance, starting them if it has none.
+     *
+     * @param instance the instance.
+     * @return the statistics of the instance.
+     */
+    public InstanceStats stats(ServiceInstance instance) {
+        return stats.get(key(instance), key -> new InstanceStats(instance));
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {}
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(nanoTime.getAsLong());
+        }
+        if (lbResponse.hasServer()) {
+            InFlightRequest inFlightRequest = new InFlightRequest(stats(lbResponse.getServer()));
+            Map<String, Object> attributes = attributes(request);
+            if (attributes != null) {
+                attributes.put(IN_FLIGHT_REQUEST_ATTR, inFlightRequest);
+            }
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        InstanceStats instanceStats = stats(lbResponse.getServer());
+        Map<String, Object> attributes = attributes(completionContext.getLoadBalancerRequest());
+        if (attributes != null && attributes.get(IN_FLIGHT_REQUEST_ATTR) instanceof InFlightRequest inFlightRequest) {
+            inFlightRequest.end();
+        } else {
+            instanceStats.completed();
+        }
+        Object context = completionContext.getLoadBalancerRequest() != null ? completionContext.getLoadBalancerRequest().getContext() : null;
+        if (context instanceof TimedRequestContext timedContext && timedContext.getRequestStartTime() > 0) {
+            long now = nanoTime.getAsLong();
+            instanceStats.sampled(now - timedContext.getRequestStartTime(), now);
+        }
+    }
+
+    private static Map<String, Object> attributes(Request<Object> request) {
+        if (request != null && request.getContext() instanceof RequestDataContext context && context.getClientRequest() != null) {
+            return context.getClientRequest().getAttributes();
+        }
+        return null;
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + ' ' + instance.getHost() + ':' + instance.getPort();
+    }
+
+    /**
+     * A request in flight to a service instance, which ends once however many times it is ended.
+     */
+    static final class InFlightRequest {
+
+        private final InstanceStats instanceStats;
+
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private InFlightRequest(InstanceStats instanceStats) {
+            this.instanceStats = instanceStats;
+            instanceStats.started();
+        }
+
+        void end() {
+            if (ended.compareAndSet(false, true)) {
+                instanceStats.completed();
+            }
+        }
+    }
+
+    /**
+     * The requests in flight and the response time of a service instance.
+     */
+    public final class InstanceStats {
+
+        private int inFlight;
+
+        private long sampledAt;
+
+        private double responseTimeNanos = Double.NaN;
+
+        private final List<Meter> meters;
+
+        private InstanceStats(ServiceInstance instance) {
+            Tags tags = Tags.of(
+                "service",
+                String.valueOf(instance.getServiceId()),
+                "instance",
+                instance.getInstanceId() != null ? instance.getInstanceId() : instance.getHost() + ':' + instance.getPort()
+            );
+            this.meters = List.of(
+                Gauge.builder(SCORE_METER_NAME, this, InstanceStats::score)
+                    .description("Score of the instance, its decayed response time in seconds times its requests in flight plus one")
+                    .tags(tags)
+                    .register(registry),
+                Gauge.builder(RESPONSE_TIME_METER_NAME, this, stats -> stats.responseTime(TimeUnit.SECONDS))
+                    .description("Moving average of the response time of the instance")
+                    .baseUnit("seconds")
+                    .tags(tags)
+                    .register(registry),
+                Gauge.builder(IN_FLIGHT_METER_NAME, this, InstanceStats::inFlight)
+                    .description("Requests in flight to the instance")
+                    .tags(tags)
+                    .register(registry)
+            );
+        }
+
+        synchronized void started() {
+            inFlight++;
+        }
+
+        synchronized void completed() {
+            inFlight = Math.max(0, inFlight - 1);
+        }
+
+        synchronized void sampled(long responseTimeNanos, long now) {
+            if (Double.isNaN(this.responseTimeNanos)) {
+                this.responseTimeNanos = responseTimeNanos;
+            } else {
+                double weight = Math.exp(-(double) Math.max(0, now - sampledAt) / decayNanos);
+                this.responseTimeNanos = this.responseTimeNanos * weight + responseTimeNanos * (1 - weight);
+            }
+            sampledAt = now;
+        }
+
+        /**
+         * @return whether a response time was sampled.
+         */
+        public synchronized boolean isSampled() {
+            return !Double.isNaN(responseTimeNanos);
+        }
+
+        public synchronized int inFlight() {
+            return inFlight;
+        }
+
+        /**
+         * @param unit the unit of the response time.
+         * @return the moving average of the response time, NaN if none was sampled.
+         */
+        public synchronized double responseTime(TimeUnit unit) {
+            return responseTimeNanos / unit.toNanos(1);
+        }
+
+        /**
+         * @return the expected time for the instance to serve one more request, the lower the better: its response time,
+         * decayed toward zero with the time since it was sampled, times its requests in flight plus one.
+         */
+        public synchronized double score() {
+            double decayed = Math.exp(-(double) Math.max(0, nanoTime.getAsLong() - sampledAt) / decayNanos);
+            return responseTime(TimeUnit.SECONDS) * decayed * (inFlight + 1);
+        }
+    }
+}
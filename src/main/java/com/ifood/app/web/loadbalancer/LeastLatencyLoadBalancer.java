@@ -0,0 +1,73 @@
+package com.ifood.app.web.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Load balancer sending each request to the better of two instances picked at random ("power of two choices").
+ * <p>
+ * The better instance is the one with the lower {@link InstanceLatencyTracker.InstanceStats#score() score}, its
+ * response time times its requests in flight plus one, so that a slow instance gets fewer requests without all of them
+ * going to the fastest one. As the response time in the score decays while an instance is not sampled, an instance
+ * that lost to the others after slow responses is picked again after a while, and keeps being picked if it recovered.
+ * Until both instances have a response time, the one with fewer requests in flight wins,
+ * ties going to the one without response time so that it gets one.
+ */
+public class LeastLatencyLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+
+    private final InstanceLatencyTracker instanceLatencyTracker;
+
+    public LeastLatencyLoadBalancer(
+        ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+        InstanceLatencyTracker instanceLatencyTracker
+    ) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.instanceLatencyTracker = instanceLatencyTracker;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(isBetter(instanceLatencyTracker.stats(b), instanceLatencyTracker.stats(a)) ? b : a);
+    }
+
+    private static boolean isBetter(InstanceLatencyTracker.InstanceStats candidate, InstanceLatencyTracker.InstanceStats other) {
+        if (candidate.isSampled() && other.isSampled()) {
+            return candidate.score() < other.score();
+        }
+        if (candidate.inFlight() != other.inFlight()) {
+            return candidate.inFlight() < other.inFlight();
+        }
+        return !candidate.isSampled();
+    }
+}
@@ -0,0 +1,31 @@
+package com.ifood.app.web.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the child context of each service load balancer, registered as the default one of
+ * {@code @LoadBalancerClients}.
+ * <p>
+ * It is neither a {@code @Configuration} nor nested in one, so that the application context does not register it: its
+ * load balancer only exists in the child context, for the service the context is named after.
+ */
+public class LeastLatencyLoadBalancerConfiguration {
+
+    @Bean
+    ReactorLoadBalancer<ServiceInstance> leastLatencyLoadBalancer(
+        Environment environment,
+        LoadBalancerClientFactory loadBalancerClientFactory,
+        InstanceLatencyTracker instanceLatencyTracker
+    ) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LeastLatencyLoadBalancer(
+            loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+            instanceLatencyTracker
+        );
+    }
+}
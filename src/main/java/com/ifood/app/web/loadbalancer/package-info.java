@@ -0,0 +1,4 @@
+/**
+ * Load balancing of the requests the gateway proxies to the discovered service instances.
+ */
+package com.ifood.app.web.loadbalancer;
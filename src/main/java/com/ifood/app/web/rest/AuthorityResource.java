@@ -1,6 +1,7 @@
 package com.ifood.app.web.rest;
 
 import com.ifood.app.domain.Authority;
+import com.ifood.app.management.CrudMetered;
 import com.ifood.app.repository.AuthorityRepository;
 import com.ifood.app.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
@@ -23,12 +24,13 @@ import tech.jhipster.web.util.reactive.ResponseUtil;
  * REST controller for managing {@link com.ifood.app.domain.Authority}.
  */
 @RestController
+@CrudMetered(AuthorityResource.ENTITY_NAME)
 @RequestMapping("/api/authorities")
 public class AuthorityResource {
 
     private static final Logger log = LoggerFactory.getLogger(AuthorityResource.class);
 
-    private static final String ENTITY_NAME = "adminAuthority";
+    static final String ENTITY_NAME = "adminAuthority";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
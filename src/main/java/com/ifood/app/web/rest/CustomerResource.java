@@ -1,5 +1,7 @@
 package com.ifood.app.web.rest;
 
+import com.ifood.app.management.CrudMetered;
+import com.ifood.app.management.CrudMetersService;
 import com.ifood.app.repository.CustomerRepository;
 import com.ifood.app.service.CustomerService;
 import com.ifood.app.service.dto.CustomerDTO;
@@ -15,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +25,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.ForwardedHeaderUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -31,12 +35,13 @@ import tech.jhipster.web.util.reactive.ResponseUtil;
  * REST controller for managing {@link com.ifood.app.domain.Customer}.
  */
 @RestController
+@CrudMetered(CustomerResource.ENTITY_NAME)
 @RequestMapping("/api/customers")
 public class CustomerResource {
 
     private static final Logger log = LoggerFactory.getLogger(CustomerResource.class);
 
-    private static final String ENTITY_NAME = "customer";
+    static final String ENTITY_NAME = "customer";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
@@ -45,9 +50,12 @@ public class CustomerResource {
 
     private final CustomerRepository customerRepository;
 
-    public CustomerResource(CustomerService customerService, CustomerRepository customerRepository) {
+    private final CrudMetersService.Listing listing;
+
+    public CustomerResource(CustomerService customerService, CustomerRepository customerRepository, CrudMetersService crudMetersService) {
         this.customerService = customerService;
         this.customerRepository = customerRepository;
+        this.listing = crudMetersService.listing(ENTITY_NAME);
     }
 
     /**
@@ -166,18 +174,22 @@ public class CustomerResource {
      * {@code GET  /customers} : get all the customers.
      *
      * @param pageable the pagination information.
+     * @param exactCount whether the {@code X-Total-Count} header must hold an exact count rather than an estimated or
+     * cached one.
      * @param request a {@link ServerHttpRequest} request.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of customers in body.
      */
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<List<CustomerDTO>>> getAllCustomers(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "exactCount", defaultValue = "false") boolean exactCount,
         ServerHttpRequest request
     ) {
         log.debug("REST request to get a page of Customers");
-        return customerService
-            .countAll()
-            .zipWith(customerService.findAll(pageable).collectList())
+        return listing
+            .count(customerService.countAll(exactCount))
+            .zipWith(listing.find(customerService.findAll(pageable).collectList()))
+            .doOnNext(countWithEntities -> listing.recordPage(pageable.getPageSize(), countWithEntities.getT2().size()))
             .map(
                 countWithEntities ->
                     ResponseEntity.ok()
@@ -191,6 +203,21 @@ public class CustomerResource {
             );
     }
 
+    /**
+     * {@code GET  /customers} : get all the customers as a stream.
+     * <p>
+     * Unlike the paginated listing, the customers are written one by one as they are read from the database, at the pace
+     * the client reads them, so that exporting all of them needs neither a count nor the whole list in memory.
+     *
+     * @param sort the sort of the customers, by id when not given.
+     * @return the {@link Flux} of customers.
+     */
+    @GetMapping(value = "", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CustomerDTO> getAllCustomersAsStream(@org.springdoc.core.annotations.ParameterObject Sort sort) {
+        log.debug("REST request to get all Customers as a stream");
+        return customerService.streamAll(sort);
+    }
+
     /**
      * {@code GET  /customers/:id} : get the "id" customer.
      *
@@ -1,9 +1,12 @@
 package com.ifood.app.web.rest;
 
+import com.ifood.app.management.CrudMetered;
+import com.ifood.app.management.CrudMetersService;
 import com.ifood.app.repository.DishRepository;
 import com.ifood.app.service.DishService;
 import com.ifood.app.service.dto.DishDTO;
 import com.ifood.app.web.rest.errors.BadRequestAlertException;
+import com.ifood.app.web.util.KeysetPaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -15,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +26,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.ForwardedHeaderUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -31,12 +36,13 @@ import tech.jhipster.web.util.reactive.ResponseUtil;
  * REST controller for managing {@link com.ifood.app.domain.Dish}.
  */
 @RestController
+@CrudMetered(DishResource.ENTITY_NAME)
 @RequestMapping("/api/dishes")
 public class DishResource {
 
     private static final Logger log = LoggerFactory.getLogger(DishResource.class);
 
-    private static final String ENTITY_NAME = "dish";
+    static final String ENTITY_NAME = "dish";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
@@ -45,9 +51,12 @@ public class DishResource {
 
     private final DishRepository dishRepository;
 
-    public DishResource(DishService dishService, DishRepository dishRepository) {
+    private final CrudMetersService.Listing listing;
+
+    public DishResource(DishService dishService, DishRepository dishRepository, CrudMetersService crudMetersService) {
         this.dishService = dishService;
         this.dishRepository = dishRepository;
+        this.listing = crudMetersService.listing(ENTITY_NAME);
     }
 
     /**
@@ -164,20 +173,33 @@ public class DishResource {
 
     /**
      * {@code GET  /dishes} : get all the dishes.
+     * <p>
+     * When the {@code after} parameter is present (empty for the first page), the dishes are returned in id
+     * order starting after the given cursor, without counting them: the cursor of the next page, if any, is sent in
+     * the {@code Link} header.
      *
      * @param pageable the pagination information.
+     * @param exactCount whether the {@code X-Total-Count} header must hold an exact count rather than an estimated or
+     * cached one.
+     * @param after the cursor of the page to get, for keyset pagination.
      * @param request a {@link ServerHttpRequest} request.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of dishes in body.
      */
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<List<DishDTO>>> getAllDishes(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "exactCount", defaultValue = "false") boolean exactCount,
+        @RequestParam(name = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
         ServerHttpRequest request
     ) {
+        if (after != null) {
+            return getDishesAfter(after, pageable.getPageSize(), request);
+        }
         log.debug("REST request to get a page of Dishes");
-        return dishService
-            .countAll()
-            .zipWith(dishService.findAll(pageable).collectList())
+        return listing
+            .count(dishService.countAll(exactCount))
+            .zipWith(listing.find(dishService.findAll(pageable).collectList()))
+            .doOnNext(countWithEntities -> listing.recordPage(pageable.getPageSize(), countWithEntities.getT2().size()))
             .map(
                 countWithEntities ->
                     ResponseEntity.ok()
@@ -191,6 +213,53 @@ public class DishResource {
             );
     }
 
+    private Mono<ResponseEntity<List<DishDTO>>> getDishesAfter(String after, int size, ServerHttpRequest request) {
+        log.debug("REST request to get Dishes after : {}", after);
+        Long id = null;
+        if (!after.isEmpty()) {
+            try {
+                id = Long.valueOf(KeysetPaginationUtil.decodeCursor(after, 1).get(0));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+            }
+        }
+        return listing
+            .find(dishService.findAllAfter(id, size + 1).collectList())
+            .map(entities -> {
+                // one extra element is fetched to know whether there is a next page
+                List<DishDTO> page = entities.size() > size ? entities.subList(0, size) : entities;
+                listing.recordPage(size, page.size());
+                String nextCursor = null;
+                if (entities.size() > size) {
+                    DishDTO last = page.get(size - 1);
+                    nextCursor = KeysetPaginationUtil.encodeCursor(last.getId());
+                }
+                return ResponseEntity.ok()
+                    .headers(
+                        KeysetPaginationUtil.generateKeysetHttpHeaders(
+                            ForwardedHeaderUtils.adaptFromForwardedHeaders(request.getURI(), request.getHeaders()),
+                            nextCursor
+                        )
+                    )
+                    .body(page);
+            });
+    }
+
+    /**
+     * {@code GET  /dishes} : get all the dishes as a stream.
+     * <p>
+     * Unlike the paginated listing, the dishes are written one by one as they are read from the database, at the pace
+     * the client reads them, so that exporting all of them needs neither a count nor the whole list in memory.
+     *
+     * @param sort the sort of the dishes, by id when not given.
+     * @return the {@link Flux} of dishes.
+     */
+    @GetMapping(value = "", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DishDTO> getAllDishesAsStream(@org.springdoc.core.annotations.ParameterObject Sort sort) {
+        log.debug("REST request to get all Dishes as a stream");
+        return dishService.streamAll(sort);
+    }
+
     /**
      * {@code GET  /dishes/:id} : get the "id" dish.
      *
@@ -2,32 +2,52 @@ package com.ifood.app.web.rest;
 
 import com.ifood.app.security.AuthoritiesConstants;
 import com.ifood.app.web.rest.vm.RouteVM;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.client.discovery.event.HeartbeatMonitor;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
 import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.*;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * REST controller for managing Gateway configuration.
+ * <p>
+ * The routes and their service instances are served from a snapshot, refreshed in the background when the gateway
+ * refreshes its routes and when the state discovery reports in its heartbeats changes.
  */
 @RestController
 @RequestMapping("/api/gateway")
 public class GatewayResource {
 
+    private static final Logger log = LoggerFactory.getLogger(GatewayResource.class);
+
     private final RouteLocator routeLocator;
 
-    private final DiscoveryClient discoveryClient;
+    private final ReactiveDiscoveryClient discoveryClient;
+
+    private final AtomicLong refreshes = new AtomicLong();
+
+    private final AtomicReference<RoutesSnapshot> snapshot = new AtomicReference<>();
+
+    private final HeartbeatMonitor heartbeatMonitor = new HeartbeatMonitor();
 
     @Value("${spring.application.name}")
     private String appName;
 
-    public GatewayResource(RouteLocator routeLocator, DiscoveryClient discoveryClient) {
+    public GatewayResource(RouteLocator routeLocator, ReactiveDiscoveryClient discoveryClient) {
         this.routeLocator = routeLocator;
         this.discoveryClient = discoveryClient;
     }
@@ -39,23 +59,82 @@ public class GatewayResource {
      */
     @GetMapping("/routes")
     @Secured(AuthoritiesConstants.ADMIN)
-    public ResponseEntity<List<RouteVM>> activeRoutes() {
-        Flux<Route> routes = routeLocator.getRoutes();
-        List<RouteVM> routeVMs = new ArrayList<>();
-        routes.subscribe(route -> {
-            RouteVM routeVM = new RouteVM();
-            // Manipulate strings to make Gateway routes look like Zuul's
-            String predicate = route.getPredicate().toString();
-            String path = predicate.substring(predicate.indexOf("[") + 1, predicate.indexOf("]"));
-            routeVM.setPath(path);
-            String serviceId = route.getId().substring(route.getId().indexOf("_") + 1).toLowerCase();
-            routeVM.setServiceId(serviceId);
+    public Mono<ResponseEntity<List<RouteVM>>> activeRoutes() {
+        RoutesSnapshot routes = snapshot.get();
+        return (routes != null ? Mono.just(routes.routes) : loadRoutes()).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Refresh the snapshot of the routes; a refresh that fails keeps the previous snapshot.
+     */
+    @EventListener({ ApplicationReadyEvent.class, RefreshRoutesResultEvent.class })
+    public void refreshRoutes() {
+        loadRoutes()
+            .onErrorResume(e -> {
+                log.warn("Could not refresh the gateway routes: {}", e.getMessage());
+                return Mono.empty();
+            })
+            .subscribe();
+    }
+
+    /**
+     * Refresh the snapshot of the routes if the state of discovery changed since the previous heartbeat.
+     *
+     * @param event the heartbeat, holding the state of discovery.
+     */
+    @EventListener
+    public void onHeartbeat(HeartbeatEvent event) {
+        if (heartbeatMonitor.update(event.getValue())) {
+            refreshRoutes();
+        }
+    }
+
+    private Mono<List<RouteVM>> loadRoutes() {
+        long refresh = refreshes.incrementAndGet();
+        return routeLocator
+            .getRoutes()
+            .map(this::toRouteVM)
             // Exclude gateway app from routes
-            if (!serviceId.equalsIgnoreCase(appName)) {
-                routeVM.setServiceInstances(discoveryClient.getInstances(serviceId));
-                routeVMs.add(routeVM);
-            }
-        });
-        return ResponseEntity.ok(routeVMs);
+            .filter(routeVM -> !routeVM.getServiceId().equalsIgnoreCase(appName))
+            .flatMapSequential(routeVM ->
+                discoveryClient
+                    .getInstances(routeVM.getServiceId())
+                    .collectList()
+                    .map(instances -> {
+                        routeVM.setServiceInstances(instances);
+                        return routeVM;
+                    })
+            )
+            .collectList()
+            .map(Collections::unmodifiableList)
+            .doOnNext(routes ->
+                // a slower refresh started earlier must not replace the routes of a later one
+                snapshot.accumulateAndGet(new RoutesSnapshot(refresh, routes), (current, loaded) ->
+                    current == null || loaded.refresh > current.refresh ? loaded : current
+                )
+            );
+    }
+
+    private RouteVM toRouteVM(Route route) {
+        RouteVM routeVM = new RouteVM();
+        // Manipulate strings to make Gateway routes look like Zuul's
+        String predicate = route.getPredicate().toString();
+        String path = predicate.substring(predicate.indexOf("[") + 1, predicate.indexOf("]"));
+        routeVM.setPath(path);
+        String serviceId = route.getId().substring(route.getId().indexOf("_") + 1).toLowerCase();
+        routeVM.setServiceId(serviceId);
+        return routeVM;
+    }
+
+    private static final class RoutesSnapshot {
+
+        private final long refresh;
+
+        private final List<RouteVM> routes;
+
+        private RoutesSnapshot(long refresh, List<RouteVM> routes) {
+            this.refresh = refresh;
+            this.routes = routes;
+        }
     }
 }
@@ -1,5 +1,7 @@
 package com.ifood.app.web.rest;
 
+import com.ifood.app.management.CrudMetered;
+import com.ifood.app.management.CrudMetersService;
 import com.ifood.app.repository.MenuRepository;
 import com.ifood.app.service.MenuService;
 import com.ifood.app.service.dto.MenuDTO;
@@ -27,12 +29,13 @@ import tech.jhipster.web.util.reactive.ResponseUtil;
  * REST controller for managing {@link com.ifood.app.domain.Menu}.
  */
 @RestController
+@CrudMetered(MenuResource.ENTITY_NAME)
 @RequestMapping("/api/menus")
 public class MenuResource {
 
     private static final Logger log = LoggerFactory.getLogger(MenuResource.class);
 
-    private static final String ENTITY_NAME = "menu";
+    static final String ENTITY_NAME = "menu";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
@@ -41,9 +44,12 @@ public class MenuResource {
 
     private final MenuRepository menuRepository;
 
-    public MenuResource(MenuService menuService, MenuRepository menuRepository) {
+    private final CrudMetersService.Listing listing;
+
+    public MenuResource(MenuService menuService, MenuRepository menuRepository, CrudMetersService crudMetersService) {
         this.menuService = menuService;
         this.menuRepository = menuRepository;
+        this.listing = crudMetersService.listing(ENTITY_NAME);
     }
 
     /**
@@ -166,7 +172,7 @@ public class MenuResource {
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<List<MenuDTO>> getAllMenus() {
         log.debug("REST request to get all Menus");
-        return menuService.findAll().collectList();
+        return listing.find(menuService.findAll().collectList()).doOnNext(entities -> listing.recordResults(entities.size()));
     }
 
     /**
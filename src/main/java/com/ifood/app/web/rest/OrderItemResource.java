@@ -1,5 +1,7 @@
 package com.ifood.app.web.rest;
 
+import com.ifood.app.management.CrudMetered;
+import com.ifood.app.management.CrudMetersService;
 import com.ifood.app.repository.OrderItemRepository;
 import com.ifood.app.service.OrderItemService;
 import com.ifood.app.service.dto.OrderItemDTO;
@@ -27,12 +29,13 @@ import tech.jhipster.web.util.reactive.ResponseUtil;
  * REST controller for managing {@link com.ifood.app.domain.OrderItem}.
  */
 @RestController
+@CrudMetered(OrderItemResource.ENTITY_NAME)
 @RequestMapping("/api/order-items")
 public class OrderItemResource {
 
     private static final Logger log = LoggerFactory.getLogger(OrderItemResource.class);
 
-    private static final String ENTITY_NAME = "orderItem";
+    static final String ENTITY_NAME = "orderItem";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
@@ -41,9 +44,16 @@ public class OrderItemResource {
 
     private final OrderItemRepository orderItemRepository;
 
-    public OrderItemResource(OrderItemService orderItemService, OrderItemRepository orderItemRepository) {
+    private final CrudMetersService.Listing listing;
+
+    public OrderItemResource(
+        OrderItemService orderItemService,
+        OrderItemRepository orderItemRepository,
+        CrudMetersService crudMetersService
+    ) {
         this.orderItemService = orderItemService;
         this.orderItemRepository = orderItemRepository;
+        this.listing = crudMetersService.listing(ENTITY_NAME);
     }
 
     /**
@@ -166,7 +176,7 @@ public class OrderItemResource {
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<List<OrderItemDTO>> getAllOrderItems() {
         log.debug("REST request to get all OrderItems");
-        return orderItemService.findAll().collectList();
+        return listing.find(orderItemService.findAll().collectList()).doOnNext(entities -> listing.recordResults(entities.size()));
     }
 
     /**
@@ -1,13 +1,23 @@
 package com.ifood.app.web.rest;
 
-import com.ifood.app.repository.OrderRepository;
+import com.ifood.app.management.CrudMetered;
+import com.ifood.app.management.CrudMetersService;
+import com.ifood.app.service.IdempotencyService;
+import com.ifood.app.service.InvalidOrderPlacementException;
+import com.ifood.app.service.InvalidOrderTransitionException;
 import com.ifood.app.service.OrderService;
 import com.ifood.app.service.dto.OrderDTO;
+import com.ifood.app.service.dto.OrderDetailsDTO;
+import com.ifood.app.service.dto.OrderPlacementDTO;
+import com.ifood.app.service.dto.OrderTransitionDTO;
 import com.ifood.app.web.rest.errors.BadRequestAlertException;
+import com.ifood.app.web.util.KeysetPaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Objects;
 import org.slf4j.Logger;
@@ -15,6 +25,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +33,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.ForwardedHeaderUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -31,40 +43,85 @@ import tech.jhipster.web.util.reactive.ResponseUtil;
  * REST controller for managing {@link com.ifood.app.domain.Order}.
  */
 @RestController
+@CrudMetered(OrderResource.ENTITY_NAME)
 @RequestMapping("/api/orders")
 public class OrderResource {
 
     private static final Logger log = LoggerFactory.getLogger(OrderResource.class);
 
-    private static final String ENTITY_NAME = "order";
+    static final String ENTITY_NAME = "order";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final OrderService orderService;
 
-    private final OrderRepository orderRepository;
+    private final IdempotencyService idempotencyService;
 
-    public OrderResource(OrderService orderService, OrderRepository orderRepository) {
+    private final CrudMetersService.Listing listing;
+
+    public OrderResource(
+        OrderService orderService,
+        IdempotencyService idempotencyService,
+        CrudMetersService crudMetersService
+    ) {
         this.orderService = orderService;
-        this.orderRepository = orderRepository;
+        this.idempotencyService = idempotencyService;
+        this.listing = crudMetersService.listing(ENTITY_NAME);
     }
 
     /**
      * {@code POST  /orders} : Create a new order.
      *
      * @param orderDTO the orderDTO to create.
+     * @param idempotencyKey the optional {@code Idempotency-Key}: a retry carrying the same key gets the response of the first request.
      * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new orderDTO, or with status {@code 400 (Bad Request)} if the order has already an ID.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("")
-    public Mono<ResponseEntity<OrderDTO>> createOrder(@Valid @RequestBody OrderDTO orderDTO) throws URISyntaxException {
+    public Mono<ResponseEntity<OrderDTO>> createOrder(
+        @Valid @RequestBody OrderDTO orderDTO,
+        @RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) throws URISyntaxException {
         log.debug("REST request to save Order : {}", orderDTO);
         if (orderDTO.getId() != null) {
             throw new BadRequestAlertException("A new order cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        return orderService
-            .save(orderDTO)
+        return idempotencyService
+            .execute("createOrder", idempotencyKey, () -> orderService.save(orderDTO))
+            .map(result -> {
+                try {
+                    return ResponseEntity.created(new URI("/api/orders/" + result.getId()))
+                        .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
+                        .body(result);
+                } catch (URISyntaxException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+    }
+
+    /**
+     * {@code POST  /orders/place} : Place a new order for the given dishes and quantities.
+     * <p>
+     * Prices are resolved from the current dish prices, and the order is created together with all its items in one
+     * transaction.
+     *
+     * @param orderPlacementDTO the dishes and quantities to order.
+     * @param idempotencyKey the optional {@code Idempotency-Key}: a retry carrying the same key gets the response of the first request.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the placed order with its items, or with status {@code 400 (Bad Request)} if a dish or the customer does not exist.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/place")
+    public Mono<ResponseEntity<OrderDetailsDTO>> placeOrder(
+        @Valid @RequestBody OrderPlacementDTO orderPlacementDTO,
+        @RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) throws URISyntaxException {
+        log.debug("REST request to place Order : {}", orderPlacementDTO);
+        return idempotencyService
+            .execute("placeOrder", idempotencyKey, () -> orderService.place(orderPlacementDTO))
+            .onErrorMap(InvalidOrderPlacementException.class, e ->
+                new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "placementinvalid")
+            )
             .map(result -> {
                 try {
                     return ResponseEntity.created(new URI("/api/orders/" + result.getId()))
@@ -76,13 +133,50 @@ public class OrderResource {
             });
     }
 
+    /**
+     * {@code POST  /orders/:id/transitions} : Move an order to a new status.
+     * <p>
+     * Only the legal transitions of {@link com.ifood.app.domain.enumeration.OrderStatus} are applied, and only if the
+     * order is still at the given version, which the response holds the new value of.
+     *
+     * @param id the id of the order to move.
+     * @param orderTransitionDTO the status to move to and the version of the order it was decided on.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the applied transition,
+     * or with status {@code 400 (Bad Request)} if the order cannot move to that status,
+     * or with status {@code 404 (Not Found)} if the order does not exist,
+     * or with status {@code 409 (Conflict)} if the order changed since the given version.
+     */
+    @PostMapping("/{id}/transitions")
+    public Mono<ResponseEntity<OrderTransitionDTO>> transitionOrder(
+        @PathVariable("id") Long id,
+        @Valid @RequestBody OrderTransitionDTO orderTransitionDTO
+    ) {
+        log.debug("REST request to transition Order : {}, {}", id, orderTransitionDTO);
+        return orderService
+            .transition(id, orderTransitionDTO)
+            .onErrorMap(InvalidOrderTransitionException.class, e ->
+                new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "transitioninvalid")
+            )
+            .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
+            .map(result ->
+                ResponseEntity.ok()
+                    .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, id.toString()))
+                    .body(result)
+            );
+    }
+
     /**
      * {@code PUT  /orders/:id} : Updates an existing order.
+     * <p>
+     * The update only applies if the order is still at the given version, which the response holds the new value of, and
+     * must keep the status of the order, which only changes through {@code POST /orders/:id/transitions}.
      *
      * @param id the id of the orderDTO to save.
-     * @param orderDTO the orderDTO to update.
+     * @param orderDTO the orderDTO to update, with the version of the order it was decided on.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated orderDTO,
-     * or with status {@code 400 (Bad Request)} if the orderDTO is not valid,
+     * or with status {@code 400 (Bad Request)} if the orderDTO is not valid or changes the status,
+     * or with status {@code 404 (Not Found)} if the orderDTO is not found,
+     * or with status {@code 409 (Conflict)} if the order changed since the given version,
      * or with status {@code 500 (Internal Server Error)} if the orderDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -98,34 +192,35 @@ public class OrderResource {
         if (!Objects.equals(id, orderDTO.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
+        if (orderDTO.getVersion() == null) {
+            throw new BadRequestAlertException("A version is required to update an order", ENTITY_NAME, "versionnull");
+        }
 
-        return orderRepository
-            .existsById(id)
-            .flatMap(exists -> {
-                if (!exists) {
-                    return Mono.error(new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
-                }
-
-                return orderService
-                    .update(orderDTO)
-                    .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
-                    .map(
-                        result ->
-                            ResponseEntity.ok()
-                                .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
-                                .body(result)
-                    );
-            });
+        return orderService
+            .update(orderDTO)
+            .onErrorMap(InvalidOrderTransitionException.class, e ->
+                new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "statusreadonly")
+            )
+            .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
+            .map(
+                result ->
+                    ResponseEntity.ok()
+                        .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
+                        .body(result)
+            );
     }
 
     /**
      * {@code PATCH  /orders/:id} : Partial updates given fields of an existing order, field will ignore if it is null
+     * <p>
+     * As with {@link #updateOrder}, the version is required and the status cannot change.
      *
      * @param id the id of the orderDTO to save.
-     * @param orderDTO the orderDTO to update.
+     * @param orderDTO the orderDTO to update, with the version of the order it was decided on.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated orderDTO,
-     * or with status {@code 400 (Bad Request)} if the orderDTO is not valid,
+     * or with status {@code 400 (Bad Request)} if the orderDTO is not valid or changes the status,
      * or with status {@code 404 (Not Found)} if the orderDTO is not found,
+     * or with status {@code 409 (Conflict)} if the order changed since the given version,
      * or with status {@code 500 (Internal Server Error)} if the orderDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -141,43 +236,53 @@ public class OrderResource {
         if (!Objects.equals(id, orderDTO.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
+        if (orderDTO.getVersion() == null) {
+            throw new BadRequestAlertException("A version is required to update an order", ENTITY_NAME, "versionnull");
+        }
 
-        return orderRepository
-            .existsById(id)
-            .flatMap(exists -> {
-                if (!exists) {
-                    return Mono.error(new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
-                }
-
-                Mono<OrderDTO> result = orderService.partialUpdate(orderDTO);
-
-                return result
-                    .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
-                    .map(
-                        res ->
-                            ResponseEntity.ok()
-                                .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, res.getId().toString()))
-                                .body(res)
-                    );
-            });
+        return orderService
+            .partialUpdate(orderDTO)
+            .onErrorMap(InvalidOrderTransitionException.class, e ->
+                new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "statusreadonly")
+            )
+            .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
+            .map(
+                res ->
+                    ResponseEntity.ok()
+                        .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, res.getId().toString()))
+                        .body(res)
+            );
     }
 
     /**
      * {@code GET  /orders} : get all the orders.
+     * <p>
+     * When the {@code after} parameter is present (empty for the first page), the orders are returned in {@code (orderDate, id)}
+     * order starting after the given cursor, without counting them: the cursor of the next page, if any, is sent in
+     * the {@code Link} header.
      *
      * @param pageable the pagination information.
+     * @param exactCount whether the {@code X-Total-Count} header must hold an exact count rather than an estimated or
+     * cached one.
+     * @param after the cursor of the page to get, for keyset pagination.
      * @param request a {@link ServerHttpRequest} request.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of orders in body.
      */
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<List<OrderDTO>>> getAllOrders(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "exactCount", defaultValue = "false") boolean exactCount,
+        @RequestParam(name = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
         ServerHttpRequest request
     ) {
+        if (after != null) {
+            return getOrdersAfter(after, pageable.getPageSize(), request);
+        }
         log.debug("REST request to get a page of Orders");
-        return orderService
-            .countAll()
-            .zipWith(orderService.findAll(pageable).collectList())
+        return listing
+            .count(orderService.countAll(exactCount))
+            .zipWith(listing.find(orderService.findAll(pageable).collectList()))
+            .doOnNext(countWithEntities -> listing.recordPage(pageable.getPageSize(), countWithEntities.getT2().size()))
             .map(
                 countWithEntities ->
                     ResponseEntity.ok()
@@ -191,6 +296,56 @@ public class OrderResource {
             );
     }
 
+    private Mono<ResponseEntity<List<OrderDTO>>> getOrdersAfter(String after, int size, ServerHttpRequest request) {
+        log.debug("REST request to get Orders after : {}", after);
+        Instant orderDate = null;
+        Long id = null;
+        if (!after.isEmpty()) {
+            try {
+                List<String> keys = KeysetPaginationUtil.decodeCursor(after, 2);
+                orderDate = Instant.parse(keys.get(0));
+                id = Long.valueOf(keys.get(1));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+            }
+        }
+        return listing
+            .find(orderService.findAllAfter(orderDate, id, size + 1).collectList())
+            .map(entities -> {
+                // one extra element is fetched to know whether there is a next page
+                List<OrderDTO> page = entities.size() > size ? entities.subList(0, size) : entities;
+                listing.recordPage(size, page.size());
+                String nextCursor = null;
+                if (entities.size() > size) {
+                    OrderDTO last = page.get(size - 1);
+                    nextCursor = KeysetPaginationUtil.encodeCursor(last.getOrderDate(), last.getId());
+                }
+                return ResponseEntity.ok()
+                    .headers(
+                        KeysetPaginationUtil.generateKeysetHttpHeaders(
+                            ForwardedHeaderUtils.adaptFromForwardedHeaders(request.getURI(), request.getHeaders()),
+                            nextCursor
+                        )
+                    )
+                    .body(page);
+            });
+    }
+
+    /**
+     * {@code GET  /orders} : get all the orders as a stream.
+     * <p>
+     * Unlike the paginated listing, the orders are written one by one as they are read from the database, at the pace
+     * the client reads them, so that exporting all of them needs neither a count nor the whole list in memory.
+     *
+     * @param sort the sort of the orders, by id when not given.
+     * @return the {@link Flux} of orders.
+     */
+    @GetMapping(value = "", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OrderDTO> getAllOrdersAsStream(@org.springdoc.core.annotations.ParameterObject Sort sort) {
+        log.debug("REST request to get all Orders as a stream");
+        return orderService.streamAll(sort);
+    }
+
     /**
      * {@code GET  /orders/:id} : get the "id" order.
      *
@@ -204,6 +359,19 @@ public class OrderResource {
         return ResponseUtil.wrapOrNotFound(orderDTO);
     }
 
+    /**
+     * {@code GET  /orders/:id/details} : get the "id" order with its customer and its items.
+     *
+     * @param id the id of the order to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderDetailsDTO, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/details")
+    public Mono<ResponseEntity<OrderDetailsDTO>> getOrderDetails(@PathVariable("id") Long id) {
+        log.debug("REST request to get Order details : {}", id);
+        Mono<OrderDetailsDTO> orderDetailsDTO = orderService.findOneWithDetails(id);
+        return ResponseUtil.wrapOrNotFound(orderDetailsDTO);
+    }
+
     /**
      * {@code DELETE  /orders/:id} : delete the "id" order.
      *
@@ -1,6 +1,9 @@
 package com.ifood.app.web.rest;
 
+import com.ifood.app.management.CrudMetered;
+import com.ifood.app.management.CrudMetersService;
 import com.ifood.app.repository.PaymentRepository;
+import com.ifood.app.service.IdempotencyService;
 import com.ifood.app.service.PaymentService;
 import com.ifood.app.service.dto.PaymentDTO;
 import com.ifood.app.web.rest.errors.BadRequestAlertException;
@@ -27,12 +30,13 @@ import tech.jhipster.web.util.reactive.ResponseUtil;
  * REST controller for managing {@link com.ifood.app.domain.Payment}.
  */
 @RestController
+@CrudMetered(PaymentResource.ENTITY_NAME)
 @RequestMapping("/api/payments")
 public class PaymentResource {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentResource.class);
 
-    private static final String ENTITY_NAME = "payment";
+    static final String ENTITY_NAME = "payment";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
@@ -41,26 +45,41 @@ public class PaymentResource {
 
     private final PaymentRepository paymentRepository;
 
-    public PaymentResource(PaymentService paymentService, PaymentRepository paymentRepository) {
+    private final IdempotencyService idempotencyService;
+
+    private final CrudMetersService.Listing listing;
+
+    public PaymentResource(
+        PaymentService paymentService,
+        PaymentRepository paymentRepository,
+        IdempotencyService idempotencyService,
+        CrudMetersService crudMetersService
+    ) {
         this.paymentService = paymentService;
         this.paymentRepository = paymentRepository;
+        this.idempotencyService = idempotencyService;
+        this.listing = crudMetersService.listing(ENTITY_NAME);
     }
 
     /**
      * {@code POST  /payments} : Create a new payment.
      *
      * @param paymentDTO the paymentDTO to create.
+     * @param idempotencyKey the optional {@code Idempotency-Key}: a retry carrying the same key gets the response of the first request.
      * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new paymentDTO, or with status {@code 400 (Bad Request)} if the payment has already an ID.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("")
-    public Mono<ResponseEntity<PaymentDTO>> createPayment(@Valid @RequestBody PaymentDTO paymentDTO) throws URISyntaxException {
+    public Mono<ResponseEntity<PaymentDTO>> createPayment(
+        @Valid @RequestBody PaymentDTO paymentDTO,
+        @RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) throws URISyntaxException {
         log.debug("REST request to save Payment : {}", paymentDTO);
         if (paymentDTO.getId() != null) {
             throw new BadRequestAlertException("A new payment cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        return paymentService
-            .save(paymentDTO)
+        return idempotencyService
+            .execute("createPayment", idempotencyKey, () -> paymentService.save(paymentDTO))
             .map(result -> {
                 try {
                     return ResponseEntity.created(new URI("/api/payments/" + result.getId()))
@@ -166,7 +185,7 @@ public class PaymentResource {
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<List<PaymentDTO>> getAllPayments() {
         log.debug("REST request to get all Payments");
-        return paymentService.findAll().collectList();
+        return listing.find(paymentService.findAll().collectList()).doOnNext(entities -> listing.recordResults(entities.size()));
     }
 
     /**
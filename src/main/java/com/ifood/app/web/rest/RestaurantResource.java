@@ -1,6 +1,9 @@
 package com.ifood.app.web.rest;
 
+import com.ifood.app.management.CrudMetered;
+import com.ifood.app.management.CrudMetersService;
 import com.ifood.app.repository.RestaurantRepository;
+import com.ifood.app.service.RestaurantCatalogService;
 import com.ifood.app.service.RestaurantService;
 import com.ifood.app.service.dto.RestaurantDTO;
 import com.ifood.app.web.rest.errors.BadRequestAlertException;
@@ -15,6 +18,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +27,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.ForwardedHeaderUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -31,12 +37,13 @@ import tech.jhipster.web.util.reactive.ResponseUtil;
  * REST controller for managing {@link com.ifood.app.domain.Restaurant}.
  */
 @RestController
+@CrudMetered(RestaurantResource.ENTITY_NAME)
 @RequestMapping("/api/restaurants")
 public class RestaurantResource {
 
     private static final Logger log = LoggerFactory.getLogger(RestaurantResource.class);
 
-    private static final String ENTITY_NAME = "restaurant";
+    static final String ENTITY_NAME = "restaurant";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
@@ -45,9 +52,20 @@ public class RestaurantResource {
 
     private final RestaurantRepository restaurantRepository;
 
-    public RestaurantResource(RestaurantService restaurantService, RestaurantRepository restaurantRepository) {
+    private final RestaurantCatalogService restaurantCatalogService;
+
+    private final CrudMetersService.Listing listing;
+
+    public RestaurantResource(
+        RestaurantService restaurantService,
+        RestaurantRepository restaurantRepository,
+        RestaurantCatalogService restaurantCatalogService,
+        CrudMetersService crudMetersService
+    ) {
         this.restaurantService = restaurantService;
         this.restaurantRepository = restaurantRepository;
+        this.restaurantCatalogService = restaurantCatalogService;
+        this.listing = crudMetersService.listing(ENTITY_NAME);
     }
 
     /**
@@ -166,18 +184,22 @@ public class RestaurantResource {
      * {@code GET  /restaurants} : get all the restaurants.
      *
      * @param pageable the pagination information.
+     * @param exactCount whether the {@code X-Total-Count} header must hold an exact count rather than an estimated or
+     * cached one.
      * @param request a {@link ServerHttpRequest} request.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of restaurants in body.
      */
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<List<RestaurantDTO>>> getAllRestaurants(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "exactCount", defaultValue = "false") boolean exactCount,
         ServerHttpRequest request
     ) {
         log.debug("REST request to get a page of Restaurants");
-        return restaurantService
-            .countAll()
-            .zipWith(restaurantService.findAll(pageable).collectList())
+        return listing
+            .count(restaurantService.countAll(exactCount))
+            .zipWith(listing.find(restaurantService.findAll(pageable).collectList()))
+            .doOnNext(countWithEntities -> listing.recordPage(pageable.getPageSize(), countWithEntities.getT2().size()))
             .map(
                 countWithEntities ->
                     ResponseEntity.ok()
@@ -191,6 +213,21 @@ public class RestaurantResource {
             );
     }
 
+    /**
+     * {@code GET  /restaurants} : get all the restaurants as a stream.
+     * <p>
+     * Unlike the paginated listing, the restaurants are written one by one as they are read from the database, at the pace
+     * the client reads them, so that exporting all of them needs neither a count nor the whole list in memory.
+     *
+     * @param sort the sort of the restaurants, by id when not given.
+     * @return the {@link Flux} of restaurants.
+     */
+    @GetMapping(value = "", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RestaurantDTO> getAllRestaurantsAsStream(@org.springdoc.core.annotations.ParameterObject Sort sort) {
+        log.debug("REST request to get all Restaurants as a stream");
+        return restaurantService.streamAll(sort);
+    }
+
     /**
      * {@code GET  /restaurants/:id} : get the "id" restaurant.
      *
@@ -204,6 +241,69 @@ public class RestaurantResource {
         return ResponseUtil.wrapOrNotFound(restaurantDTO);
     }
 
+    /**
+     * {@code GET  /restaurants/:id/catalog} : get the "id" restaurant with its menus and their dishes.
+     * <p>
+     * The catalog is written from its pre-rendered JSON, gzip-compressed when the client accepts it, with an
+     * {@code ETag}: a request whose {@code If-None-Match} matches gets a {@code 304 (Not Modified)} without a body.
+     *
+     * @param id the id of the restaurant to retrieve.
+     * @param request a {@link ServerHttpRequest} request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the restaurantCatalogDTO, or with status {@code 304 (Not Modified)}, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/catalog")
+    public Mono<ResponseEntity<byte[]>> getRestaurantCatalog(@PathVariable("id") Long id, ServerHttpRequest request) {
+        log.debug("REST request to get Restaurant catalog : {}", id);
+        boolean gzip = acceptsGzip(request);
+        return restaurantCatalogService
+            .findSnapshot(id)
+            .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
+            .map(snapshot -> {
+                // the 304 for a matching If-None-Match is sent by Spring from the ETag, before the body is written
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(snapshot.getETag())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                if (gzip) {
+                    return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzippedJson());
+                }
+                return response.body(snapshot.getJson());
+            });
+    }
+
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        // as in RFC 9110, a coding is refused with q=0, and gzip is weighted by "*" when it is not listed itself
+        Double gzip = null;
+        Double any = null;
+        for (String value : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                String[] parameters = coding.split(";");
+                String name = parameters[0].trim();
+                if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                    gzip = quality(parameters);
+                } else if (name.equals("*")) {
+                    any = quality(parameters);
+                }
+            }
+        }
+        return gzip != null ? gzip > 0 : any != null && any > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // an unreadable weight does not accept the coding
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
     /**
      * {@code DELETE  /restaurants/:id} : delete the "id" restaurant.
      *
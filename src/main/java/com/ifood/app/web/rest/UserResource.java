@@ -20,6 +20,7 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -183,13 +184,22 @@ public class UserResource {
     /**
      * {@code GET /admin/users} : get all users with all the details - calling this are only allowed for the administrators.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body all users.
+     * @param sort the sort of the users.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body all users, or with status
+     * {@code 400 (Bad Request)} if they are sorted by a property that is not allowed.
      */
     @GetMapping("/users")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
-    public Flux<AdminUserDTO> getAllUsers() {
+    public Flux<AdminUserDTO> getAllUsers(@org.springdoc.core.annotations.ParameterObject Sort sort) {
         log.debug("REST request to get all User for an admin");
-        return userService.getAllManagedUsers();
+        if (!onlyContainsAllowedProperties(sort)) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST));
+        }
+        return userService.getAllManagedUsers(sort);
+    }
+
+    private boolean onlyContainsAllowedProperties(Sort sort) {
+        return sort.stream().map(Sort.Order::getProperty).allMatch(ALLOWED_ORDERED_PROPERTIES::contains);
     }
 
     /**
@@ -0,0 +1,69 @@
+package com.ifood.app.web.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for keyset (seek) pagination.
+ * <p>
+ * A page is addressed by an opaque cursor holding the sort key of the last element already read, passed back by
+ * clients through the {@value #AFTER_PARAM} query parameter. The next cursor is advertised in a {@code Link} header
+ * with {@code rel="next"}, and no total count is computed.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String AFTER_PARAM = "after";
+
+    private static final String KEY_SEPARATOR = ",";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Encode the given sort key values into an opaque cursor.
+     *
+     * @param keys the sort key values of the last element of a page.
+     * @return the cursor.
+     */
+    public static String encodeCursor(Object... keys) {
+        String joined = Arrays.stream(keys).map(String::valueOf).collect(Collectors.joining(KEY_SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor created by {@link #encodeCursor(Object...)}.
+     *
+     * @param cursor the cursor.
+     * @param keyCount the number of sort key values the cursor must hold.
+     * @return the sort key values, as strings.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static List<String> decodeCursor(String cursor, int keyCount) {
+        String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        List<String> keys = Arrays.asList(joined.split(KEY_SEPARATOR, -1));
+        if (keys.size() != keyCount) {
+            throw new IllegalArgumentException("Expected " + keyCount + " keys in cursor, got " + keys.size());
+        }
+        return keys;
+    }
+
+    /**
+     * Generate the {@code Link} header pointing to the next page, if there is one.
+     *
+     * @param uriBuilder the builder of the current request URI.
+     * @param nextCursor the cursor of the next page, or null if the current page is the last one.
+     * @return the headers.
+     */
+    public static HttpHeaders generateKeysetHttpHeaders(UriComponentsBuilder uriBuilder, String nextCursor) {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) {
+            String next = uriBuilder.replaceQueryParam("page").replaceQueryParam(AFTER_PARAM, nextCursor).toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Web utilities.
+ */
+package com.ifood.app.web.util;
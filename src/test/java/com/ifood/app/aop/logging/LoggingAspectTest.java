@@ -0,0 +1,121 @@
+package com.ifood.app.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link LoggingAspect}.
+ */
+class LoggingAspectTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspectTest.class);
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private final LoggingAspect aspect = new LoggingAspect(new MockEnvironment());
+
+    private Level level;
+
+    @BeforeEach
+    void setup() {
+        level = logger.getLevel();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(level);
+    }
+
+    @Test
+    void shouldNotLogWhenDebugIsDisabled() throws Throwable {
+        logger.setLevel(Level.INFO);
+        ProceedingJoinPoint joinPoint = joinPoint("findOne", "result");
+
+        assertThat(aspect.logAround(joinPoint)).isEqualTo("result");
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void shouldLogEnterAndExit() throws Throwable {
+        logger.setLevel(Level.DEBUG);
+
+        aspect.logAround(joinPoint("findOne", "result"));
+
+        assertThat(messages()).hasSize(2);
+        assertThat(messages()[0]).isEqualTo("Enter: findOne() with argument[s] = [42]");
+        assertThat(messages()[1]).startsWith("Exit: findOne() with result = result in ");
+    }
+
+    @Test
+    void shouldTimeMonoFromSubscription() throws Throwable {
+        logger.setLevel(Level.DEBUG);
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> mono = Mono.just("result").doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+
+        @SuppressWarnings("unchecked")
+        Mono<String> advised = (Mono<String>) aspect.logAround(joinPoint("findOne", mono));
+        assertThat(messages()).hasSize(1);
+        assertThat(subscriptions).hasValue(0);
+
+        assertThat(advised.block()).isEqualTo("result");
+        assertThat(subscriptions).hasValue(1);
+        assertThat(messages()[1]).isEqualTo("Subscribe: findOne()");
+        assertThat(messages()[2]).startsWith("Exit: findOne() with result = result in ");
+    }
+
+    @Test
+    void shouldCountFluxElements() throws Throwable {
+        logger.setLevel(Level.DEBUG);
+
+        @SuppressWarnings("unchecked")
+        Flux<Integer> advised = (Flux<Integer>) aspect.logAround(joinPoint("findAll", Flux.just(1, 2, 3)));
+
+        assertThat(advised.collectList().block()).containsExactly(1, 2, 3);
+        assertThat(messages()[2]).startsWith("Exit: findAll() with 3 element[s] in ");
+    }
+
+    @Test
+    void shouldLogReactiveErrors() throws Throwable {
+        logger.setLevel(Level.DEBUG);
+
+        Mono<?> advised = (Mono<?>) aspect.logAround(joinPoint("findOne", Mono.error(new IllegalStateException("boom"))));
+
+        advised.onErrorResume(e -> Mono.empty()).block();
+        assertThat(appender.list.get(2).getLevel()).isEqualTo(Level.ERROR);
+        assertThat(messages()[2]).isEqualTo("Exception in findOne() with cause = NULL");
+    }
+
+    private String[] messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toArray(String[]::new);
+    }
+
+    private ProceedingJoinPoint joinPoint(String name, Object result) throws Throwable {
+        Signature signature = mock(Signature.class);
+        when(signature.getDeclaringType()).thenReturn(LoggingAspectTest.class);
+        when(signature.getName()).thenReturn(name);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[] { 42 });
+        when(joinPoint.proceed()).thenReturn(result);
+        return joinPoint;
+    }
+}
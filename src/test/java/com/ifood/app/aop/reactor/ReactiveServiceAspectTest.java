@@ -0,0 +1,102 @@
+package com.ifood.app.aop.reactor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ReactiveServiceAspect}.
+ */
+class ReactiveServiceAspectTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldTimeMonoFromSubscription() throws Throwable {
+        ReactiveServiceAspect aspect = new ReactiveServiceAspect(meterRegistry, false, true);
+
+        Mono<?> result = (Mono<?>) aspect.instrument(joinPoint("findOne", Mono.just("dish")));
+        assertThat(meterRegistry.get(ReactiveServiceAspect.CALLS_METER_NAME).tag("outcome", "success").timer().count()).isZero();
+
+        assertThat(result.block()).isEqualTo("dish");
+        assertThat(
+            meterRegistry
+                .get(ReactiveServiceAspect.CALLS_METER_NAME)
+                .tags("service", "SampleService", "method", "findOne", "outcome", "success")
+                .timer()
+                .count()
+        ).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountFluxElementsAndErrors() throws Throwable {
+        ReactiveServiceAspect aspect = new ReactiveServiceAspect(meterRegistry, false, true);
+
+        Flux<?> result = (Flux<?>) aspect.instrument(joinPoint("findAll", Flux.just(1, 2).concatWith(Mono.error(new IllegalStateException()))));
+
+        result.onErrorResume(e -> Mono.empty()).blockLast();
+        assertThat(meterRegistry.get(ReactiveServiceAspect.CALLS_METER_NAME).tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ReactiveServiceAspect.ELEMENTS_METER_NAME).summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMarkErrorsWithCheckpoint() throws Throwable {
+        ReactiveServiceAspect aspect = new ReactiveServiceAspect(meterRegistry, true, false);
+
+        Mono<?> result = (Mono<?>) aspect.instrument(joinPoint("findOne", Mono.error(new IllegalStateException("boom"))));
+
+        StringWriter trace = new StringWriter();
+        assertThatThrownBy(result::block).isInstanceOf(IllegalStateException.class).satisfies(e -> e.printStackTrace(new PrintWriter(trace)));
+        assertThat(trace.toString()).contains("checkpoint ⇢ SampleService.findOne()");
+        assertThat(meterRegistry.find(ReactiveServiceAspect.CALLS_METER_NAME).timers()).isEmpty();
+    }
+
+    @Test
+    void shouldPassOtherResultsThrough() throws Throwable {
+        ReactiveServiceAspect aspect = new ReactiveServiceAspect(meterRegistry, true, true);
+
+        assertThat(aspect.instrument(joinPoint("count", 42L))).isEqualTo(42L);
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    private ProceedingJoinPoint joinPoint(String name, Object result) throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(SampleService.class.getDeclaredMethod(name));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenReturn(result);
+        return joinPoint;
+    }
+
+    static class SampleService {
+
+        Mono<String> findOne() {
+            return Mono.empty();
+        }
+
+        Flux<Integer> findAll() {
+            return Flux.empty();
+        }
+
+        long count() {
+            return 0;
+        }
+    }
+}
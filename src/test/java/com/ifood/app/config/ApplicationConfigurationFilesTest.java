@@ -0,0 +1,79 @@
+package com.ifood.app.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ifood.app.IFoodApp;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindHandler;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.handler.NoUnboundElementsBindHandler;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Unit tests for the configuration files of the application.
+ * <p>
+ * The integration tests run with {@code src/test/resources/config/application.yml}, which comes first on the classpath,
+ * so the files shipped with the application are loaded here from the main classes directory.
+ */
+class ApplicationConfigurationFilesTest {
+
+    private static final YamlPropertySourceLoader YAML_LOADER = new YamlPropertySourceLoader();
+
+    @Test
+    void shouldParseEveryConfigurationFile() throws IOException {
+        Resource[] files = new PathMatchingResourcePatternResolver().getResources(mainConfigLocation() + "*.yml");
+
+        assertThat(files).isNotEmpty();
+        for (Resource file : files) {
+            assertThat(YAML_LOADER.load(file.getFilename(), file)).as(file.getFilename()).isNotEmpty();
+        }
+    }
+
+    @Test
+    void shouldBindApplicationProperties() throws IOException {
+        List<PropertySource<?>> documents = YAML_LOADER.load(
+            "application.yml",
+            new PathMatchingResourcePatternResolver().getResource(mainConfigLocation() + "application.yml")
+        );
+        Binder binder = new Binder(ConfigurationPropertySources.from(documents), null, ApplicationConversionService.getSharedInstance());
+
+        // unknown keys fail the binding, as they fail the startup with ignoreUnknownFields = false
+        ApplicationProperties properties = binder
+            .bind("application", Bindable.of(ApplicationProperties.class), new NoUnboundElementsBindHandler(BindHandler.DEFAULT))
+            .get();
+
+        assertThat(properties.getRateLimit().getRules())
+            .extracting(ApplicationProperties.RateLimit.Rule::getPath)
+            .containsExactly("/api/authenticate", "/api/orders", "/api/orders/place");
+        assertThat(properties.getLoadBalancer().getDecay()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(properties.getLoggingAspect().isEnabled()).isFalse();
+        assertThat(properties.getReactor().getSchedulerMetrics()).containsExactly("boundedElastic", "parallel");
+        // the forwarded headers, which clients could set, are only trusted behind the load balancer of prod
+        assertThat(binder.bind("server.forward-headers-strategy", String.class).isBound()).isFalse();
+    }
+
+    @Test
+    void shouldTrustForwardedHeadersOnlyInProd() throws IOException {
+        List<PropertySource<?>> documents = YAML_LOADER.load(
+            "application-prod.yml",
+            new PathMatchingResourcePatternResolver().getResource(mainConfigLocation() + "application-prod.yml")
+        );
+        Binder binder = new Binder(ConfigurationPropertySources.from(documents));
+
+        // anonymous requests are rate limited by the client address forwarded by the load balancer
+        assertThat(binder.bind("server.forward-headers-strategy", String.class).get()).isEqualTo("native");
+    }
+
+    private static String mainConfigLocation() {
+        return IFoodApp.class.getProtectionDomain().getCodeSource().getLocation() + "config/";
+    }
+}
@@ -0,0 +1,31 @@
+package com.ifood.app.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ifood.app.IntegrationTest;
+import com.ifood.app.web.loadbalancer.LeastLatencyLoadBalancer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Integration tests for {@link LoadBalancerConfiguration}.
+ */
+@IntegrationTest
+class LoadBalancerConfigurationIT {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private LoadBalancerClientFactory loadBalancerClientFactory;
+
+    @Test
+    void eachServiceGetsItsOwnLeastLatencyLoadBalancer() {
+        assertThat(applicationContext.getBeanNamesForType(ReactorLoadBalancer.class)).isEmpty();
+        assertThat(loadBalancerClientFactory.getInstance("service-a")).isInstanceOf(LeastLatencyLoadBalancer.class);
+        assertThat(loadBalancerClientFactory.getInstance("service-b")).isNotSameAs(loadBalancerClientFactory.getInstance("service-a"));
+    }
+}
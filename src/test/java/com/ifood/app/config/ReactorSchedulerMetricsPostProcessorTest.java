@@ -0,0 +1,93 @@
+package com.ifood.app.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Unit tests for {@link ReactorSchedulerMetricsPostProcessor}.
+ */
+class ReactorSchedulerMetricsPostProcessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ReactorSchedulerMetricsPostProcessor postProcessor = new ReactorSchedulerMetricsPostProcessor();
+
+    private Scheduler parallel;
+
+    private Scheduler boundedElastic;
+
+    private Scheduler single;
+
+    @BeforeEach
+    void setUp() {
+        postProcessor.postProcessEnvironment(new StandardEnvironment(), new SpringApplication());
+        // created before the registry of the context exists, as the shared schedulers may be
+        parallel = Schedulers.newParallel("parallel", 2);
+        boundedElastic = Schedulers.newBoundedElastic(2, 10, "boundedElastic");
+        single = Schedulers.newSingle("single");
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+        Schedulers.removeExecutorServiceDecorator(ReactorSchedulerMetricsPostProcessor.SCHEDULER_METRICS_KEY);
+        parallel.dispose();
+        boundedElastic.dispose();
+        single.dispose();
+    }
+
+    @Test
+    void shouldTimeTheTasksOfTheDefaultSchedulers() {
+        runOn(parallel);
+        runOn(boundedElastic);
+        runOn(single);
+
+        assertThat(executedTasks("parallel")).isGreaterThanOrEqualTo(1);
+        assertThat(executedTasks("boundedElastic")).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("reactor.scheduler.executor").tag("name", "single").timer()).isNull();
+    }
+
+    @Test
+    void shouldNotTimeAnySchedulerWhenNoneIsListed() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("application.reactor.scheduler-metrics", "")));
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+        runOn(parallel);
+        long executedTasks = executedTasks("parallel");
+        Scheduler other = Schedulers.newParallel("parallel", 1);
+        try {
+            runOn(other);
+        } finally {
+            other.dispose();
+        }
+
+        assertThat(executedTasks("parallel")).isEqualTo(executedTasks);
+    }
+
+    @Test
+    void shouldExtractTheNameOfASchedulerFromItsDescription() {
+        assertThat(ReactorSchedulerMetricsPostProcessor.schedulerName("Schedulers.newParallel(\"parallel\", 4)")).isEqualTo("parallel");
+        assertThat(ReactorSchedulerMetricsPostProcessor.schedulerName("custom")).isEqualTo("custom");
+    }
+
+    private void runOn(Scheduler scheduler) {
+        Mono.fromCallable(() -> 1).subscribeOn(scheduler).block();
+    }
+
+    private long executedTasks(String scheduler) {
+        return meterRegistry.get("reactor.scheduler.executor").tag("name", scheduler).timer().count();
+    }
+}
@@ -67,6 +67,7 @@ public class OrderItemAsserts {
     public static void assertOrderItemUpdatableRelationshipsEquals(OrderItem expected, OrderItem actual) {
         assertThat(expected)
             .as("Verify OrderItem relationships")
-            .satisfies(e -> assertThat(e.getOrder()).as("check order").isEqualTo(actual.getOrder()));
+            .satisfies(e -> assertThat(e.getOrder()).as("check order").isEqualTo(actual.getOrder()))
+            .satisfies(e -> assertThat(e.getDish()).as("check dish").isEqualTo(actual.getDish()));
     }
 }
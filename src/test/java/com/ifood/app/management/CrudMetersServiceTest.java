@@ -0,0 +1,74 @@
+package com.ifood.app.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link CrudMetersService}.
+ */
+class CrudMetersServiceTest {
+
+    private MeterRegistry meterRegistry;
+
+    private CrudMetersService crudMetersService;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        crudMetersService = new CrudMetersService(meterRegistry);
+    }
+
+    @Test
+    void shouldRegisterTimerPerOutcomeUpFront() {
+        crudMetersService.endpoint("order", "getAllOrders");
+
+        assertThat(meterRegistry.find(CrudMetersService.REQUESTS_METER_NAME).tag("operation", "getAllOrders").timers()).hasSize(
+            CrudMetersService.Outcome.values().length
+        );
+        assertThat(meterRegistry.get(CrudMetersService.RESPONSE_SIZE_METER_NAME).tag("entity", "order").summary().count()).isZero();
+    }
+
+    @Test
+    void shouldRecordEndpointByOutcome() {
+        CrudMetersService.Endpoint endpoint = crudMetersService.endpoint("order", "getOrder");
+
+        endpoint.record(CrudMetersService.Outcome.of(HttpStatus.NOT_FOUND), TimeUnit.MILLISECONDS.toNanos(3), 0);
+        endpoint.record(CrudMetersService.Outcome.of(HttpStatus.OK), TimeUnit.MILLISECONDS.toNanos(5), 120);
+
+        assertThat(meterRegistry.get(CrudMetersService.REQUESTS_METER_NAME).tag("outcome", "client-error").timer().count()).isEqualTo(1);
+        assertThat(
+            meterRegistry.get(CrudMetersService.REQUESTS_METER_NAME).tag("outcome", "success").timer().totalTime(TimeUnit.MILLISECONDS)
+        ).isEqualTo(5);
+        assertThat(meterRegistry.get(CrudMetersService.RESPONSE_SIZE_METER_NAME).summary().totalAmount()).isEqualTo(120);
+    }
+
+    @Test
+    void shouldTimeListingQueriesFromSubscription() {
+        CrudMetersService.Listing listing = crudMetersService.listing("dish");
+        Mono<Long> count = listing.count(Mono.just(42L));
+
+        assertThat(meterRegistry.get(CrudMetersService.QUERIES_METER_NAME).tag("query", "count").timer().count()).isZero();
+        assertThat(count.block()).isEqualTo(42L);
+        assertThat(meterRegistry.get(CrudMetersService.QUERIES_METER_NAME).tag("query", "count").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CrudMetersService.QUERIES_METER_NAME).tag("query", "find").timer().count()).isZero();
+    }
+
+    @Test
+    void shouldRecordPages() {
+        CrudMetersService.Listing listing = crudMetersService.listing("dish");
+
+        listing.recordPage(20, 7);
+        listing.recordResults(3);
+
+        assertThat(meterRegistry.get(CrudMetersService.PAGE_SIZE_METER_NAME).summary().totalAmount()).isEqualTo(20);
+        assertThat(meterRegistry.get(CrudMetersService.RESULTS_METER_NAME).summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(CrudMetersService.RESULTS_METER_NAME).summary().totalAmount()).isEqualTo(10);
+    }
+}
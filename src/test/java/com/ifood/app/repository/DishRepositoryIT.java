@@ -0,0 +1,68 @@
+package com.ifood.app.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ifood.app.IntegrationTest;
+import com.ifood.app.domain.Dish;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Integration tests for the batched {@link DishRepository#saveAll} of {@link DishRepositoryInternalImpl}.
+ */
+@IntegrationTest
+class DishRepositoryIT {
+
+    @Autowired
+    private DishRepository dishRepository;
+
+    private final List<Dish> insertedDishes = new ArrayList<>();
+
+    @AfterEach
+    public void cleanup() {
+        dishRepository.deleteAll(insertedDishes.stream().filter(dish -> dish.getId() != null).toList()).block();
+        insertedDishes.clear();
+    }
+
+    @Test
+    void saveAllKeepsTheOrderOfNewAndExistingEntities() {
+        Dish existing = dishRepository.save(createEntity("AAAAAAAAAA")).block();
+        insertedDishes.add(existing);
+        Dish first = createEntity("first");
+        Dish last = createEntity("last");
+        insertedDishes.addAll(List.of(first, last));
+
+        List<Dish> saved = dishRepository.saveAll(List.of(first, existing.name("existing"), last)).collectList().block();
+
+        assertThat(saved).containsExactly(first, existing, last);
+        assertThat(saved).extracting(Dish::getId).doesNotContainNull();
+        assertThat(dishRepository.findById(existing.getId()).block().getName()).isEqualTo("existing");
+        assertThat(dishRepository.findById(last.getId()).block().getName()).isEqualTo("last");
+    }
+
+    @Test
+    void saveAllRollsBackWhenAnEntityDoesNotExist() {
+        long countBefore = dishRepository.count().block();
+        Dish missing = createEntity("AAAAAAAAAA");
+        missing.setId(Long.MAX_VALUE);
+        Dish added = createEntity("AAAAAAAAAA");
+        insertedDishes.add(added);
+
+        assertThatThrownBy(() -> dishRepository.saveAll(List.of(added, missing)).blockLast()).isInstanceOf(
+            TransientDataAccessResourceException.class
+        );
+
+        // the insert ran before the failed update, in the same transaction
+        assertThat(dishRepository.count().block()).isEqualTo(countBefore);
+    }
+
+    private static Dish createEntity(String name) {
+        return new Dish().name(name).price(BigDecimal.ONE);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ifood.app.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link PasswordHashingScheduler}.
+ */
+class PasswordHashingSchedulerTest {
+
+    private MeterRegistry meterRegistry;
+
+    private PasswordHashingScheduler passwordHashingScheduler;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingScheduler = new PasswordHashingScheduler(1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        passwordHashingScheduler.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testHashesAreTimed() {
+        PasswordEncoder passwordEncoder = passwordHashingScheduler.timed(NoOpPasswordEncoder.getInstance());
+
+        String encoded = Mono.just("password").publishOn(passwordHashingScheduler.getScheduler()).map(passwordEncoder::encode).block();
+
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(durationCount("encode")).isEqualTo(1);
+        assertThat(durationCount("matches")).isEqualTo(1);
+    }
+
+    @Test
+    void testHashesBeyondTheQueueAreRejected() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // one hash running and one waiting fill the single thread and the queue of one
+        passwordHashingScheduler.getScheduler().schedule(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        passwordHashingScheduler.getScheduler().schedule(() -> {});
+        assertThat(meterRegistry.get(PasswordHashingScheduler.QUEUED_METER_NAME).gauge().value()).isEqualTo(1);
+
+        assertThatThrownBy(() -> Mono.just("password").publishOn(passwordHashingScheduler.getScheduler()).block()).isInstanceOf(
+            RejectedExecutionException.class
+        );
+        assertThat(meterRegistry.get(PasswordHashingScheduler.REJECTED_METER_NAME).counter().count()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    private long durationCount(String operation) {
+        return meterRegistry
+            .get(PasswordHashingScheduler.DURATION_METER_NAME)
+            .tag(PasswordHashingScheduler.OPERATION_DIMENSION, operation)
+            .timer()
+            .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ifood.app.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ifood.app.config.ApplicationProperties;
+import com.ifood.app.domain.User;
+import com.ifood.app.repository.UserRepository;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Unit tests for {@link UserLookupCache}.
+ */
+class UserLookupCacheTest {
+
+    private UserRepository userRepository;
+
+    private UserLookupCache userLookupCache;
+
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        userRepository = mock(UserRepository.class);
+        userLookupCache = new UserLookupCache(userRepository, new ApplicationProperties());
+        user = new User();
+        user.setId(1L);
+        user.setLogin("john");
+        user.setEmail("john@localhost");
+    }
+
+    @Test
+    void testUserIsCachedByLogin() {
+        when(userRepository.findOneByLogin("john")).thenReturn(Mono.just(user));
+
+        assertThat(userLookupCache.findOneByLogin("john").block()).isSameAs(user);
+        assertThat(userLookupCache.findOneByLogin("JOHN").block()).isSameAs(user);
+
+        verify(userRepository, times(1)).findOneByLogin("john");
+    }
+
+    @Test
+    void testUserIsCachedByEmail() {
+        when(userRepository.findOneByEmailIgnoreCase("john@localhost")).thenReturn(Mono.just(user));
+
+        assertThat(userLookupCache.findOneByEmail("john@localhost").block()).isSameAs(user);
+        when(userRepository.findOneByEmailIgnoreCase("John@Localhost")).thenReturn(Mono.just(user));
+        assertThat(userLookupCache.findOneByEmail("John@Localhost").block()).isSameAs(user);
+
+        verify(userRepository, times(1)).findOneByEmailIgnoreCase("john@localhost");
+    }
+
+    @Test
+    void testMissingUserIsNotCached() {
+        when(userRepository.findOneByLogin("jane")).thenReturn(Mono.empty());
+
+        assertThat(userLookupCache.findOneByLogin("jane").block()).isNull();
+        assertThat(userLookupCache.findOneByLogin("jane").block()).isNull();
+
+        verify(userRepository, times(2)).findOneByLogin("jane");
+    }
+
+    @Test
+    void testConcurrentLookupsShareOneLoad() {
+        Sinks.One<User> load = Sinks.one();
+        when(userRepository.findOneByLogin("john")).thenReturn(load.asMono());
+
+        Mono<List<User>> lookups = Flux.range(0, 10).flatMap(i -> userLookupCache.findOneByLogin("john")).collectList();
+        load.tryEmitValue(user);
+
+        assertThat(lookups.block()).hasSize(10).containsOnly(user);
+        verify(userRepository, times(1)).findOneByLogin("john");
+    }
+
+    @Test
+    void testEvictRemovesTheUserUnderAllItsKeys() {
+        when(userRepository.findOneByLogin("john")).thenReturn(Mono.just(user));
+        when(userRepository.findOneByEmailIgnoreCase("john@localhost")).thenReturn(Mono.just(user));
+        userLookupCache.findOneByLogin("john").block();
+        userLookupCache.findOneByEmail("john@localhost").block();
+
+        userLookupCache.evict(user);
+        userLookupCache.findOneByLogin("john").block();
+        userLookupCache.findOneByEmail("john@localhost").block();
+
+        verify(userRepository, times(2)).findOneByLogin("john");
+        verify(userRepository, times(2)).findOneByEmailIgnoreCase("john@localhost");
+    }
+
+    @Test
+    void testEvictRemovesTheUserUnderAPreviousLogin() {
+        when(userRepository.findOneByLogin("john")).thenReturn(Mono.just(user));
+        userLookupCache.findOneByLogin("john").block();
+
+        user.setLogin("johnny");
+        userLookupCache.evict(user);
+        userLookupCache.findOneByLogin("john").block();
+
+        verify(userRepository, times(2)).findOneByLogin("john");
+    }
+
+    @Test
+    void testUserLoadingDuringAnEvictionIsServedButNotKept() {
+        Sinks.One<User> load = Sinks.one();
+        when(userRepository.findOneByLogin("john")).thenReturn(load.asMono());
+
+        CompletableFuture<User> lookup = userLookupCache.findOneByLogin("john").toFuture();
+        // the load may have read the user before this write, under a login that is not indexed yet
+        User other = new User();
+        other.setId(2L);
+        userLookupCache.evict(other);
+        load.tryEmitValue(user);
+
+        assertThat(lookup.join()).isSameAs(user);
+        userLookupCache.findOneByLogin("john").block();
+        verify(userRepository, times(2)).findOneByLogin("john");
+    }
+}
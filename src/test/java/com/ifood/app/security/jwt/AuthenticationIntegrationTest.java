@@ -1,9 +1,12 @@
 package com.ifood.app.security.jwt;
 
+import com.ifood.app.config.RateLimitConfiguration;
 import com.ifood.app.config.SecurityConfiguration;
 import com.ifood.app.config.SecurityJwtConfiguration;
 import com.ifood.app.config.WebConfigurer;
+import com.ifood.app.management.CrudMetersService;
 import com.ifood.app.management.SecurityMetersService;
+import com.ifood.app.security.ratelimit.RequestRateLimiter;
 import com.ifood.app.web.rest.AuthenticateController;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -22,7 +25,11 @@ import tech.jhipster.config.JHipsterProperties;
         WebConfigurer.class,
         SecurityConfiguration.class,
         SecurityJwtConfiguration.class,
+        RateLimitConfiguration.class,
+        RequestRateLimiter.class,
         SecurityMetersService.class,
+        // for the CrudMetricsWebFilter, which the WebFlux slice includes as a WebFilter
+        CrudMetersService.class,
         JwtAuthenticationTestUtils.class,
     }
 )
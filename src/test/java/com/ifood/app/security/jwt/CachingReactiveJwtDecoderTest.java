@@ -0,0 +1,82 @@
+package com.ifood.app.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link CachingReactiveJwtDecoder}.
+ */
+class CachingReactiveJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2024-08-01T12:00:00Z");
+
+    private final AtomicInteger decodes = new AtomicInteger();
+
+    private Instant expiresAt;
+
+    private CachingReactiveJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    public void setup() {
+        decodes.set(0);
+        expiresAt = NOW.plusSeconds(60);
+        ReactiveJwtDecoder delegate = token -> {
+            decodes.incrementAndGet();
+            if (token.startsWith("invalid")) {
+                return Mono.error(new BadJwtException("Failed to validate the token"));
+            }
+            return Mono.just(Jwt.withTokenValue(token).header("alg", "HS512").subject("user").expiresAt(expiresAt).build());
+        };
+        cachingJwtDecoder = new CachingReactiveJwtDecoder(delegate, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testTokenIsDecodedOnce() {
+        Jwt jwt = cachingJwtDecoder.decode("token").block();
+
+        assertThat(cachingJwtDecoder.decode("token").block()).isSameAs(jwt);
+        assertThat(decodes).hasValue(1);
+
+        cachingJwtDecoder.decode("other-token").block();
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    void testExpiredTokenIsNotKept() {
+        expiresAt = NOW.minusSeconds(1);
+
+        cachingJwtDecoder.decode("token").block();
+        cachingJwtDecoder.decode("token").block();
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    void testTokenWithoutExpiryIsNotKept() {
+        expiresAt = null;
+
+        cachingJwtDecoder.decode("token").block();
+        cachingJwtDecoder.decode("token").block();
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    void testInvalidTokenIsDecodedEveryTime() {
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("invalid").block()).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("invalid").block()).isInstanceOf(BadJwtException.class);
+
+        assertThat(decodes).hasValue(2);
+    }
+}
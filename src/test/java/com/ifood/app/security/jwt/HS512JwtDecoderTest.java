@@ -0,0 +1,106 @@
+package com.ifood.app.security.jwt;
+
+import static com.ifood.app.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.ifood.app.security.SecurityUtils.JWT_ALGORITHM;
+import static com.ifood.app.security.jwt.JwtAuthenticationTestUtils.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ifood.app.management.SecurityMetersService;
+import com.nimbusds.jose.util.Base64;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Unit tests for {@link HS512JwtDecoder}.
+ */
+class HS512JwtDecoderTest {
+
+    private static final String JWT_KEY =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private MeterRegistry meterRegistry;
+
+    private HS512JwtDecoder jwtDecoder;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        byte[] keyBytes = Base64.from(JWT_KEY).decode();
+        jwtDecoder = new HS512JwtDecoder(
+            new SecretKeySpec(keyBytes, 0, keyBytes.length, JWT_ALGORITHM.getName()),
+            new SecurityMetersService(meterRegistry)
+        );
+    }
+
+    @Test
+    void testValidToken() {
+        String token = createValidTokenForUser(JWT_KEY, "john");
+
+        Jwt jwt = jwtDecoder.decode(token).block();
+
+        assertThat(jwt.getTokenValue()).isEqualTo(token);
+        assertThat(jwt.getSubject()).isEqualTo("john");
+        assertThat(jwt.getExpiresAt()).isAfter(Instant.now());
+        assertThat(jwt.getClaimAsStringList(AUTHORITIES_KEY)).containsExactly("ROLE_ADMIN");
+        assertThat(jwt.getHeaders()).containsEntry("alg", "HS512");
+        assertThat(invalidTokens()).isZero();
+    }
+
+    @Test
+    void testTokenWithDifferentSignature() {
+        assertRejected(createTokenWithDifferentSignature(), HS512JwtDecoder.Failure.INVALID_SIGNATURE, "invalid-signature");
+    }
+
+    @Test
+    void testExpiredToken() {
+        assertRejected(createExpiredToken(JWT_KEY), HS512JwtDecoder.Failure.EXPIRED, "expired");
+    }
+
+    @Test
+    void testNotYetValidToken() {
+        assertRejected(createNotYetValidToken(JWT_KEY), HS512JwtDecoder.Failure.NOT_YET_VALID, "not-yet-valid");
+    }
+
+    @Test
+    void testTruncatedToken() {
+        assertRejected(createInvalidToken(JWT_KEY), HS512JwtDecoder.Failure.MALFORMED, "malformed");
+    }
+
+    @Test
+    void testTokenWithoutParts() throws Exception {
+        assertRejected(createSignedInvalidJwt(JWT_KEY), HS512JwtDecoder.Failure.MALFORMED, "malformed");
+        assertRejected("a.b.c.d.e", HS512JwtDecoder.Failure.MALFORMED, "malformed");
+    }
+
+    @Test
+    void testUnsecuredToken() {
+        String unsecuredToken = "eyJhbGciOiJub25lIn0." + createValidToken(JWT_KEY).split("\\.")[1] + ".";
+
+        assertRejected(unsecuredToken, HS512JwtDecoder.Failure.UNSUPPORTED, "unsupported");
+    }
+
+    private void assertRejected(String token, HS512JwtDecoder.Failure failure, String cause) {
+        double count = invalidTokens(cause);
+
+        assertThatThrownBy(() -> jwtDecoder.decode(token).block())
+            .isInstanceOf(HS512JwtDecoder.InvalidJwtException.class)
+            .extracting(e -> ((HS512JwtDecoder.InvalidJwtException) e).getFailure())
+            .isEqualTo(failure);
+        assertThat(invalidTokens(cause)).isEqualTo(count + 1);
+    }
+
+    private double invalidTokens(String cause) {
+        return meterRegistry.get(SecurityMetersService.INVALID_TOKENS_METER_NAME).tag("cause", cause).counter().count();
+    }
+
+    private double invalidTokens() {
+        return meterRegistry.get(SecurityMetersService.INVALID_TOKENS_METER_NAME).counters().stream().mapToDouble(Counter::count).sum();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ifood.app.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InMemoryTokenBucketStore}.
+ */
+class InMemoryTokenBucketStoreTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private InMemoryTokenBucketStore store;
+
+    @BeforeEach
+    public void setup() {
+        now.set(1_000);
+        store = new InMemoryTokenBucketStore(1_000, Duration.ofMinutes(10), now::get);
+    }
+
+    @Test
+    void testBurstUpToCapacity() {
+        RateLimit limit = new RateLimit(3, 1, Duration.ofSeconds(1));
+
+        assertThat(store.consume("key", limit, 1).getRemainingTokens()).isEqualTo(2);
+        assertThat(store.consume("key", limit, 1).getRemainingTokens()).isEqualTo(1);
+        assertThat(store.consume("key", limit, 1).getRemainingTokens()).isZero();
+
+        RateLimitResult rejected = store.consume("key", limit, 1);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfter()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(store.consume("other", limit, 1).isAllowed()).isTrue();
+    }
+
+    @Test
+    void testTokensAreReplenishedOverTime() {
+        RateLimit limit = new RateLimit(2, 3, Duration.ofSeconds(1));
+        store.consume("key", limit, 2);
+
+        now.addAndGet(200);
+        RateLimitResult rejected = store.consume("key", limit, 1);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfter()).isEqualTo(Duration.ofMillis(134));
+
+        // the 400ms elapsed give one token, the 67ms left over count towards the next one
+        now.addAndGet(200);
+        assertThat(store.consume("key", limit, 1).isAllowed()).isTrue();
+        now.addAndGet(300);
+        assertThat(store.consume("key", limit, 1).isAllowed()).isTrue();
+        assertThat(store.consume("key", limit, 1).isAllowed()).isFalse();
+    }
+
+    @Test
+    void testBucketDoesNotGrowBeyondCapacity() {
+        RateLimit limit = new RateLimit(2, 1, Duration.ofMillis(10));
+        store.consume("key", limit, 1);
+
+        now.addAndGet(Duration.ofDays(365).toMillis());
+
+        assertThat(store.consume("key", limit, 1).getRemainingTokens()).isEqualTo(1);
+    }
+
+    @Test
+    void testConcurrentConsumersNeverExceedCapacity() throws InterruptedException {
+        RateLimit limit = new RateLimit(1_000, 1, Duration.ofDays(1));
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 5_000; i++) {
+            executor.execute(() -> {
+                if (store.consume("key", limit, 1).isAllowed()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed).hasValue(1_000);
+    }
+}
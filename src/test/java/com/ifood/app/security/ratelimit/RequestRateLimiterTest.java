@@ -0,0 +1,90 @@
+package com.ifood.app.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link RequestRateLimiter}.
+ */
+class RequestRateLimiterTest {
+
+    private MeterRegistry meterRegistry;
+
+    private RequestRateLimiter.Rule rule;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        RequestRateLimiter requestRateLimiter = new RequestRateLimiter(
+            new InMemoryTokenBucketStore(1_000, Duration.ofMinutes(10)),
+            meterRegistry
+        );
+        rule = requestRateLimiter.rule("test", new RateLimit(1, 1, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void testRequestOverLimitIsRejected() {
+        MockServerWebExchange allowed = exchange("10.0.0.1");
+        rule.filter(allowed, exchange -> Mono.empty()).block();
+        MockServerWebExchange rejected = exchange("10.0.0.1");
+        rule.filter(rejected, exchange -> Mono.error(new IllegalStateException("should not be called"))).block();
+
+        assertThat(allowed.getResponse().getStatusCode()).isNull();
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(requests("allowed")).isEqualTo(1);
+        assertThat(requests("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void testAnonymousRequestsAreLimitedPerAddress() {
+        rule.filter(exchange("10.0.0.1"), exchange -> Mono.empty()).block();
+        MockServerWebExchange other = exchange("10.0.0.2");
+        rule.filter(other, exchange -> Mono.empty()).block();
+
+        assertThat(other.getResponse().getStatusCode()).isNull();
+    }
+
+    @Test
+    void testAuthenticatedRequestsAreLimitedPerUser() {
+        filterAs("alice", exchange("10.0.0.1"));
+        MockServerWebExchange bob = exchange("10.0.0.1");
+        filterAs("bob", bob);
+        MockServerWebExchange alice = exchange("10.0.0.2");
+        filterAs("alice", alice);
+
+        assertThat(bob.getResponse().getStatusCode()).isNull();
+        assertThat(alice.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private void filterAs(String login, MockServerWebExchange exchange) {
+        User user = new User(login, "", List.of());
+        rule
+            .filter(exchange, e -> Mono.empty())
+            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(new UsernamePasswordAuthenticationToken(user, null)))
+            .block();
+    }
+
+    private MockServerWebExchange exchange(String address) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/authenticate").remoteAddress(new InetSocketAddress(address, 443)));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get(RequestRateLimiter.REQUESTS_METER_NAME).tag(RequestRateLimiter.RESULT_DIMENSION, result).counter().count();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ifood.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ifood.app.config.ApplicationProperties;
+import com.ifood.app.domain.Dish;
+import com.ifood.app.domain.Order;
+import com.ifood.app.repository.TableStatisticsRepository;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link EntityCountService}.
+ */
+class EntityCountServiceTest {
+
+    private TableStatisticsRepository tableStatisticsRepository;
+
+    private ApplicationProperties applicationProperties;
+
+    private final AtomicInteger exactCounts = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() {
+        tableStatisticsRepository = mock(TableStatisticsRepository.class);
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getPagination().setCountEstimateThreshold(1_000);
+        exactCounts.set(0);
+    }
+
+    @Test
+    void testExactCountIsSharedWithinMaxStaleness() {
+        when(tableStatisticsRepository.estimateRowCount(any())).thenReturn(Mono.empty());
+        EntityCountService entityCountService = new EntityCountService(tableStatisticsRepository, applicationProperties);
+
+        assertThat(entityCountService.count(Order.class, this::exactCount).block()).isEqualTo(42L);
+        assertThat(entityCountService.count(Order.class, this::exactCount).block()).isEqualTo(42L);
+        assertThat(exactCounts).hasValue(1);
+
+        assertThat(entityCountService.count(Dish.class, this::exactCount).block()).isEqualTo(42L);
+        assertThat(exactCounts).hasValue(2);
+    }
+
+    @Test
+    void testExactCountIsReloadedWhenStale() {
+        when(tableStatisticsRepository.estimateRowCount(any())).thenReturn(Mono.empty());
+        applicationProperties.getPagination().setCountMaxStaleness(Duration.ZERO);
+        EntityCountService entityCountService = new EntityCountService(tableStatisticsRepository, applicationProperties);
+
+        entityCountService.count(Order.class, this::exactCount).block();
+        entityCountService.count(Order.class, this::exactCount).block();
+
+        assertThat(exactCounts).hasValue(2);
+    }
+
+    @Test
+    void testEstimateIsUsedAboveThreshold() {
+        when(tableStatisticsRepository.estimateRowCount(Order.class)).thenReturn(Mono.just(5_000L));
+        EntityCountService entityCountService = new EntityCountService(tableStatisticsRepository, applicationProperties);
+
+        assertThat(entityCountService.count(Order.class, this::exactCount).block()).isEqualTo(5_000L);
+        assertThat(exactCounts).hasValue(0);
+    }
+
+    @Test
+    void testExactCountIsUsedBelowThreshold() {
+        when(tableStatisticsRepository.estimateRowCount(Order.class)).thenReturn(Mono.just(500L));
+        EntityCountService entityCountService = new EntityCountService(tableStatisticsRepository, applicationProperties);
+
+        assertThat(entityCountService.count(Order.class, this::exactCount).block()).isEqualTo(42L);
+        assertThat(exactCounts).hasValue(1);
+    }
+
+    @Test
+    void testEstimateIsIgnoredWhenDisabled() {
+        when(tableStatisticsRepository.estimateRowCount(Order.class)).thenReturn(Mono.just(5_000L));
+        applicationProperties.getPagination().setCountEstimatesEnabled(false);
+        EntityCountService entityCountService = new EntityCountService(tableStatisticsRepository, applicationProperties);
+
+        assertThat(entityCountService.count(Order.class, this::exactCount).block()).isEqualTo(42L);
+    }
+
+    private Mono<Long> exactCount() {
+        return Mono.fromSupplier(() -> {
+            exactCounts.incrementAndGet();
+            return 42L;
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package com.ifood.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ifood.app.config.ApplicationProperties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link IdempotencyService}.
+ */
+class IdempotencyServiceTest {
+
+    private IdempotencyService idempotencyService;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() {
+        idempotencyService = new IdempotencyService(new ApplicationProperties());
+        executions.set(0);
+    }
+
+    @Test
+    void testActionRunsOncePerKey() {
+        assertThat(idempotencyService.execute("create", "key", this::action).block()).isEqualTo(1);
+        assertThat(idempotencyService.execute("create", "key", this::action).block()).isEqualTo(1);
+        assertThat(executions).hasValue(1);
+
+        assertThat(idempotencyService.execute("create", "other-key", this::action).block()).isEqualTo(2);
+        assertThat(idempotencyService.execute("update", "key", this::action).block()).isEqualTo(3);
+    }
+
+    @Test
+    void testActionRunsEveryTimeWithoutKey() {
+        idempotencyService.execute("create", null, this::action).block();
+        idempotencyService.execute("create", null, this::action).block();
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void testFailureIsNotRemembered() {
+        Mono<Integer> failure = Mono.fromSupplier(() -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("failed");
+        });
+        assertThatThrownBy(() -> idempotencyService.execute("create", "key", () -> failure).block()).isInstanceOf(
+            IllegalStateException.class
+        );
+
+        assertThat(idempotencyService.execute("create", "key", this::action).block()).isEqualTo(2);
+    }
+
+    private Mono<Integer> action() {
+        return Mono.fromSupplier(executions::incrementAndGet);
+    }
+}
@@ -0,0 +1,116 @@
+package com.ifood.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ */
+class SingleFlightTest {
+
+    private MeterRegistry meterRegistry;
+
+    private SingleFlight<Long, String> singleFlight;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+        loads.set(0);
+    }
+
+    @Test
+    void testConcurrentReadsShareOneLoad() {
+        Sinks.One<String> load = Sinks.one();
+
+        CompletableFuture<List<String>> reads = Flux.range(0, 10)
+            .flatMap(i -> singleFlight.execute(1L, key -> countLoad(load.asMono())))
+            .collectList()
+            .toFuture();
+        load.tryEmitValue("value");
+
+        assertThat(reads.join()).hasSize(10).containsOnly("value");
+        assertThat(loads).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(1);
+        assertThat(calls("coalesced")).isEqualTo(9);
+        assertThat(meterRegistry.get(SingleFlight.COALESCING_RATIO_METER_NAME).gauge().value()).isEqualTo(0.9);
+    }
+
+    @Test
+    void testCompletedLoadIsNotCached() {
+        singleFlight.execute(1L, key -> countLoad(Mono.just("value"))).block();
+        singleFlight.execute(1L, key -> countLoad(Mono.just("value"))).block();
+
+        assertThat(loads).hasValue(2);
+        assertThat(calls("coalesced")).isZero();
+    }
+
+    @Test
+    void testDifferentKeysAreNotShared() {
+        Sinks.One<String> load = Sinks.one();
+
+        CompletableFuture<List<String>> reads = Flux.just(1L, 2L)
+            .flatMap(id -> singleFlight.execute(id, key -> countLoad(load.asMono())))
+            .collectList()
+            .toFuture();
+        load.tryEmitValue("value");
+
+        assertThat(reads.join()).hasSize(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testEmptyAndFailedLoadsAreShared() {
+        assertThat(singleFlight.execute(1L, key -> Mono.empty()).block()).isNull();
+        assertThatThrownBy(() -> singleFlight.execute(1L, key -> Mono.error(new IllegalStateException("boom"))).block()).hasMessageContaining(
+            "boom"
+        );
+        assertThat(singleFlight.execute(1L, key -> Mono.just("value")).block()).isEqualTo("value");
+    }
+
+    @Test
+    void testThrowingLoaderFailsTheLoad() {
+        assertThatThrownBy(() ->
+            singleFlight
+                .execute(1L, key -> {
+                    throw new IllegalStateException("boom");
+                })
+                .block()
+        ).hasMessageContaining("boom");
+        assertThat(singleFlight.execute(1L, key -> Mono.just("value")).block()).isEqualTo("value");
+    }
+
+    @Test
+    void testLoadRunsInTheContextOfTheFirstRead() {
+        String value = singleFlight
+            .execute(1L, key -> Mono.deferContextual(context -> Mono.just(context.<String>get("user"))))
+            .contextWrite(context -> context.put("user", "first"))
+            .block();
+
+        assertThat(value).isEqualTo("first");
+    }
+
+    private Mono<String> countLoad(Mono<String> load) {
+        return Mono.defer(() -> {
+            loads.incrementAndGet();
+            return load;
+        });
+    }
+
+    private double calls(String result) {
+        return meterRegistry.get(SingleFlight.CALLS_METER_NAME).tag(SingleFlight.RESULT_DIMENSION, result).counter().count();
+    }
+}
@@ -0,0 +1,24 @@
+package com.ifood.app.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ifood.app.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class MenuCatalogDTOTest {
+
+    @Test
+    void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(MenuCatalogDTO.class);
+        MenuCatalogDTO menuCatalogDTO1 = new MenuCatalogDTO();
+        menuCatalogDTO1.setId(1L);
+        MenuCatalogDTO menuCatalogDTO2 = new MenuCatalogDTO();
+        assertThat(menuCatalogDTO1).isNotEqualTo(menuCatalogDTO2);
+        menuCatalogDTO2.setId(menuCatalogDTO1.getId());
+        assertThat(menuCatalogDTO1).isEqualTo(menuCatalogDTO2);
+        menuCatalogDTO2.setId(2L);
+        assertThat(menuCatalogDTO1).isNotEqualTo(menuCatalogDTO2);
+        menuCatalogDTO1.setId(null);
+        assertThat(menuCatalogDTO1).isNotEqualTo(menuCatalogDTO2);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ifood.app.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ifood.app.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class RestaurantCatalogDTOTest {
+
+    @Test
+    void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(RestaurantCatalogDTO.class);
+        RestaurantCatalogDTO restaurantCatalogDTO1 = new RestaurantCatalogDTO();
+        restaurantCatalogDTO1.setId(1L);
+        RestaurantCatalogDTO restaurantCatalogDTO2 = new RestaurantCatalogDTO();
+        assertThat(restaurantCatalogDTO1).isNotEqualTo(restaurantCatalogDTO2);
+        restaurantCatalogDTO2.setId(restaurantCatalogDTO1.getId());
+        assertThat(restaurantCatalogDTO1).isEqualTo(restaurantCatalogDTO2);
+        restaurantCatalogDTO2.setId(2L);
+        assertThat(restaurantCatalogDTO1).isNotEqualTo(restaurantCatalogDTO2);
+        restaurantCatalogDTO1.setId(null);
+        assertThat(restaurantCatalogDTO1).isNotEqualTo(restaurantCatalogDTO2);
+    }
+}
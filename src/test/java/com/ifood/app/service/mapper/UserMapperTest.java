@@ -73,7 +73,7 @@ class UserMapperTest {
         assertThat(convertedUser.isActivated()).isEqualTo(userDto.isActivated());
         assertThat(convertedUser.getImageUrl()).isEqualTo(userDto.getImageUrl());
         assertThat(convertedUser.getLangKey()).isEqualTo(userDto.getLangKey());
-        assertThat(convertedUser.getAuthorities()).extracting("name").containsExactly(AuthoritiesConstants.USER);
+        assertThat(convertedUser.getAuthorities()).containsExactly(AuthoritiesConstants.USER);
     }
 
     @Test
@@ -3,9 +3,11 @@ package com.ifood.app.web.filter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +20,7 @@ import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
@@ -47,11 +50,7 @@ class ModifyServersOpenApiFilterTest {
         ModifyServersOpenApiFilter modifyServersOpenApiFilter = spy(new ModifyServersOpenApiFilter());
         modifyServersOpenApiFilter.filter(exchange, filterChain).subscribe();
 
-        verify(modifyServersOpenApiFilter, times(1)).createModifyServersOpenApiInterceptor(
-            sample_url,
-            exchange.getResponse(),
-            exchange.getResponse().bufferFactory()
-        );
+        verify(modifyServersOpenApiFilter, times(1)).createModifyServersOpenApiInterceptor(sample_url, exchange);
     }
 
     @Test
@@ -67,11 +66,7 @@ class ModifyServersOpenApiFilterTest {
         ModifyServersOpenApiFilter modifyServersOpenApiFilter = spy(new ModifyServersOpenApiFilter());
         modifyServersOpenApiFilter.filter(exchange, filterChain).subscribe();
 
-        verify(modifyServersOpenApiFilter, times(0)).createModifyServersOpenApiInterceptor(
-            sample_url,
-            exchange.getResponse(),
-            exchange.getResponse().bufferFactory()
-        );
+        verify(modifyServersOpenApiFilter, times(0)).createModifyServersOpenApiInterceptor(sample_url, exchange);
     }
 
     @Test
@@ -91,11 +86,7 @@ class ModifyServersOpenApiFilterTest {
         @Test
         void shouldRewriteBodyWhenBodyIsFluxAndResponseIsNotZipped() {
             ModifyServersOpenApiFilter.ModifyServersOpenApiInterceptor interceptor =
-                modifyServersOpenApiFilter.createModifyServersOpenApiInterceptor(
-                    path,
-                    exchange.getResponse(),
-                    exchange.getResponse().bufferFactory()
-                );
+                modifyServersOpenApiFilter.createModifyServersOpenApiInterceptor(path, exchange);
 
             byte[] bytes = "{}".getBytes();
             DataBuffer body = exchange.getResponse().bufferFactory().wrap(bytes);
@@ -111,11 +102,7 @@ class ModifyServersOpenApiFilterTest {
         void shouldRewriteBodyWhenBodyIsFluxAndResponseIsZipped() {
             exchange.getResponse().getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
             ModifyServersOpenApiFilter.ModifyServersOpenApiInterceptor interceptor =
-                modifyServersOpenApiFilter.createModifyServersOpenApiInterceptor(
-                    path,
-                    exchange.getResponse(),
-                    exchange.getResponse().bufferFactory()
-                );
+                modifyServersOpenApiFilter.createModifyServersOpenApiInterceptor(path, exchange);
 
             byte[] bytes = zipContent();
             DataBuffer body = exchange.getResponse().bufferFactory().wrap(bytes);
@@ -130,11 +117,7 @@ class ModifyServersOpenApiFilterTest {
         @Test
         void shouldNotRewriteBodyWhenBodyIsNotFlux() {
             ModifyServersOpenApiFilter.ModifyServersOpenApiInterceptor interceptor =
-                modifyServersOpenApiFilter.createModifyServersOpenApiInterceptor(
-                    path,
-                    exchange.getResponse(),
-                    exchange.getResponse().bufferFactory()
-                );
+                modifyServersOpenApiFilter.createModifyServersOpenApiInterceptor(path, exchange);
 
             byte[] bytes = "{}".getBytes();
             DataBuffer body = exchange.getResponse().bufferFactory().wrap(bytes);
@@ -142,6 +125,82 @@ class ModifyServersOpenApiFilterTest {
             assertThat(interceptor.getRewritedBody()).isEmpty();
         }
 
+        @Test
+        void shouldReplaceExistingServersAndKeepTheRestOfTheDescription() {
+            String rewritten = rewrite(
+                modifyServersOpenApiFilter,
+                "{\"openapi\":\"3.0.1\",\"servers\":[{\"url\":\"http://10.0.0.1:8081\"}],\"paths\":{\"/api/a\":{\"get\":{}}}}"
+            );
+
+            assertThat(rewritten).isEqualTo(
+                "{\"openapi\":\"3.0.1\",\"paths\":{\"/api/a\":{\"get\":{}}}," +
+                "\"servers\":[{\"url\":\"/services/service-test/instance-test\",\"description\":\"added by global filter\"}]}"
+            );
+        }
+
+        @Test
+        void shouldRewriteAgainWhenDescriptionChanges() {
+            String first = rewrite(modifyServersOpenApiFilter, "{\"openapi\":\"3.0.1\"}");
+            String same = rewrite(modifyServersOpenApiFilter, "{\"openapi\":\"3.0.1\"}");
+            String changed = rewrite(modifyServersOpenApiFilter, "{\"openapi\":\"3.1.0\"}");
+
+            assertThat(same).isEqualTo(first);
+            assertThat(changed).contains("3.1.0").doesNotContain("3.0.1");
+        }
+
+        @Test
+        void shouldServeTheCachedDescriptionOfEachInstanceWhileItsETagIsTheSame() {
+            String first = rewrite(modifyServersOpenApiFilter, "10.0.0.1:8081", "\"a\"", "{\"openapi\":\"3.0.1\"}");
+            String other = rewrite(modifyServersOpenApiFilter, "10.0.0.2:8081", "\"b\"", "{\"openapi\":\"3.1.0\"}");
+            // the body is not even read when the ETag matches
+            String cached = rewrite(modifyServersOpenApiFilter, "10.0.0.1:8081", "\"a\"", "not json");
+
+            assertThat(cached).isEqualTo(first);
+            assertThat(other).contains("3.1.0");
+        }
+
+        @Test
+        void shouldRewriteAgainWhenTheETagChanges() {
+            rewrite(modifyServersOpenApiFilter, "10.0.0.1:8081", "\"a\"", "{\"openapi\":\"3.0.1\"}");
+            String changed = rewrite(modifyServersOpenApiFilter, "10.0.0.1:8081", "\"b\"", "{\"openapi\":\"3.1.0\"}");
+
+            assertThat(changed).contains("3.1.0").doesNotContain("3.0.1");
+        }
+
+        @Test
+        void shouldKeepBodyWhenItIsNotJson() {
+            ServerWebExchange exchange = MockServerWebExchange.from(request);
+            ModifyServersOpenApiFilter.ModifyServersOpenApiInterceptor interceptor =
+                modifyServersOpenApiFilter.createModifyServersOpenApiInterceptor(path, exchange);
+
+            interceptor.writeWith(Flux.just(exchange.getResponse().bufferFactory().wrap("not json".getBytes()))).block();
+
+            assertThat(interceptor.getRewritedBody()).isEmpty();
+            assertThat(((MockServerHttpResponse) exchange.getResponse()).getBodyAsString().block()).isEqualTo("not json");
+        }
+
+        private String rewrite(ModifyServersOpenApiFilter filter, String description) {
+            ServerWebExchange exchange = MockServerWebExchange.from(request);
+            ModifyServersOpenApiFilter.ModifyServersOpenApiInterceptor interceptor = filter.createModifyServersOpenApiInterceptor(
+                path,
+                exchange
+            );
+            interceptor.writeWith(Flux.just(exchange.getResponse().bufferFactory().wrap(description.getBytes()))).block();
+            return ((MockServerHttpResponse) exchange.getResponse()).getBodyAsString().block();
+        }
+
+        private String rewrite(ModifyServersOpenApiFilter filter, String instance, String etag, String description) {
+            ServerWebExchange exchange = MockServerWebExchange.from(request);
+            exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, URI.create("http://" + instance + "/v3/api-docs"));
+            exchange.getResponse().getHeaders().setETag(etag);
+            ModifyServersOpenApiFilter.ModifyServersOpenApiInterceptor interceptor = filter.createModifyServersOpenApiInterceptor(
+                path,
+                exchange
+            );
+            interceptor.writeWith(Flux.just(exchange.getResponse().bufferFactory().wrap(description.getBytes()))).block();
+            return ((MockServerHttpResponse) exchange.getResponse()).getBodyAsString().block();
+        }
+
         private byte[] zipContent() {
             try {
                 ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream("{}".length());
@@ -0,0 +1,162 @@
+package com.ifood.app.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ifood.app.config.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ResponseCacheGatewayFilterFactory}.
+ */
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final String URL = "/services/catalog/api/restaurants?page=0";
+
+    private ApplicationProperties applicationProperties;
+
+    private ResponseCacheGatewayFilterFactory.Config config;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private String cacheControl;
+
+    @BeforeEach
+    void setup() {
+        applicationProperties = new ApplicationProperties();
+        config = new ResponseCacheGatewayFilterFactory.Config();
+        calls.set(0);
+        cacheControl = "max-age=60";
+    }
+
+    @Test
+    void shouldServeFreshResponseFromCache() {
+        GatewayFilter filter = filter();
+
+        assertThat(get(filter, MockServerHttpRequest.get(URL))).isEqualTo("body 1");
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(URL));
+        filter.filter(exchange, this::proxy).block();
+
+        assertThat(calls).hasValue(1);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("body 1");
+        assertThat(exchange.getResponse().getHeaders().getCacheControl()).isEqualTo("max-age=60");
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("0");
+    }
+
+    @Test
+    void shouldKeyByQuery() {
+        GatewayFilter filter = filter();
+
+        get(filter, MockServerHttpRequest.get(URL));
+        assertThat(get(filter, MockServerHttpRequest.get(URL.replace("page=0", "page=1")))).isEqualTo("body 2");
+    }
+
+    @Test
+    void shouldNotCacheResponseForbiddingIt() {
+        cacheControl = "no-cache, no-store, max-age=0, must-revalidate";
+        GatewayFilter filter = filter();
+
+        get(filter, MockServerHttpRequest.get(URL));
+        assertThat(get(filter, MockServerHttpRequest.get(URL))).isEqualTo("body 2");
+    }
+
+    @Test
+    void shouldCacheResponseWithoutMaxAgeForTimeToLive() {
+        cacheControl = null;
+        GatewayFilter uncached = filter();
+        get(uncached, MockServerHttpRequest.get(URL));
+        assertThat(get(uncached, MockServerHttpRequest.get(URL))).isEqualTo("body 2");
+
+        config.setTimeToLive(Duration.ofMinutes(1));
+        GatewayFilter cached = filter();
+        get(cached, MockServerHttpRequest.get(URL));
+        assertThat(get(cached, MockServerHttpRequest.get(URL))).isEqualTo("body 3");
+    }
+
+    @Test
+    void shouldRefreshCacheOnNoCacheRequest() {
+        GatewayFilter filter = filter();
+
+        get(filter, MockServerHttpRequest.get(URL));
+        assertThat(get(filter, MockServerHttpRequest.get(URL).header(HttpHeaders.CACHE_CONTROL, "no-cache"))).isEqualTo("body 2");
+        assertThat(get(filter, MockServerHttpRequest.get(URL))).isEqualTo("body 2");
+    }
+
+    @Test
+    void shouldNotCacheResponseLargerThanMaximumEntrySize() {
+        applicationProperties.getResponseCache().setMaximumEntrySize(DataSize.ofBytes(4));
+        GatewayFilter filter = filter();
+
+        get(filter, MockServerHttpRequest.get(URL));
+        assertThat(get(filter, MockServerHttpRequest.get(URL))).isEqualTo("body 2");
+    }
+
+    @Test
+    void shouldKeyAuthenticatedRequestByPrincipal() {
+        GatewayFilter filter = filter();
+
+        assertThat(getAs(filter, "alice")).isEqualTo("body 1");
+        assertThat(getAs(filter, "bob")).isEqualTo("body 2");
+        assertThat(getAs(filter, "alice")).isEqualTo("body 1");
+    }
+
+    @Test
+    void shouldShareOnlyPublicResponsesWhenNotPerPrincipal() {
+        config.setPerPrincipal(false);
+        GatewayFilter filter = filter();
+        getAs(filter, "alice");
+        assertThat(getAs(filter, "bob")).isEqualTo("body 2");
+
+        cacheControl = "public, max-age=60";
+        getAs(filter, "alice");
+        assertThat(getAs(filter, "bob")).isEqualTo("body 3");
+    }
+
+    private GatewayFilter filter() {
+        return new ResponseCacheGatewayFilterFactory(applicationProperties, new SimpleMeterRegistry()).apply(config);
+    }
+
+    private String get(GatewayFilter filter, MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, this::proxy).block();
+        return exchange.getResponse().getBodyAsString().block();
+    }
+
+    private String getAs(GatewayFilter filter, String login) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get(URL).header(HttpHeaders.AUTHORIZATION, "Bearer " + login)
+        );
+        ServerWebExchange authenticated = exchange.mutate().principal(Mono.just(new TestingAuthenticationToken(login, null))).build();
+        filter.filter(authenticated, this::proxy).block();
+        return exchange.getResponse().getBodyAsString().block();
+    }
+
+    /**
+     * A {@link GatewayFilterChain} standing for the proxied service, which body changes on every call.
+     */
+    private Mono<Void> proxy(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        if (cacheControl != null) {
+            response.getHeaders().setCacheControl(cacheControl);
+        }
+        byte[] body = ("body " + calls.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.ifood.app.web.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link InFlightRequestFilter}.
+ */
+class InFlightRequestFilterTest {
+
+    private static final ServiceInstance INSTANCE = new DefaultServiceInstance("catalog-1", "catalog", "10.0.0.1", 8081, false);
+
+    private static final String REQUEST_ATTR = "loadBalancerRequest";
+
+    private final InFlightRequestFilter filter = new InFlightRequestFilter();
+
+    private InstanceLatencyTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        tracker = new InstanceLatencyTracker(new SimpleMeterRegistry(), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldEndTheRequestInFlightWhenTheClientCancels() {
+        ServerWebExchange exchange = startExchange();
+        assertThat(tracker.stats(INSTANCE).inFlight()).isEqualTo(1);
+
+        Disposable response = filter.filter(exchange, ignored -> Mono.never()).subscribe();
+        response.dispose();
+
+        assertThat(tracker.stats(INSTANCE).inFlight()).isZero();
+    }
+
+    @Test
+    void shouldEndTheRequestInFlightOnceWhenTheLoadBalancerCompletesIt() {
+        startExchange();
+        ServerWebExchange exchange = startExchange();
+        Request<Object> request = exchange.getAttribute(REQUEST_ATTR);
+
+        filter.filter(exchange, ignored -> Mono.empty()).block();
+        tracker.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, new DefaultResponse(INSTANCE)));
+
+        // only the request of this exchange ended, the other one is still in flight
+        assertThat(tracker.stats(INSTANCE).inFlight()).isEqualTo(1);
+        assertThat(tracker.stats(INSTANCE).isSampled()).isTrue();
+    }
+
+    private ServerWebExchange startExchange() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/services/catalog/api/dishes"));
+        // as the load balancer filter of the gateway does, with the attributes of the exchange
+        Request<Object> request = new DefaultRequest<>(
+            new RequestDataContext(new RequestData(exchange.getRequest(), exchange.getAttributes()), "default")
+        );
+        tracker.onStartRequest(request, new DefaultResponse(INSTANCE));
+        exchange.getAttributes().put(REQUEST_ATTR, request);
+        return exchange;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ifood.app.web.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+
+/**
+ * Unit tests for {@link InstanceLatencyTracker}.
+ */
+class InstanceLatencyTrackerTest {
+
+    private static final ServiceInstance INSTANCE = new DefaultServiceInstance("catalog-1", "catalog", "10.0.0.1", 8081, false);
+
+    private final AtomicLong nanoTime = new AtomicLong(1);
+
+    private SimpleMeterRegistry registry;
+
+    private InstanceLatencyTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        tracker = new InstanceLatencyTracker(registry, Duration.ofSeconds(10), nanoTime::get);
+    }
+
+    @Test
+    void shouldCountRequestsInFlight() {
+        Request<Object> first = start();
+        start();
+
+        assertThat(tracker.stats(INSTANCE).inFlight()).isEqualTo(2);
+        assertThat(registry.get(InstanceLatencyTracker.IN_FLIGHT_METER_NAME).tag("instance", "catalog-1").gauge().value()).isEqualTo(2);
+
+        complete(first, CompletionContext.Status.SUCCESS);
+        assertThat(tracker.stats(INSTANCE).inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAverageResponseTimesWeightedByAge() {
+        Request<Object> request = start();
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        complete(request, CompletionContext.Status.SUCCESS);
+        assertThat(tracker.stats(INSTANCE).responseTime(TimeUnit.MILLISECONDS)).isEqualTo(100);
+
+        // a response coming one decay later weighs 1 - 1/e
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10) - TimeUnit.MILLISECONDS.toNanos(300));
+        request = start();
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        complete(request, CompletionContext.Status.FAILED);
+
+        double weight = Math.exp(-1);
+        assertThat(tracker.stats(INSTANCE).responseTime(TimeUnit.MILLISECONDS)).isCloseTo(100 * weight + 300 * (1 - weight), within(0.001));
+        assertThat(registry.get(InstanceLatencyTracker.SCORE_METER_NAME).tag("service", "catalog").gauge().value()).isCloseTo(
+            (100 * weight + 300 * (1 - weight)) / 1000,
+            within(0.000001)
+        );
+    }
+
+    @Test
+    void shouldNotSampleDiscardedRequests() {
+        Request<Object> request = start();
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        complete(request, CompletionContext.Status.DISCARD);
+
+        assertThat(tracker.stats(INSTANCE).isSampled()).isFalse();
+    }
+
+    private Request<Object> start() {
+        Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+        tracker.onStartRequest(request, new DefaultResponse(INSTANCE));
+        return request;
+    }
+
+    private void complete(Request<Object> request, CompletionContext.Status status) {
+        Response<ServiceInstance> response = new DefaultResponse(INSTANCE);
+        tracker.onComplete(new CompletionContext<>(status, request, response));
+    }
+}
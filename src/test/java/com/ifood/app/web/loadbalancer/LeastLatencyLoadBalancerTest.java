@@ -0,0 +1,106 @@
+package com.ifood.app.web.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+/**
+ * Unit tests for {@link LeastLatencyLoadBalancer}.
+ */
+class LeastLatencyLoadBalancerTest {
+
+    private static final ServiceInstance FAST = new DefaultServiceInstance("catalog-1", "catalog", "10.0.0.1", 8081, false);
+
+    private static final ServiceInstance SLOW = new DefaultServiceInstance("catalog-2", "catalog", "10.0.0.2", 8081, false);
+
+    private final AtomicLong nanoTime = new AtomicLong(1);
+
+    private InstanceLatencyTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        tracker = new InstanceLatencyTracker(new SimpleMeterRegistry(), Duration.ofSeconds(10), nanoTime::get);
+    }
+
+    @Test
+    void shouldPickInstanceWithLowestScore() {
+        sample(FAST, 10);
+        sample(SLOW, 100);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(choose(FAST, SLOW).getServer()).isEqualTo(FAST);
+        }
+    }
+
+    @Test
+    void shouldWeighResponseTimeByRequestsInFlight() {
+        sample(FAST, 10);
+        sample(SLOW, 30);
+        for (int i = 0; i < 3; i++) {
+            tracker.stats(FAST).started();
+        }
+
+        assertThat(choose(FAST, SLOW).getServer()).isEqualTo(SLOW);
+    }
+
+    @Test
+    void shouldPickAgainAnInstanceNotSampledForAWhile() {
+        sample(FAST, 10);
+        sample(SLOW, 100);
+        assertThat(choose(FAST, SLOW).getServer()).isEqualTo(FAST);
+
+        // FAST keeps answering in 10ms while SLOW is left out: three decays later, SLOW scores 100ms / e^3, about 5ms
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        sample(FAST, 10);
+        assertThat(choose(FAST, SLOW).getServer()).isEqualTo(SLOW);
+
+        // answering fast again, its slow responses are mostly forgotten
+        sample(SLOW, 10);
+        assertThat(tracker.stats(SLOW).responseTime(TimeUnit.MILLISECONDS)).isLessThan(15);
+    }
+
+    @Test
+    void shouldTryUnsampledInstance() {
+        sample(FAST, 10);
+
+        assertThat(choose(FAST, SLOW).getServer()).isEqualTo(SLOW);
+        tracker.stats(SLOW).started();
+        assertThat(choose(FAST, SLOW).getServer()).isEqualTo(FAST);
+    }
+
+    @Test
+    void shouldHandleFewInstances() {
+        assertThat(choose().hasServer()).isFalse();
+        assertThat(choose(SLOW).getServer()).isEqualTo(SLOW);
+    }
+
+    private void sample(ServiceInstance instance, long responseTimeMillis) {
+        InstanceLatencyTracker.InstanceStats stats = tracker.stats(instance);
+        stats.started();
+        stats.completed();
+        stats.sampled(TimeUnit.MILLISECONDS.toNanos(responseTimeMillis), nanoTime.get());
+    }
+
+    private Response<ServiceInstance> choose(ServiceInstance... instances) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("supplier", ServiceInstanceListSuppliers.from("catalog", instances));
+        LeastLatencyLoadBalancer loadBalancer = new LeastLatencyLoadBalancer(
+            beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+            tracker
+        );
+        return loadBalancer.choose(new DefaultRequest<>()).block();
+    }
+}
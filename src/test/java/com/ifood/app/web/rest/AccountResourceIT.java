@@ -429,7 +429,7 @@ class AccountResourceIT {
 
         Optional<User> userDup = userRepository.findOneByLogin("badguy").blockOptional();
         assertThat(userDup).isPresent();
-        assertThat(userDup.orElseThrow().getAuthorities()).hasSize(1).containsExactly();
+        assertThat(userDup.orElseThrow().getAuthorities()).containsExactly(AuthoritiesConstants.USER);
 
         userService.deleteUser("badguy").block();
     }
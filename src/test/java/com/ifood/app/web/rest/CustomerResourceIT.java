@@ -12,6 +12,9 @@ import com.ifood.app.domain.Customer;
 import com.ifood.app.repository.CustomerRepository;
 import com.ifood.app.service.dto.CustomerDTO;
 import com.ifood.app.service.mapper.CustomerMapper;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -223,6 +226,37 @@ class CustomerResourceIT {
             .value(hasItem(DEFAULT_ADDRESS));
     }
 
+    @Test
+    void getAllCustomersAsStream() {
+        // Initialize the database
+        insertedCustomer = customerRepository.save(customer).block();
+
+        List<CustomerDTO> customerDTOList = webTestClient
+            .get()
+            .uri(ENTITY_API_URL + "?sort=id,desc")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(CustomerDTO.class)
+            .getResponseBody()
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(customerDTOList)
+            .extracting(CustomerDTO::getId)
+            .contains(insertedCustomer.getId())
+            .isSortedAccordingTo(Comparator.reverseOrder());
+        CustomerDTO testCustomerDTO = customerDTOList
+            .stream()
+            .filter(dto -> insertedCustomer.getId().equals(dto.getId()))
+            .findFirst()
+            .orElseThrow();
+        assertCustomerUpdatableFieldsEquals(insertedCustomer, customerMapper.toEntity(testCustomerDTO));
+    }
+
     @Test
     void getCustomer() {
         // Initialize the database
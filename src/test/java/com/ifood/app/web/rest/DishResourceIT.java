@@ -14,6 +14,11 @@ import com.ifood.app.repository.DishRepository;
 import com.ifood.app.service.dto.DishDTO;
 import com.ifood.app.service.mapper.DishMapper;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -21,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -217,6 +223,94 @@ class DishResourceIT {
             .value(hasItem(DEFAULT_SPICY_LEVEL));
     }
 
+    @Test
+    void getAllDishesAsStream() {
+        // Initialize the database
+        insertedDish = dishRepository.save(dish).block();
+
+        List<DishDTO> dishDTOList = webTestClient
+            .get()
+            .uri(ENTITY_API_URL + "?sort=id,desc")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(DishDTO.class)
+            .getResponseBody()
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(dishDTOList)
+            .extracting(DishDTO::getId)
+            .contains(insertedDish.getId())
+            .isSortedAccordingTo(Comparator.reverseOrder());
+        DishDTO testDishDTO = dishDTOList
+            .stream()
+            .filter(dto -> insertedDish.getId().equals(dto.getId()))
+            .findFirst()
+            .orElseThrow();
+        assertDishUpdatableFieldsEquals(insertedDish, dishMapper.toEntity(testDishDTO));
+    }
+
+    @Test
+    void getAllDishesWithKeysetPagination() {
+        // Initialize the database
+        List<Dish> dishes = dishRepository
+            .saveAll(List.of(createEntity(), createEntity(), createEntity()))
+            .collectList()
+            .block();
+        List<Long> insertedIds = dishes.stream().map(Dish::getId).toList();
+
+        try {
+            // Walk through all the pages, following the Link header
+            List<Long> ids = new ArrayList<>();
+            String uri = ENTITY_API_URL + "?size=2&after=";
+            while (uri != null) {
+                var result = webTestClient
+                    .get()
+                    .uri(uri)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus()
+                    .isOk()
+                    .expectHeader()
+                    .doesNotExist("X-Total-Count")
+                    .expectBodyList(DishDTO.class)
+                    .returnResult();
+                assertThat(result.getResponseBody()).hasSizeLessThanOrEqualTo(2);
+                result.getResponseBody().forEach(dishDTO -> ids.add(dishDTO.getId()));
+                uri = nextPageUri(result.getResponseHeaders());
+            }
+
+            assertThat(ids).doesNotHaveDuplicates();
+            assertThat(ids.stream().filter(insertedIds::contains).toList()).containsExactlyElementsOf(insertedIds);
+        } finally {
+            dishRepository.deleteAll(dishes).block();
+        }
+    }
+
+    @Test
+    void getAllDishesWithInvalidCursor() {
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL + "?after=not-a-cursor")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+    }
+
+    private static String nextPageUri(HttpHeaders headers) {
+        String link = headers.getFirst(HttpHeaders.LINK);
+        if (link == null) {
+            return null;
+        }
+        URI next = URI.create(link.substring(link.indexOf('<') + 1, link.indexOf('>')));
+        return next.getRawPath() + "?" + next.getRawQuery();
+    }
+
     @Test
     void getDish() {
         // Initialize the database
@@ -0,0 +1,50 @@
+package com.ifood.app.web.rest;
+
+import com.ifood.app.IntegrationTest;
+import com.ifood.app.security.AuthoritiesConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Integration tests for the {@link GatewayResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureWebTestClient(timeout = IntegrationTest.DEFAULT_TIMEOUT)
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class GatewayResourceIT {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Test
+    void getActiveRoutes() {
+        webTestClient
+            .get()
+            .uri("/api/gateway/routes")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$")
+            .isArray();
+    }
+
+    @Test
+    void getActiveRoutesAfterRefresh() {
+        applicationEventPublisher.publishEvent(new RefreshRoutesResultEvent(this));
+
+        webTestClient.get().uri("/api/gateway/routes").accept(MediaType.APPLICATION_JSON).exchange().expectStatus().isOk();
+    }
+}
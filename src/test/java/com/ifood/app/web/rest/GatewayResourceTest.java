@@ -0,0 +1,40 @@
+package com.ifood.app.web.rest;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit tests for {@link GatewayResource}.
+ */
+class GatewayResourceTest {
+
+    private RouteLocator routeLocator;
+
+    private GatewayResource gatewayResource;
+
+    @BeforeEach
+    public void setup() {
+        routeLocator = mock(RouteLocator.class);
+        when(routeLocator.getRoutes()).thenReturn(Flux.empty());
+        gatewayResource = new GatewayResource(routeLocator, mock(ReactiveDiscoveryClient.class));
+    }
+
+    @Test
+    void testHeartbeatRefreshesRoutesOnlyWhenItsStateChanges() {
+        gatewayResource.onHeartbeat(new HeartbeatEvent(this, 1L));
+        gatewayResource.onHeartbeat(new HeartbeatEvent(this, 1L));
+        verify(routeLocator, times(1)).getRoutes();
+
+        gatewayResource.onHeartbeat(new HeartbeatEvent(this, 2L));
+        verify(routeLocator, times(2)).getRoutes();
+    }
+}
@@ -8,13 +8,31 @@ import static org.hamcrest.Matchers.is;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ifood.app.IntegrationTest;
+import com.ifood.app.domain.Customer;
+import com.ifood.app.domain.Dish;
 import com.ifood.app.domain.Order;
+import com.ifood.app.domain.OrderItem;
 import com.ifood.app.domain.enumeration.OrderStatus;
+import com.ifood.app.management.CrudMetersService;
+import com.ifood.app.repository.CustomerRepository;
+import com.ifood.app.repository.DishRepository;
+import com.ifood.app.repository.OrderItemRepository;
 import com.ifood.app.repository.OrderRepository;
 import com.ifood.app.service.dto.OrderDTO;
+import com.ifood.app.service.dto.OrderDetailsDTO;
+import com.ifood.app.service.dto.OrderPlacementDTO;
+import com.ifood.app.service.dto.OrderPlacementItemDTO;
+import com.ifood.app.service.dto.OrderTransitionDTO;
 import com.ifood.app.service.mapper.OrderMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +40,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -49,12 +69,24 @@ class OrderResourceIT {
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private OrderRepository orderRepository;
 
     @Autowired
     private OrderMapper orderMapper;
 
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private DishRepository dishRepository;
+
     @Autowired
     private WebTestClient webTestClient;
 
@@ -118,10 +150,99 @@ class OrderResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         var returnedOrder = orderMapper.toEntity(returnedOrderDTO);
         assertOrderUpdatableFieldsEquals(returnedOrder, getPersistedOrder(returnedOrder));
+        assertThat(returnedOrderDTO.getVersion()).isEqualTo(getPersistedOrder(returnedOrder).getVersion()).isZero();
 
         insertedOrder = returnedOrder;
     }
 
+    @Test
+    void placeOrder() throws Exception {
+        // Initialize the database
+        Customer customer = customerRepository.save(CustomerResourceIT.createEntity()).block();
+        Dish pizza = dishRepository.save(DishResourceIT.createEntity().price(new BigDecimal("12.90"))).block();
+        Dish salad = dishRepository.save(DishResourceIT.createEntity().price(new BigDecimal("7.35"))).block();
+        long databaseSizeBeforeCreate = getRepositoryCount();
+
+        // The same dish twice makes a single item
+        OrderPlacementDTO orderPlacementDTO = new OrderPlacementDTO();
+        orderPlacementDTO.setCustomerId(customer.getId());
+        orderPlacementDTO.setItems(List.of(placementItem(pizza, 2), placementItem(salad, 3), placementItem(pizza, 1)));
+
+        OrderDetailsDTO placedOrder = webTestClient
+            .post()
+            .uri(ENTITY_API_URL + "/place")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(orderPlacementDTO))
+            .exchange()
+            .expectStatus()
+            .isCreated()
+            .expectBody(OrderDetailsDTO.class)
+            .returnResult()
+            .getResponseBody();
+
+        List<OrderItem> orderItems = orderItemRepository.findByOrder(placedOrder.getId()).collectList().block();
+        try {
+            assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
+            assertThat(placedOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
+            assertThat(placedOrder.getVersion()).isZero();
+            assertThat(placedOrder.getCustomer().getId()).isEqualTo(customer.getId());
+            assertThat(placedOrder.getOrderItems()).hasSize(2);
+            assertThat(placedOrder.getOrderItems().get(0).getDish().getId()).isEqualTo(pizza.getId());
+            assertThat(placedOrder.getOrderItems().get(0).getQuantity()).isEqualTo(3);
+            assertThat(placedOrder.getOrderItems().get(0).getTotalPrice()).isEqualByComparingTo("38.70");
+            assertThat(placedOrder.getOrderItems().get(1).getDish().getId()).isEqualTo(salad.getId());
+            assertThat(placedOrder.getOrderItems().get(1).getQuantity()).isEqualTo(3);
+            assertThat(placedOrder.getOrderItems().get(1).getTotalPrice()).isEqualByComparingTo("22.05");
+            assertThat(orderItems).hasSize(2);
+        } finally {
+            orderItemRepository.deleteAll(orderItems).block();
+            orderRepository.deleteById(placedOrder.getId()).block();
+            dishRepository.deleteAll(List.of(pizza, salad)).block();
+            customerRepository.delete(customer).block();
+        }
+    }
+
+    @Test
+    void placeOrderWithUnknownDish() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        OrderPlacementDTO orderPlacementDTO = new OrderPlacementDTO();
+        orderPlacementDTO.setItems(List.of(placementItem(new Dish().id(Long.MAX_VALUE), 1)));
+
+        webTestClient
+            .post()
+            .uri(ENTITY_API_URL + "/place")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(orderPlacementDTO))
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    void placeOrderWithoutItems() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+
+        webTestClient
+            .post()
+            .uri(ENTITY_API_URL + "/place")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(new OrderPlacementDTO()))
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+    }
+
+    private static OrderPlacementItemDTO placementItem(Dish dish, int quantity) {
+        OrderPlacementItemDTO item = new OrderPlacementItemDTO();
+        item.setDishId(dish.getId());
+        item.setQuantity(quantity);
+        return item;
+    }
+
     @Test
     void createOrderWithExistingId() throws Exception {
         // Create the Order with an existing ID
@@ -208,6 +329,131 @@ class OrderResourceIT {
             .value(hasItem(DEFAULT_STATUS.toString()));
     }
 
+    @Test
+    void getAllOrdersShouldRecordMeters() {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+        long requests = meterRegistry
+            .get(CrudMetersService.REQUESTS_METER_NAME)
+            .tags("entity", "order", "operation", "getAllOrders", "outcome", "success")
+            .timer()
+            .count();
+        long counts = meterRegistry.get(CrudMetersService.QUERIES_METER_NAME).tags("entity", "order", "query", "count").timer().count();
+        double pageSizes = meterRegistry.get(CrudMetersService.PAGE_SIZE_METER_NAME).tag("entity", "order").summary().totalAmount();
+
+        webTestClient.get().uri(ENTITY_API_URL + "?size=5").accept(MediaType.APPLICATION_JSON).exchange().expectStatus().isOk();
+
+        assertThat(
+            meterRegistry
+                .get(CrudMetersService.REQUESTS_METER_NAME)
+                .tags("entity", "order", "operation", "getAllOrders", "outcome", "success")
+                .timer()
+                .count()
+        ).isEqualTo(requests + 1);
+        assertThat(meterRegistry.get(CrudMetersService.QUERIES_METER_NAME).tags("entity", "order", "query", "count").timer().count()).isEqualTo(
+            counts + 1
+        );
+        assertThat(meterRegistry.get(CrudMetersService.PAGE_SIZE_METER_NAME).tag("entity", "order").summary().totalAmount()).isEqualTo(
+            pageSizes + 5
+        );
+        assertThat(
+            meterRegistry
+                .get(CrudMetersService.RESPONSE_SIZE_METER_NAME)
+                .tags("entity", "order", "operation", "getAllOrders")
+                .summary()
+                .totalAmount()
+        ).isPositive();
+    }
+
+    @Test
+    void getAllOrdersAsStream() {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+
+        List<OrderDTO> orderDTOList = webTestClient
+            .get()
+            .uri(ENTITY_API_URL + "?sort=id,desc")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(OrderDTO.class)
+            .getResponseBody()
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(orderDTOList)
+            .extracting(OrderDTO::getId)
+            .contains(insertedOrder.getId())
+            .isSortedAccordingTo(Comparator.reverseOrder());
+        OrderDTO testOrderDTO = orderDTOList
+            .stream()
+            .filter(dto -> insertedOrder.getId().equals(dto.getId()))
+            .findFirst()
+            .orElseThrow();
+        assertOrderUpdatableFieldsEquals(insertedOrder, orderMapper.toEntity(testOrderDTO));
+    }
+
+    @Test
+    void getAllOrdersWithKeysetPagination() {
+        // Initialize the database
+        // two orders share the same date, so the id has to break the tie
+        List<Order> orders = new ArrayList<>();
+        orders.add(orderRepository.save(createEntity().orderDate(UPDATED_ORDER_DATE)).block());
+        orders.add(orderRepository.save(createEntity()).block());
+        orders.add(orderRepository.save(createEntity()).block());
+        List<Long> insertedIds = List.of(orders.get(1).getId(), orders.get(2).getId(), orders.get(0).getId());
+
+        try {
+            // Walk through all the pages, following the Link header
+            List<Long> ids = new ArrayList<>();
+            String uri = ENTITY_API_URL + "?size=2&after=";
+            while (uri != null) {
+                var result = webTestClient
+                    .get()
+                    .uri(uri)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus()
+                    .isOk()
+                    .expectHeader()
+                    .doesNotExist("X-Total-Count")
+                    .expectBodyList(OrderDTO.class)
+                    .returnResult();
+                assertThat(result.getResponseBody()).hasSizeLessThanOrEqualTo(2);
+                result.getResponseBody().forEach(orderDTO -> ids.add(orderDTO.getId()));
+                uri = nextPageUri(result.getResponseHeaders());
+            }
+
+            assertThat(ids).doesNotHaveDuplicates();
+            assertThat(ids.stream().filter(insertedIds::contains).toList()).containsExactlyElementsOf(insertedIds);
+        } finally {
+            orderRepository.deleteAll(orders).block();
+        }
+    }
+
+    @Test
+    void getAllOrdersWithInvalidCursor() {
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL + "?after=not-a-cursor")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+    }
+
+    private static String nextPageUri(HttpHeaders headers) {
+        String link = headers.getFirst(HttpHeaders.LINK);
+        if (link == null) {
+            return null;
+        }
+        URI next = URI.create(link.substring(link.indexOf('<') + 1, link.indexOf('>')));
+        return next.getRawPath() + "?" + next.getRawQuery();
+    }
+
     @Test
     void getOrder() {
         // Initialize the database
@@ -230,6 +476,142 @@ class OrderResourceIT {
             .value(is(DEFAULT_STATUS.toString()));
     }
 
+    @Test
+    void transitionOrder() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+
+        webTestClient
+            .post()
+            .uri(ENTITY_API_URL_ID + "/transitions", order.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(transition(OrderStatus.SHIPPED, 0L)))
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody()
+            .jsonPath("$.status")
+            .value(is(OrderStatus.SHIPPED.toString()))
+            .jsonPath("$.version")
+            .value(is(1));
+
+        Order transitionedOrder = orderRepository.findById(order.getId()).block();
+        assertThat(transitionedOrder.getStatus()).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(transitionedOrder.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void transitionOrderWithIllegalStatus() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+
+        // A pending order must be shipped before it is completed
+        webTestClient
+            .post()
+            .uri(ENTITY_API_URL_ID + "/transitions", order.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(transition(OrderStatus.COMPLETED, 0L)))
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        assertThat(orderRepository.findById(order.getId()).block().getStatus()).isEqualTo(DEFAULT_STATUS);
+    }
+
+    @Test
+    void transitionOrderWithStaleVersion() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+        orderRepository.transitionStatus(order.getId(), 0L, List.of(DEFAULT_STATUS.name()), OrderStatus.SHIPPED.name()).block();
+
+        // The order was shipped since version 0, so it cannot be cancelled on the basis of that version
+        webTestClient
+            .post()
+            .uri(ENTITY_API_URL_ID + "/transitions", order.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(transition(OrderStatus.CANCELLED, 0L)))
+            .exchange()
+            .expectStatus()
+            .isEqualTo(HttpStatus.CONFLICT);
+
+        assertThat(orderRepository.findById(order.getId()).block().getStatus()).isEqualTo(OrderStatus.SHIPPED);
+    }
+
+    @Test
+    void transitionNonExistingOrder() throws Exception {
+        webTestClient
+            .post()
+            .uri(ENTITY_API_URL_ID + "/transitions", Long.MAX_VALUE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(transition(OrderStatus.SHIPPED, 0L)))
+            .exchange()
+            .expectStatus()
+            .isNotFound();
+    }
+
+    private static OrderTransitionDTO transition(OrderStatus status, Long version) {
+        OrderTransitionDTO transition = new OrderTransitionDTO();
+        transition.setStatus(status);
+        transition.setVersion(version);
+        return transition;
+    }
+
+    @Test
+    void getOrderDetails() {
+        // Initialize the database
+        Customer customer = customerRepository.save(CustomerResourceIT.createEntity()).block();
+        order.setCustomer(customer);
+        insertedOrder = orderRepository.save(order).block();
+        List<OrderItem> orderItems = orderItemRepository
+            .saveAll(List.of(OrderItemResourceIT.createEntity().order(order), OrderItemResourceIT.createEntity().order(order)))
+            .collectList()
+            .block();
+
+        try {
+            // Get the order with its customer and items
+            webTestClient
+                .get()
+                .uri(ENTITY_API_URL_ID + "/details", order.getId())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id")
+                .value(is(order.getId().intValue()))
+                .jsonPath("$.status")
+                .value(is(DEFAULT_STATUS.toString()))
+                .jsonPath("$.customer.id")
+                .value(is(customer.getId().intValue()))
+                .jsonPath("$.customer.email")
+                .value(is(customer.getEmail()))
+                .jsonPath("$.orderItems.length()")
+                .value(is(2))
+                .jsonPath("$.orderItems[0].id")
+                .value(is(orderItems.get(0).getId().intValue()))
+                .jsonPath("$.orderItems[1].id")
+                .value(is(orderItems.get(1).getId().intValue()));
+        } finally {
+            orderItemRepository.deleteAll(orderItems).block();
+            orderRepository.delete(insertedOrder).block();
+            insertedOrder = null;
+            customerRepository.delete(customer).block();
+        }
+    }
+
+    @Test
+    void getNonExistingOrderDetails() {
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/details", Long.MAX_VALUE)
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isNotFound();
+    }
+
     @Test
     void getNonExistingOrder() {
         // Get the order
@@ -249,9 +631,9 @@ class OrderResourceIT {
 
         long databaseSizeBeforeUpdate = getRepositoryCount();
 
-        // Update the order
+        // Update the order, keeping its status, which only changes through its transitions
         Order updatedOrder = orderRepository.findById(order.getId()).block();
-        updatedOrder.orderDate(UPDATED_ORDER_DATE).status(UPDATED_STATUS);
+        updatedOrder.orderDate(UPDATED_ORDER_DATE);
         OrderDTO orderDTO = orderMapper.toDto(updatedOrder);
 
         webTestClient
@@ -261,22 +643,98 @@ class OrderResourceIT {
             .bodyValue(om.writeValueAsBytes(orderDTO))
             .exchange()
             .expectStatus()
-            .isOk();
+            .isOk()
+            .expectBody()
+            .jsonPath("$.version")
+            .value(is(1));
 
         // Validate the Order in the database
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedOrderToMatchAllProperties(updatedOrder);
+        assertThat(getPersistedOrder(updatedOrder).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void putExistingOrderWithChangedStatus() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+
+        // The status only changes through the transitions
+        Order updatedOrder = orderRepository.findById(order.getId()).block();
+        updatedOrder.orderDate(UPDATED_ORDER_DATE).status(UPDATED_STATUS);
+        OrderDTO orderDTO = orderMapper.toDto(updatedOrder);
+
+        webTestClient
+            .put()
+            .uri(ENTITY_API_URL_ID, orderDTO.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(orderDTO))
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        // Validate the Order in the database
+        assertPersistedOrderToMatchAllProperties(order);
+        assertThat(getPersistedOrder(order).getVersion()).isZero();
+    }
+
+    @Test
+    void putExistingOrderWithStaleVersion() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+        orderRepository.transitionStatus(order.getId(), 0L, List.of(DEFAULT_STATUS.name()), OrderStatus.SHIPPED.name()).block();
+
+        // The order was shipped since version 0, so it cannot be updated on the basis of that version
+        OrderDTO orderDTO = orderMapper.toDto(order);
+        orderDTO.setOrderDate(UPDATED_ORDER_DATE);
+        orderDTO.setStatus(OrderStatus.SHIPPED);
+        orderDTO.setVersion(0L);
+
+        webTestClient
+            .put()
+            .uri(ENTITY_API_URL_ID, orderDTO.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(orderDTO))
+            .exchange()
+            .expectStatus()
+            .isEqualTo(HttpStatus.CONFLICT);
+
+        // Validate the Order in the database
+        assertThat(getPersistedOrder(order).getOrderDate()).isEqualTo(DEFAULT_ORDER_DATE);
+    }
+
+    @Test
+    void putExistingOrderWithoutVersion() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+
+        OrderDTO orderDTO = orderMapper.toDto(order);
+        orderDTO.setOrderDate(UPDATED_ORDER_DATE);
+        orderDTO.setVersion(null);
+
+        webTestClient
+            .put()
+            .uri(ENTITY_API_URL_ID, orderDTO.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(orderDTO))
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        // Validate the Order in the database
+        assertThat(getPersistedOrder(order).getOrderDate()).isEqualTo(DEFAULT_ORDER_DATE);
     }
 
     @Test
     void putNonExistingOrder() throws Exception {
         long databaseSizeBeforeUpdate = getRepositoryCount();
         order.setId(longCount.incrementAndGet());
+        order.setVersion(0L);
 
         // Create the Order
         OrderDTO orderDTO = orderMapper.toDto(order);
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // The order does not exist, at any version
         webTestClient
             .put()
             .uri(ENTITY_API_URL_ID, orderDTO.getId())
@@ -284,7 +742,7 @@ class OrderResourceIT {
             .bodyValue(om.writeValueAsBytes(orderDTO))
             .exchange()
             .expectStatus()
-            .isBadRequest();
+            .isNotFound();
 
         // Validate the Order in the database
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
@@ -345,7 +803,7 @@ class OrderResourceIT {
         Order partialUpdatedOrder = new Order();
         partialUpdatedOrder.setId(order.getId());
 
-        partialUpdatedOrder.orderDate(UPDATED_ORDER_DATE);
+        partialUpdatedOrder.orderDate(UPDATED_ORDER_DATE).version(0L);
 
         webTestClient
             .patch()
@@ -373,7 +831,7 @@ class OrderResourceIT {
         Order partialUpdatedOrder = new Order();
         partialUpdatedOrder.setId(order.getId());
 
-        partialUpdatedOrder.orderDate(UPDATED_ORDER_DATE).status(UPDATED_STATUS);
+        partialUpdatedOrder.orderDate(UPDATED_ORDER_DATE).status(DEFAULT_STATUS).version(0L);
 
         webTestClient
             .patch()
@@ -382,23 +840,77 @@ class OrderResourceIT {
             .bodyValue(om.writeValueAsBytes(partialUpdatedOrder))
             .exchange()
             .expectStatus()
-            .isOk();
+            .isOk()
+            .expectBody()
+            .jsonPath("$.version")
+            .value(is(1));
 
         // Validate the Order in the database
 
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertOrderUpdatableFieldsEquals(partialUpdatedOrder, getPersistedOrder(partialUpdatedOrder));
+        assertThat(getPersistedOrder(partialUpdatedOrder).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void patchExistingOrderWithChangedStatus() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+
+        // The status only changes through the transitions
+        Order partialUpdatedOrder = new Order();
+        partialUpdatedOrder.setId(order.getId());
+
+        partialUpdatedOrder.status(UPDATED_STATUS).version(0L);
+
+        webTestClient
+            .patch()
+            .uri(ENTITY_API_URL_ID, partialUpdatedOrder.getId())
+            .contentType(MediaType.valueOf("application/merge-patch+json"))
+            .bodyValue(om.writeValueAsBytes(partialUpdatedOrder))
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+
+        // Validate the Order in the database
+        assertThat(getPersistedOrder(order).getStatus()).isEqualTo(DEFAULT_STATUS);
+    }
+
+    @Test
+    void patchExistingOrderWithStaleVersion() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.save(order).block();
+        orderRepository.transitionStatus(order.getId(), 0L, List.of(DEFAULT_STATUS.name()), OrderStatus.SHIPPED.name()).block();
+
+        // The order was shipped since version 0, so it cannot be updated on the basis of that version
+        Order partialUpdatedOrder = new Order();
+        partialUpdatedOrder.setId(order.getId());
+
+        partialUpdatedOrder.orderDate(UPDATED_ORDER_DATE).version(0L);
+
+        webTestClient
+            .patch()
+            .uri(ENTITY_API_URL_ID, partialUpdatedOrder.getId())
+            .contentType(MediaType.valueOf("application/merge-patch+json"))
+            .bodyValue(om.writeValueAsBytes(partialUpdatedOrder))
+            .exchange()
+            .expectStatus()
+            .isEqualTo(HttpStatus.CONFLICT);
+
+        // Validate the Order in the database
+        assertThat(getPersistedOrder(order).getOrderDate()).isEqualTo(DEFAULT_ORDER_DATE);
     }
 
     @Test
     void patchNonExistingOrder() throws Exception {
         long databaseSizeBeforeUpdate = getRepositoryCount();
         order.setId(longCount.incrementAndGet());
+        order.setVersion(0L);
 
         // Create the Order
         OrderDTO orderDTO = orderMapper.toDto(order);
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // The order does not exist, at any version
         webTestClient
             .patch()
             .uri(ENTITY_API_URL_ID, orderDTO.getId())
@@ -406,7 +918,7 @@ class OrderResourceIT {
             .bodyValue(om.writeValueAsBytes(orderDTO))
             .exchange()
             .expectStatus()
-            .isBadRequest();
+            .isNotFound();
 
         // Validate the Order in the database
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
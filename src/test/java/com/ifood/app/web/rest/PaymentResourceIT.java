@@ -12,6 +12,7 @@ import com.ifood.app.IntegrationTest;
 import com.ifood.app.domain.Payment;
 import com.ifood.app.domain.enumeration.PaymentType;
 import com.ifood.app.repository.PaymentRepository;
+import com.ifood.app.service.IdempotencyService;
 import com.ifood.app.service.dto.PaymentDTO;
 import com.ifood.app.service.mapper.PaymentMapper;
 import java.math.BigDecimal;
@@ -20,6 +21,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Random;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -129,6 +131,42 @@ class PaymentResourceIT {
         insertedPayment = returnedPayment;
     }
 
+    @Test
+    void createPaymentWithIdempotencyKey() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        PaymentDTO paymentDTO = paymentMapper.toDto(payment);
+        String idempotencyKey = UUID.randomUUID().toString();
+        var returnedPaymentDTO = webTestClient
+            .post()
+            .uri(ENTITY_API_URL)
+            .header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(paymentDTO))
+            .exchange()
+            .expectStatus()
+            .isCreated()
+            .expectBody(PaymentDTO.class)
+            .returnResult()
+            .getResponseBody();
+        insertedPayment = paymentMapper.toEntity(returnedPaymentDTO);
+
+        // The retry is answered with the payment already created
+        webTestClient
+            .post()
+            .uri(ENTITY_API_URL)
+            .header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(paymentDTO))
+            .exchange()
+            .expectStatus()
+            .isCreated()
+            .expectBody()
+            .jsonPath("$.id")
+            .isEqualTo(returnedPaymentDTO.getId().intValue());
+
+        assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
+    }
+
     @Test
     void createPaymentWithExistingId() throws Exception {
         // Create the Payment with an existing ID
@@ -8,17 +8,30 @@ import static org.hamcrest.Matchers.is;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ifood.app.IntegrationTest;
+import com.ifood.app.domain.Dish;
+import com.ifood.app.domain.Menu;
 import com.ifood.app.domain.Restaurant;
+import com.ifood.app.repository.DishRepository;
+import com.ifood.app.repository.MenuRepository;
 import com.ifood.app.repository.RestaurantRepository;
+import com.ifood.app.service.dto.DishDTO;
+import com.ifood.app.service.dto.RestaurantCatalogDTO;
 import com.ifood.app.service.dto.RestaurantDTO;
+import com.ifood.app.service.mapper.DishMapper;
 import com.ifood.app.service.mapper.RestaurantMapper;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -55,6 +68,15 @@ class RestaurantResourceIT {
     @Autowired
     private RestaurantMapper restaurantMapper;
 
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private DishRepository dishRepository;
+
+    @Autowired
+    private DishMapper dishMapper;
+
     @Autowired
     private WebTestClient webTestClient;
 
@@ -189,6 +211,37 @@ class RestaurantResourceIT {
             .value(hasItem(DEFAULT_RATING.doubleValue()));
     }
 
+    @Test
+    void getAllRestaurantsAsStream() {
+        // Initialize the database
+        insertedRestaurant = restaurantRepository.save(restaurant).block();
+
+        List<RestaurantDTO> restaurantDTOList = webTestClient
+            .get()
+            .uri(ENTITY_API_URL + "?sort=id,desc")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(RestaurantDTO.class)
+            .getResponseBody()
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(restaurantDTOList)
+            .extracting(RestaurantDTO::getId)
+            .contains(insertedRestaurant.getId())
+            .isSortedAccordingTo(Comparator.reverseOrder());
+        RestaurantDTO testRestaurantDTO = restaurantDTOList
+            .stream()
+            .filter(dto -> insertedRestaurant.getId().equals(dto.getId()))
+            .findFirst()
+            .orElseThrow();
+        assertRestaurantUpdatableFieldsEquals(insertedRestaurant, restaurantMapper.toEntity(testRestaurantDTO));
+    }
+
     @Test
     void getRestaurant() {
         // Initialize the database
@@ -225,6 +278,173 @@ class RestaurantResourceIT {
             .isNotFound();
     }
 
+    @Test
+    void getRestaurantCatalog() throws Exception {
+        // Initialize the database
+        insertedRestaurant = restaurantRepository.save(restaurant).block();
+        Menu menu = menuRepository.save(MenuResourceIT.createEntity().restaurant(insertedRestaurant)).block();
+        Dish dish = dishRepository.save(DishResourceIT.createEntity().menu(menu)).block();
+
+        // Get the catalog
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/catalog", insertedRestaurant.getId())
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.id")
+            .value(is(insertedRestaurant.getId().intValue()))
+            .jsonPath("$.name")
+            .value(is(DEFAULT_NAME))
+            .jsonPath("$.menus[0].id")
+            .value(is(menu.getId().intValue()))
+            .jsonPath("$.menus[0].dishes[0].id")
+            .value(is(dish.getId().intValue()));
+
+        // Update the dish, which must evict the cached catalog
+        DishDTO dishDTO = dishMapper.toDto(dish);
+        dishDTO.setName("Updated dish");
+        webTestClient
+            .put()
+            .uri("/api/dishes/{id}", dish.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(dishDTO))
+            .exchange()
+            .expectStatus()
+            .isOk();
+
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/catalog", insertedRestaurant.getId())
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody()
+            .jsonPath("$.menus[0].dishes[0].name")
+            .value(is("Updated dish"));
+
+        dishRepository.delete(dish).block();
+        menuRepository.delete(menu).block();
+    }
+
+    @Test
+    void getRestaurantCatalogNotModified() throws Exception {
+        // Initialize the database
+        insertedRestaurant = restaurantRepository.save(restaurant).block();
+
+        String eTag = webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/catalog", insertedRestaurant.getId())
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .exists(HttpHeaders.ETAG)
+            .returnResult(byte[].class)
+            .getResponseHeaders()
+            .getETag();
+
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/catalog", insertedRestaurant.getId())
+            .accept(MediaType.APPLICATION_JSON)
+            .ifNoneMatch(eTag)
+            .exchange()
+            .expectStatus()
+            .isNotModified()
+            .expectBody()
+            .isEmpty();
+
+        // Update the restaurant, which must change the ETag
+        RestaurantDTO restaurantDTO = restaurantMapper.toDto(insertedRestaurant);
+        restaurantDTO.setName(UPDATED_NAME);
+        webTestClient
+            .put()
+            .uri(ENTITY_API_URL_ID, insertedRestaurant.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(om.writeValueAsBytes(restaurantDTO))
+            .exchange()
+            .expectStatus()
+            .isOk();
+
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/catalog", insertedRestaurant.getId())
+            .accept(MediaType.APPLICATION_JSON)
+            .ifNoneMatch(eTag)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody()
+            .jsonPath("$.name")
+            .value(is(UPDATED_NAME));
+    }
+
+    @Test
+    void getRestaurantCatalogGzipped() throws Exception {
+        // Initialize the database
+        insertedRestaurant = restaurantRepository.save(restaurant).block();
+
+        byte[] body = webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/catalog", insertedRestaurant.getId())
+            .accept(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            RestaurantCatalogDTO catalog = om.readValue(gzip, RestaurantCatalogDTO.class);
+            assertThat(catalog.getId()).isEqualTo(insertedRestaurant.getId());
+            assertThat(catalog.getName()).isEqualTo(DEFAULT_NAME);
+        }
+    }
+
+    @Test
+    void getRestaurantCatalogNotGzippedWhenRefused() {
+        // Initialize the database
+        insertedRestaurant = restaurantRepository.save(restaurant).block();
+
+        // gzip is refused with a weight of 0, even though "*" accepts any other coding
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/catalog", insertedRestaurant.getId())
+            .accept(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *;q=0.5")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .doesNotExist(HttpHeaders.CONTENT_ENCODING)
+            .expectBody()
+            .jsonPath("$.name")
+            .value(is(DEFAULT_NAME));
+    }
+
+    @Test
+    void getNonExistingRestaurantCatalog() {
+        // Get the catalog
+        webTestClient
+            .get()
+            .uri(ENTITY_API_URL_ID + "/catalog", Long.MAX_VALUE)
+            .accept(MediaType.APPLICATION_PROBLEM_JSON)
+            .exchange()
+            .expectStatus()
+            .isNotFound();
+    }
+
     @Test
     void putExistingRestaurant() throws Exception {
         // Initialize the database
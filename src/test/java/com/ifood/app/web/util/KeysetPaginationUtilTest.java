@@ -0,0 +1,54 @@
+package com.ifood.app.web.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Test class for the {@link KeysetPaginationUtil} utility class.
+ */
+class KeysetPaginationUtilTest {
+
+    @Test
+    void testCursorRoundTrip() {
+        Instant orderDate = Instant.parse("2024-08-03T01:16:14.123456Z");
+        String cursor = KeysetPaginationUtil.encodeCursor(orderDate, 42L);
+
+        assertThat(cursor).doesNotContain(",", "=", "+", "/");
+        assertThat(KeysetPaginationUtil.decodeCursor(cursor, 2)).containsExactly(orderDate.toString(), "42");
+    }
+
+    @Test
+    void testDecodeCursorWithWrongKeyCount() {
+        String cursor = KeysetPaginationUtil.encodeCursor(42L);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetPaginationUtil.decodeCursor(cursor, 2));
+    }
+
+    @Test
+    void testDecodeMalformedCursor() {
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetPaginationUtil.decodeCursor("not a cursor!", 1));
+    }
+
+    @Test
+    void testNextLinkReplacesCursorAndDropsPage() {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("http://localhost/api/dishes?page=3&size=20&after=abc");
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(uriBuilder, "def");
+
+        assertThat(headers.getFirst(HttpHeaders.LINK)).isEqualTo("<http://localhost/api/dishes?size=20&after=def>; rel=\"next\"");
+    }
+
+    @Test
+    void testNoLinkOnLastPage() {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("http://localhost/api/dishes?after=abc");
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(uriBuilder, null);
+
+        assertThat(headers.containsKey(HttpHeaders.LINK)).isFalse();
+    }
+}